@@ -2,11 +2,14 @@ package com.my.bookduck;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = SessionAutoConfiguration.class) // 세션 저장소는 SessionConfig(session.store)에서 선택
 @EnableAsync
+@EnableScheduling
 @EnableJpaAuditing
 public class BookDuckApplication {
 
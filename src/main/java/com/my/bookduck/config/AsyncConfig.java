@@ -1,11 +1,13 @@
 package com.my.bookduck.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -20,4 +22,30 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "epubSyncTaskExecutor")
+    public ThreadPoolTaskExecutor epubSyncTaskExecutor(@Value("${epub.sync.threads:4}") int threads,
+                                                       @Value("${epub.sync.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads); // EPUB 리소스 복사 동시 실행 수
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity); // 대기 큐 크기
+        // 큐가 차면 작업을 넣는 스레드(동기화 시작 스레드)가 직접 복사: 리소스가 많아도 대기 작업이 메모리에 무한히 쌓이지 않음
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("EpubSync-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "epubIngestTaskExecutor")
+    public ThreadPoolTaskExecutor epubIngestTaskExecutor(@Value("${epub.ingest.threads:2}") int threads,
+                                                         @Value("${epub.ingest.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads); // EPUB을 내용 저장소에 풀어내는 동시 실행 수
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity); // 가득 차면 거절: 요청은 zip 직접 읽기로 응답하고 다음 요청 때 다시 예약
+        executor.setThreadNamePrefix("EpubIngest-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,28 @@
+package com.my.bookduck.config;
+
+import com.my.bookduck.service.EBookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 EPUB 리소스 동기화 상태를 /actuator/health 에 노출합니다.
+ * 동기화 중이거나 일부 복사에 실패해도 UP으로 보고합니다. 뷰어 외 요청은 정상 처리되므로 이 노드를 트래픽에서 빼지 않도록 하고,
+ * 실패 여부와 건수는 details(state, failed)로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EpubResourcesHealthIndicator implements HealthIndicator {
+
+    private final EBookService eBookService;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up().withDetails(eBookService.getEpubSyncDetails());
+        if (eBookService.getEpubSyncState() == EBookService.EpubSyncState.FAILED) {
+            builder.withDetail("warning", "EPUB 리소스 동기화 실패: 일부 뷰어 요청이 실패할 수 있습니다.");
+        }
+        return builder.build();
+    }
+}
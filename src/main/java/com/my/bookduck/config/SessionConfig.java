@@ -0,0 +1,65 @@
+package com.my.bookduck.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 세션 저장소 선택. session.store 값에 따라 달라집니다.
+ * <ul>
+ *     <li>memory (기본값): 서블릿 컨테이너(Tomcat) 메모리 세션. 노드마다 따로 유지</li>
+ *     <li>jdbc: Spring Session JDBC. SPRING_SESSION 테이블에 저장되어 여러 노드가 세션을 공유</li>
+ * </ul>
+ * 부트의 SessionAutoConfiguration은 BookDuckApplication에서 제외했으므로 jdbc를 고른 경우에만 Spring Session이 켜집니다.
+ * 세션에는 BDUserDetails(값만 직렬화)와 loginUserInfo만 저장되도록 유지해야 합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "session.store", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class SessionConfig {
+
+    private static final String SCHEMA = "org/springframework/session/jdbc/schema-mysql.sql";
+
+    @Value("${session.timeout-seconds:1800}") // 요청이 없을 때 세션 만료 시간
+    private long timeoutSeconds;
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> sessionTimeoutCustomizer() {
+        return repository -> repository.setDefaultMaxInactiveInterval(Duration.ofSeconds(timeoutSeconds));
+    }
+
+    // SPRING_SESSION 테이블이 없을 때만 spring-session-jdbc에 포함된 MySQL 스키마를 실행
+    @Bean
+    public DataSourceInitializer sessionSchemaInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        DataSourceInitializer initializer = new DataSourceInitializer();
+        initializer.setDataSource(dataSource);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource(SCHEMA)));
+        boolean exists = sessionTableExists(jdbcTemplate);
+        initializer.setEnabled(!exists);
+        log.info("JDBC 세션 저장소 사용 (timeout {}s, 스키마 {})", timeoutSeconds, exists ? "존재" : "생성");
+        return initializer;
+    }
+
+    private boolean sessionTableExists(JdbcTemplate jdbcTemplate) {
+        try {
+            jdbcTemplate.execute("SELECT 1 FROM SPRING_SESSION WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
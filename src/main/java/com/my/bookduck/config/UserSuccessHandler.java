@@ -1,7 +1,6 @@
 package com.my.bookduck.config;
 
 import com.my.bookduck.config.auth.BDUserDetails;
-import com.my.bookduck.domain.user.User;
 import com.my.bookduck.repository.UserRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -35,13 +34,10 @@ public class UserSuccessHandler implements AuthenticationSuccessHandler {
         BDUserDetails userDetails = (BDUserDetails) oAuth2User;
         log.info("UserDetails: {}", userDetails);
         log.info("oAuth2User: {}", oAuth2User);
-        User user = userDetails.getUser();
-        log.info("user: {}", user);
-        log.info("user.getProvider: {}", user.getProvider());
-        log.info("user.getProviderId: {}", user.getProviderId());
-        if(user.getNickName() != null) {
+        log.info("social: {}", userDetails.isSocial());
+        if(userDetails.getNickname() != null) {
 
-            if(rememberId != null && rememberId.equals("on")&& user.getProvider() == null) {
+            if(rememberId != null && rememberId.equals("on")&& !userDetails.isSocial()) {
                 Cookie cookie = new Cookie("saveId", saveId);
                 cookie.setMaxAge(60*60*24*7);
                 cookie.setPath("/");
@@ -31,7 +31,8 @@ public class WebClientConfig {
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
                 .codecs(configurer -> {
                     // 기본 코덱 설정 (Jackson JSON 코덱 포함)
-                    configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024); // 버퍼 크기 증가 (예: 10MB) - 응답 클 경우 대비
+                    // 알라딘 목록/검색 응답은 AladinItemStreamDecoder로 스트리밍 처리하므로 본문 전체를 메모리에 모으는 경우는 작은 응답뿐
+                    configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024); // 2MB
                     // configurer.defaultCodecs().enableLoggingRequestDetails(true); // 요청/응답 로깅 활성화 (디버깅 시 유용)
                 })
                 .build();
@@ -1,30 +1,71 @@
 package com.my.bookduck.config.auth;
 
 import com.my.bookduck.domain.user.User;
-import lombok.Data;
 import lombok.Getter;
 import lombok.ToString;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
-import java.util.ArrayList;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.Serial;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-@Data
-public class BDUserDetails implements UserDetails, OAuth2User {
-    private User user;
-    private Map<String, Object> attributes;
+/**
+ * 인증 주체(세션에 저장됨). User 엔티티 대신 화면/권한 확인에 필요한 값만 불변으로 들고 있습니다.
+ * <ul>
+ *     <li>세션 직렬화는 SerializedForm(Externalizable)으로 값만 기록 (id, loginId, nickname, role, img, social)</li>
+ *     <li>비밀번호는 인증이 끝나면 eraseCredentials()로 지워지고 직렬화하지 않음</li>
+ *     <li>OAuth2 attributes는 로그인 처리 중에만 쓰므로 직렬화하지 않음</li>
+ * </ul>
+ * 엔티티가 필요하면 getId()로 UserService.getUserById를 호출하세요.
+ */
+@Getter
+@ToString(of = {"id", "loginId", "nickname", "role"})
+public final class BDUserDetails implements UserDetails, OAuth2User, CredentialsContainer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String loginId;
+    private final String nickname;
+    private final User.Role role;
+    private final String img;
+    private final boolean social; // 소셜 로그인 사용자 여부 (provider != null)
+    private final transient Map<String, Object> attributes;
+    private transient String password;
 
     public BDUserDetails(User user) {
-        this.user = user;
+        this(user, Map.of());
     }
 
     public BDUserDetails(User user, Map<String, Object> attributes) {
-        this.user = user;
-        this.attributes = attributes;
+        this(user.getId(), user.getLoginId(), user.getNickName(), user.getRole(), user.getImg(),
+                user.getProvider() != null, user.getPassword(), attributes);
+    }
+
+    private BDUserDetails(Long id, String loginId, String nickname, User.Role role, String img, boolean social,
+                          String password, Map<String, Object> attributes) {
+        this.id = id;
+        this.loginId = loginId;
+        this.nickname = nickname;
+        this.role = role;
+        this.img = img;
+        this.social = social;
+        this.password = password;
+        this.attributes = attributes != null ? Collections.unmodifiableMap(new LinkedHashMap<>(attributes)) : Map.of();
     }
 
     @Override
@@ -34,25 +75,17 @@ public class BDUserDetails implements UserDetails, OAuth2User {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Collection<GrantedAuthority> collection = new ArrayList<>();
-        collection.add(new GrantedAuthority() {
-            @Override
-            public String getAuthority() {
-                return user.getRole().name();
-            }
-        });
-
-        return collection;
+        return role != null ? List.of(new SimpleGrantedAuthority(role.name())) : List.of();
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getLoginId();
+        return loginId;
     }
 
     @Override
@@ -60,6 +93,11 @@ public class BDUserDetails implements UserDetails, OAuth2User {
         return attributes;
     }
 
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
     @Override
     public boolean isAccountNonExpired() {
         return true;
@@ -80,20 +118,78 @@ public class BDUserDetails implements UserDetails, OAuth2User {
         return true;
     }
 
-    /**
-     * User 엔티티의 고유 ID(PK)를 반환합니다.
-     * @return 사용자 ID (Long 타입)
-     */
-    public Long getId() {
-        // User 객체가 null이 아닐 경우 User의 ID를 반환
-        return this.user != null ? this.user.getId() : null;
+    @Serial
+    private Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SerializedForm을 통해서만 역직렬화할 수 있습니다.");
     }
 
     /**
-     * User 엔티티의 닉네임을 반환합니다. (편의 메소드 추가)
-     * @return 사용자 닉네임 (String 타입)
+     * 세션 저장 형식. 클래스 기술자 외에는 필드 값만 기록합니다.
+     * 필드를 추가/변경하면 VERSION을 올리고 readExternal에서 이전 버전도 읽을 수 있게 유지하세요.
      */
-    public String getNickname() {
-        return this.user != null ? this.user.getNickName() : null;
+    static final class SerializedForm implements Externalizable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private static final byte VERSION = 1;
+        private static final User.Role[] ROLES = User.Role.values();
+
+        private BDUserDetails principal;
+
+        public SerializedForm() {
+            // Externalizable 역직렬화용
+        }
+
+        SerializedForm(BDUserDetails principal) {
+            this.principal = principal;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeByte(VERSION);
+            out.writeLong(principal.id != null ? principal.id : -1L);
+            writeNullable(out, principal.loginId);
+            writeNullable(out, principal.nickname);
+            out.writeByte(principal.role != null ? principal.role.ordinal() : -1);
+            writeNullable(out, principal.img);
+            out.writeBoolean(principal.social);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new InvalidObjectException("지원하지 않는 BDUserDetails 직렬화 버전: " + version);
+            }
+            long id = in.readLong();
+            String loginId = readNullable(in);
+            String nickname = readNullable(in);
+            byte role = in.readByte();
+            String img = readNullable(in);
+            boolean social = in.readBoolean();
+            this.principal = new BDUserDetails(id >= 0 ? id : null, loginId, nickname,
+                    role >= 0 && role < ROLES.length ? ROLES[role] : null, img, social, null, Map.of());
+        }
+
+        @Serial
+        private Object readResolve() {
+            return principal;
+        }
+
+        private static void writeNullable(ObjectOutput out, String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        }
+
+        private static String readNullable(ObjectInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
     }
 }
@@ -4,17 +4,11 @@ import com.my.bookduck.domain.user.User;
 import com.my.bookduck.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,15 +18,11 @@ public class BDUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String loginId) throws UsernameNotFoundException {
         log.info("loadUserByUsername: {}", loginId + "객체 생성");
-        User user = userRepository.findByLoginId(loginId);
+        User user = userRepository.findByLoginId(loginId); // user 행만 조회 (컬렉션은 지연 로딩)
 
-        if(user != null) {
-            return new BDUserDetails(user);
+        if(user == null) {
+            throw new UsernameNotFoundException("존재하지 않는 아이디입니다: " + loginId);
         }
-
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority(user.getRole().toString()));
-
-        return null;
+        return new BDUserDetails(user);
     }
 }
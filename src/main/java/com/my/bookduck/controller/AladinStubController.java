@@ -0,0 +1,136 @@
+package com.my.bookduck.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 알라딘 TTB API(ItemList.aspx / ItemSearch.aspx) 대역 서버입니다. aladin-stub 프로필에서만 등록됩니다.
+ * 실제 API를 호출하지 않고 동기화/검색 처리량을 측정할 때 사용합니다.
+ * <pre>
+ * aladin.api.url=http://localhost:8080/stub/aladin/ItemSearch.aspx
+ * aladin.api.itemlist=http://localhost:8080/stub/aladin/ItemList.aspx
+ * </pre>
+ * recordings-dir에 녹화해 둔 응답({API}-{CategoryId}-{start}.json 또는 {API}-{start}.json)이 있으면 그대로 돌려주고,
+ * 없으면 total-results 건의 결정적인(매번 같은) 가상 도서 목록을 페이지 단위로 만들어 돌려줍니다.
+ * 응답마다 latency-ms(+ 0~latency-jitter-ms) 지연을 두고, error-rate 확률로 503을 반환합니다.
+ */
+@RestController
+@RequestMapping("/stub/aladin")
+@Profile("aladin-stub")
+@RequiredArgsConstructor
+@Slf4j
+public class AladinStubController {
+
+    private static final long ISBN_BASE = 9790000000000L;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${aladin.stub.latency-ms:100}")
+    private long latencyMillis;
+
+    @Value("${aladin.stub.latency-jitter-ms:50}")
+    private long latencyJitterMillis;
+
+    @Value("${aladin.stub.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${aladin.stub.total-results:200}")
+    private int totalResults;
+
+    @Value("${aladin.stub.recordings-dir:}")
+    private String recordingsDir;
+
+    @GetMapping(value = "/{api:ItemList|ItemSearch}.aspx", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<String>> page(
+            @PathVariable String api,
+            @RequestParam(value = "start", defaultValue = "1") int start,
+            @RequestParam(value = "MaxResults", defaultValue = "10") int maxResults,
+            @RequestParam(value = "CategoryId", defaultValue = "0") int categoryId,
+            @RequestParam(value = "SearchTarget", defaultValue = "Book") String searchTarget,
+            @RequestParam(value = "Query", required = false) String query) {
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        // Mono.delay: 지연 동안 서블릿 스레드를 점유하지 않음
+        return Mono.delay(Duration.ofMillis(delay))
+                .map(ignored -> {
+                    if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("{\"errorMessage\":\"stub failure\"}");
+                    }
+                    String recorded = readRecording(api, categoryId, start);
+                    return ResponseEntity.ok(recorded != null ? recorded : syntheticPage(start, maxResults, categoryId, searchTarget, query));
+                });
+    }
+
+    private String readRecording(String api, int categoryId, int start) {
+        if (recordingsDir == null || recordingsDir.isBlank()) {
+            return null;
+        }
+        for (String name : List.of(api + "-" + categoryId + "-" + start + ".json", api + "-" + start + ".json")) {
+            Path path = Path.of(recordingsDir, name);
+            if (Files.isReadable(path)) {
+                try {
+                    return Files.readString(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    // 카테고리/순번으로 ISBN 등을 정해 매번 같은 내용이 나오도록 함 (재동기화 시 변경 없음 경로 측정용)
+    private String syntheticPage(int start, int maxResults, int categoryId, String searchTarget, String query) {
+        int from = (Math.max(start, 1) - 1) * maxResults;
+        int to = Math.min(from + maxResults, totalResults);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("title", (query != null ? query + " " : "") + "Stub Book " + categoryId + "-" + index);
+            item.put("author", "Stub Author " + (index % 97));
+            item.put("publisher", "Stub Publisher " + (index % 13));
+            item.put("pubDate", "2024-01-" + String.format("%02d", index % 28 + 1));
+            item.put("cover", "https://image.aladin.co.kr/product/stub/" + index + ".jpg");
+            item.put("isbn13", ISBN_BASE + (long) categoryId * 100_000 + index);
+            item.put("priceStandard", 10_000 + (index % 50) * 100);
+            item.put("categoryId", categoryId);
+            item.put("mallType", "eBook".equalsIgnoreCase(searchTarget) ? "EBOOK" : "BOOK");
+            items.add(item);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("version", "20131101");
+        response.put("title", "Aladin stub");
+        response.put("totalResults", totalResults);
+        response.put("startIndex", start);
+        response.put("itemsPerPage", maxResults);
+        response.put("query", query);
+        response.put("item", items);
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,20 +2,26 @@ package com.my.bookduck.controller;
 
 import com.my.bookduck.config.auth.BDUserDetails;
 import com.my.bookduck.controller.request.UpdateUserBookMarkRequest;
-import com.my.bookduck.controller.response.BookLIstViewResponse;
+import com.my.bookduck.controller.response.BookListSliceResponse;
+import com.my.bookduck.controller.response.BookSummaryDto;
+import com.my.bookduck.controller.response.CategorySimpleDto;
+import com.my.bookduck.controller.response.EpubManifestResponse;
 import com.my.bookduck.domain.book.Book;
-import com.my.bookduck.domain.book.Category;
 import com.my.bookduck.domain.user.User;
 import com.my.bookduck.repository.UserRepository;
 import com.my.bookduck.service.BookService;
 import com.my.bookduck.service.CategoryService;
 import com.my.bookduck.service.EBookService;
+import com.my.bookduck.service.EpubArchivePool;
+import com.my.bookduck.service.EpubContentStore;
+import com.my.bookduck.service.EpubEntryResource;
 import com.my.bookduck.service.UserBookService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.CacheControl;
@@ -27,6 +33,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -39,7 +46,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/book")
@@ -52,12 +58,18 @@ public class BookController {
     private final CategoryService categoryService;
     private final UserRepository userRepository;
     private final UserBookService userBookService;
+    private final EpubArchivePool epubArchivePool;
+    private final EpubContentStore epubContentStore;
+
+    @Value("${epub.content.cache-max-age-seconds:86400}") // EPUB 내부 파일 캐시 유지 시간 (ETag로 재검증)
+    private long epubContentMaxAgeSeconds;
 
     @GetMapping("/books")
     public String listOrSearchBooks(
             @RequestParam(value = "query", required = false, defaultValue = "") String query,
             @RequestParam(value = "mainCategoryIdParam", required = false) Long mainCategoryIdParam,
             @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "size", required = false, defaultValue = "30") int size,
             Model model) {
 
         log.info("====== Full Page Load Request ======");
@@ -68,9 +80,9 @@ public class BookController {
 
         if (categoryId != null) {
             finalSubCategoryId = categoryId;
-            Optional<Category> subCatOpt = categoryService.findById(categoryId);
-            if (subCatOpt.isPresent() && subCatOpt.get().getParent() != null) {
-                finalMainCategoryId = subCatOpt.get().getParent().getId();
+            Optional<CategorySimpleDto> subCatOpt = categoryService.findById(categoryId);
+            if (subCatOpt.isPresent() && subCatOpt.get().getParentId() != null) {
+                finalMainCategoryId = subCatOpt.get().getParentId();
             } else {
                 finalMainCategoryId = mainCategoryIdParam;
                 log.warn("SubCategory {} found, but parent category could not be determined or mainCategoryIdParam ({}) provided.", categoryId, mainCategoryIdParam);
@@ -84,12 +96,12 @@ public class BookController {
             log.debug("No category filter applied.");
         }
 
-        List<Book> booksResult = bookService.searchBooks(query, finalMainCategoryId, finalSubCategoryId);
+        BookListSliceResponse booksResult = bookService.searchBookSlice(query, finalMainCategoryId, finalSubCategoryId, null, size);
 
         String pageTitle;
         String message = null;
         String trimmedQuery = query.trim();
-        Category titleCategory = null;
+        CategorySimpleDto titleCategory = null;
 
         if (finalSubCategoryId != null) {
             titleCategory = categoryService.findById(finalSubCategoryId).orElse(null);
@@ -107,27 +119,29 @@ public class BookController {
             }
             titleBuilder.append("검색 결과");
             pageTitle = titleBuilder.toString();
-            if (booksResult.isEmpty()) {
+            if (booksResult.getBooks().isEmpty()) {
                 message = "조건에 맞는 검색 결과가 없습니다.";
             }
         } else {
             pageTitle = "전체 도서 목록";
-            if (booksResult.isEmpty()) {
+            if (booksResult.getBooks().isEmpty()) {
                 message = "등록된 도서가 없습니다.";
             }
         }
 
-        List<BookLIstViewResponse> responseList = booksResult.stream()
-                .map(BookLIstViewResponse::new)
-                .collect(Collectors.toList());
-
-        List<Category> mainCategories = categoryService.getMainCategories();
-        List<Category> subCategories = List.of();
+        List<CategorySimpleDto> mainCategories = categoryService.getMainCategories();
+        List<CategorySimpleDto> subCategories = List.of();
         if (finalMainCategoryId != null) {
             subCategories = categoryService.getSubCategories(finalMainCategoryId);
         }
 
-        model.addAttribute("list", responseList);
+        model.addAttribute("list", booksResult.getBooks());
+        model.addAttribute("hasNext", booksResult.isHasNext());
+        model.addAttribute("nextCursor", booksResult.getNextCursor());
+        model.addAttribute("truncated", booksResult.isTruncated());
+        model.addAttribute("filterMainCategoryId", finalMainCategoryId);
+        model.addAttribute("filterCategoryId", finalSubCategoryId);
+        model.addAttribute("pageSize", size);
         model.addAttribute("searchQuery", query);
         if (message != null) {
             model.addAttribute("message", message);
@@ -152,15 +166,39 @@ public class BookController {
         } else {
             model.addAttribute("bookTitle", "Ebook Reader");
         }
+        // OPF 경로를 미리 알려주면 epub.js가 container.xml 요청 없이 바로 OPF를 열 수 있음
+        EpubManifestResponse epubManifest = eBookService.getEpubManifest(id);
+        model.addAttribute("opfPath", epubManifest != null ? epubManifest.getOpfPath() : null);
         return "book/viewer";
     }
 
+    /**
+     * EPUB 구조 정보(매니페스트, spine 순서, 목차)를 한 번에 JSON으로 반환합니다.
+     * container.xml → OPF → NCX 를 순서대로 요청하지 않아도 책 구조를 알 수 있습니다.
+     */
+    @CrossOrigin
+    @GetMapping("/api/epub-manifest/{id}")
+    @ResponseBody
+    public ResponseEntity<EpubManifestResponse> getEpubManifest(@PathVariable Long id) {
+        EpubManifestResponse epubManifest = eBookService.getEpubManifest(id);
+        if (epubManifest == null) {
+            log.warn("EPUB manifest not available for id: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(epubContentMaxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .body(epubManifest);
+    }
+
     @CrossOrigin
     @GetMapping("/api/books/epub/{id}")
     @ResponseBody
     public ResponseEntity<Resource> serveEpubFile(@PathVariable Long id) {
         Path filePath = eBookService.getBookPath(id);
         if (filePath == null || !Files.exists(filePath)) {
+            if (eBookService.isEpubSyncInProgress()) {
+                return epubSyncInProgressResponse(id);
+            }
             log.warn("Epub file path not found or does not exist for id: {}", id);
             return ResponseEntity.notFound().build();
         }
@@ -192,6 +230,9 @@ public class BookController {
         // log.info("EPUB file path for ID {}: {}", id, epubFilePath); // 초기 경로 로깅은 유지하거나 필요시 주석 처리
 
         if (epubFilePath == null || !Files.exists(epubFilePath)) {
+            if (eBookService.isEpubSyncInProgress()) {
+                return epubSyncInProgressResponse(id);
+            }
             log.warn("EPUB file not found for ID: {}. Searched at: {}", id, epubFilePath);
             return ResponseEntity.notFound().build();
         }
@@ -237,51 +278,27 @@ public class BookController {
 
         log.debug("Attempting to serve internal path '{}' from EPUB ID {}", internalPath, id);
 
-        try (FileSystem zipFs = FileSystems.newFileSystem(epubFilePath, (ClassLoader) null)) {
-            Path pathInZip = zipFs.getPath(internalPath);
+        // 내용 저장소에 풀어둔 파일이 있으면 정적 파일처럼 바로 응답
+        EpubContentStore.Manifest manifest = eBookService.getContentManifest(id, epubFilePath);
+        if (manifest != null) {
+            return serveStoredEntry(id, internalPath, manifest, request);
+        }
+
+        // 요청마다 zip을 새로 열지 않고 풀에 캐시된 핸들을 빌려 사용
+        try (EpubArchivePool.Lease lease = epubArchivePool.acquire(id, epubFilePath)) {
+            Path pathInZip = lease.getPath(internalPath);
 
             if (Files.exists(pathInZip) && Files.isReadable(pathInZip)) {
-                byte[] fileContent = Files.readAllBytes(pathInZip);
-
-                String lowerInternalPath = internalPath.toLowerCase();
-                // 텍스트 기반 파일에 대한 상세 로깅 (내용 미리보기 길이 조절)
-                if (lowerInternalPath.endsWith(".xml") || lowerInternalPath.endsWith(".opf") ||
-                        lowerInternalPath.endsWith(".xhtml") || lowerInternalPath.endsWith(".ncx") ||
-                        lowerInternalPath.endsWith(".css") || lowerInternalPath.endsWith(".js")) { // CSS, JS도 추가
-                    try {
-                        int logContentLength = Math.min(fileContent.length, 2048); // OPF, XHTML 등은 내용이 길 수 있으므로 로그 길이를 2KB까지 허용
-                        // UTF-8이 아닐 수도 있는 경우를 대비하여, 실제 인코딩을 알 수 없다면 기본 인코딩을 사용하거나,
-                        // 혹은 문제가 될 경우 로깅을 생략하는 것이 나을 수 있음. 여기서는 UTF-8 가정.
-                        String contentForLogging = new String(fileContent, 0, logContentLength, StandardCharsets.UTF_8);
-                        if (fileContent.length > logContentLength) {
-                            contentForLogging += "\n[...content truncated in log...]";
-                        }
-
-                        if (lowerInternalPath.endsWith(".opf")) {
-                            log.info("***** Serving OPF File Content for '{}' (Book ID {}). Length: {}. Content:\n{}",
-                                    internalPath, id, fileContent.length, contentForLogging);
-                        } else {
-//                            log.info("Serving text content of '{}' (Book ID {}). Length: {}. Logged content preview:\n{}",
-//                                    internalPath, id, fileContent.length, contentForLogging);
-                        }
-                    } catch (Exception e) { // 문자열 변환 중 예외 발생 가능성 고려
-                        log.warn("Could not convert content of '{}' (Book ID {}) to string for logging. Serving as binary. Length: {}",
-                                internalPath, id, fileContent.length, e);
-                    }
-                } else { // 이미지, 폰트 등 바이너리 파일
-                    log.info("Serving binary content of '{}' (Book ID {}). Content length: {}.",
-                            internalPath, id, fileContent.length);
-                }
-
-                Resource resource = new ByteArrayResource(fileContent);
-                String mimeType = determineMimeType(internalPath);
-                CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
-
-                HttpHeaders responseHeaders = new HttpHeaders();
-                responseHeaders.setContentLength(fileContent.length);
+                // 내용을 메모리에 올리지 않고 크기만 확인한 뒤 스트리밍 Resource로 응답
+                long contentLength = Files.size(pathInZip);
+                log.debug("Streaming '{}' (Book ID {}). Content length: {}.", internalPath, id, contentLength);
+
+                Resource resource = new EpubEntryResource(epubArchivePool, id, epubFilePath, internalPath, contentLength);
+                String mimeType = EpubContentStore.determineMimeType(internalPath);
+                CacheControl cacheControl = CacheControl.maxAge(epubContentMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
 
+                // Content-Length, Accept-Ranges 및 Range 요청(206)은 Resource 길이를 기반으로 Spring이 처리
                 return ResponseEntity.ok()
-                        .headers(responseHeaders)
                         .contentType(MediaType.parseMediaType(mimeType))
                         .cacheControl(cacheControl)
                         .body(resource);
@@ -306,38 +323,51 @@ public class BookController {
         }
     }
 
-    private String determineMimeType(String path) {
-        String lowerPath = path.toLowerCase();
-        if (lowerPath.endsWith(".xml") || lowerPath.endsWith(".opf") || lowerPath.endsWith(".ncx")) {
-            return "application/xml";
-        } else if (lowerPath.endsWith(".xhtml") || lowerPath.endsWith(".html")) {
-            return "application/xhtml+xml";
-        } else if (lowerPath.endsWith(".css")) {
-            return "text/css";
-        } else if (lowerPath.endsWith(".js")) {
-            return "application/javascript";
-        } else if (lowerPath.endsWith(".jpg") || lowerPath.endsWith(".jpeg")) {
-            return "image/jpeg";
-        } else if (lowerPath.endsWith(".png")) {
-            return "image/png";
-        } else if (lowerPath.endsWith(".gif")) {
-            return "image/gif";
-        } else if (lowerPath.endsWith(".svg") || lowerPath.endsWith(".svgz")) {
-            return "image/svg+xml";
-        } else if (lowerPath.endsWith(".otf")) {
-            return "font/otf";
-        } else if (lowerPath.endsWith(".ttf")) {
-            return "font/ttf";
-        } else if (lowerPath.endsWith(".woff")) {
-            return "font/woff";
-        } else if (lowerPath.endsWith(".woff2")) {
-            return "font/woff2";
-        }
-        // EPUB에서 사용될 수 있는 추가적인 오디오/비디오 타입 (필요하다면)
-        // else if (lowerPath.endsWith(".mp3")) { return "audio/mpeg"; }
-        // else if (lowerPath.endsWith(".mp4")) { return "video/mp4"; }
-        log.warn("Unknown MIME type for path: '{}'. Defaulting to octet-stream.", path);
-        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    // 기동 직후 EPUB 리소스 복사가 끝나지 않아 아직 파일이 없는 경우: 잠시 후 다시 요청하도록 503 응답
+    private ResponseEntity<Resource> epubSyncInProgressResponse(Long id) {
+        log.info("EPUB resources are still being synced. Responding 503 for book id: {}", id);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+
+    /**
+     * 내용 저장소에 풀어둔 EPUB 내부 파일을 응답합니다.
+     * 내용 해시를 강한 ETag로 사용하므로 If-None-Match가 일치하면 Spring이 304 Not Modified로 응답합니다.
+     * 클라이언트가 gzip을 받을 수 있고 Range 요청이 아니면 미리 압축해둔 변형을 보냅니다.
+     */
+    private ResponseEntity<Resource> serveStoredEntry(Long id, String internalPath, EpubContentStore.Manifest manifest, HttpServletRequest request) {
+        EpubContentStore.Entry entry = manifest.find(internalPath);
+        if (entry == null) {
+            log.warn("Internal path '{}' not found in manifest of EPUB ID {} (EPUB hash: {}).", internalPath, id, manifest.epubHash());
+            return ResponseEntity.notFound().build();
+        }
+
+        Path storeRoot = eBookService.getContentStoreRoot();
+        CacheControl cacheControl = CacheControl.maxAge(epubContentMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean useGzip = entry.hasGzipVariant()
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        if (useGzip) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(entry.mimeType()))
+                    .cacheControl(cacheControl)
+                    .eTag(entry.hash() + "-gz")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(new FileSystemResource(epubContentStore.gzipObjectPath(storeRoot, entry)));
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(entry.mimeType()))
+                .cacheControl(cacheControl)
+                .eTag(entry.hash());
+        if (entry.hasGzipVariant()) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return builder.body(new FileSystemResource(epubContentStore.objectPath(storeRoot, entry)));
     }
 
 
@@ -346,19 +376,21 @@ public class BookController {
             @RequestParam(value = "query", required = false, defaultValue = "") String query,
             @RequestParam(value = "mainCategoryIdParam", required = false) Long mainCategoryIdParam,
             @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "30") int size,
             Model model) {
 
         log.info("====== AJAX Filter Request ======");
-        log.info("GET /books/filter - Query: '{}', MainCategoryIDParam: {}, CategoryID: {}", query, mainCategoryIdParam, categoryId);
+        log.info("GET /books/filter - Query: '{}', MainCategoryIDParam: {}, CategoryID: {}, Cursor: {}", query, mainCategoryIdParam, categoryId, cursor);
 
         Long finalMainCategoryId = null;
         Long finalSubCategoryId = null;
 
         if (categoryId != null) {
             finalSubCategoryId = categoryId;
-            Optional<Category> subCatOpt = categoryService.findById(categoryId);
-            if (subCatOpt.isPresent() && subCatOpt.get().getParent() != null) {
-                finalMainCategoryId = subCatOpt.get().getParent().getId();
+            Optional<CategorySimpleDto> subCatOpt = categoryService.findById(categoryId);
+            if (subCatOpt.isPresent() && subCatOpt.get().getParentId() != null) {
+                finalMainCategoryId = subCatOpt.get().getParentId();
             } else {
                 finalMainCategoryId = mainCategoryIdParam;
             }
@@ -371,20 +403,29 @@ public class BookController {
             log.debug("AJAX: No category filter applied.");
         }
 
-        List<Book> booksResult = bookService.searchBooks(query, finalMainCategoryId, finalSubCategoryId);
-
-        List<BookLIstViewResponse> responseList = booksResult.stream()
-                .map(BookLIstViewResponse::new)
-                .collect(Collectors.toList());
+        BookListSliceResponse booksResult;
+        try {
+            booksResult = bookService.searchBookSlice(query, finalMainCategoryId, finalSubCategoryId, cursor, size);
+        } catch (IllegalArgumentException e) {
+            log.warn("AJAX: Invalid cursor '{}' for query '{}': {}", cursor, query, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
 
-        model.addAttribute("list", responseList);
-        log.info("Returning HTML fragment for #bookTableBody with {} books.", responseList.size());
-        return "book/booklist :: #bookTableBody";
+        model.addAttribute("list", booksResult.getBooks());
+        model.addAttribute("hasNext", booksResult.isHasNext());
+        model.addAttribute("nextCursor", booksResult.getNextCursor());
+        model.addAttribute("truncated", booksResult.isTruncated());
+        model.addAttribute("searchQuery", query);
+        model.addAttribute("filterMainCategoryId", mainCategoryIdParam);
+        model.addAttribute("filterCategoryId", categoryId);
+        model.addAttribute("isContinuation", cursor != null); // 이어 붙이는 구간이면 '없음' 안내 행을 그리지 않음
+        log.info("Returning HTML fragment bookRows with {} books (hasNext: {}).", booksResult.getBooks().size(), booksResult.isHasNext());
+        return "book/booklist :: bookRows";
     }
 
     @GetMapping("/api/categories/{parentId}/subcategories")
     @ResponseBody
-    public List<Category> getSubCategoriesApi(@PathVariable Long parentId) {
+    public List<CategorySimpleDto> getSubCategoriesApi(@PathVariable Long parentId) {
         log.debug("API request for subcategories of parentId: {}", parentId);
         return categoryService.getSubCategories(parentId);
     }
@@ -415,7 +456,7 @@ public class BookController {
         }
 
         Long userId = user.getId(); // User 엔티티에서 실제 ID 가져오기
-        List<Book> books = bookService.searchBooksByTitleAndUser(title, userId, limit); // 서비스 호출
+        List<BookSummaryDto> books = bookService.searchBookSummariesByTitleAndUser(title, userId, limit); // 서비스 호출 (요약 DTO, limit 적용)
 
         // ★★★ BookDTO 생성 시 cover 정보 포함 ★★★
         List<BookDTO> bookDTOs = books.stream()
@@ -438,12 +479,12 @@ public class BookController {
             return "redirect:/login-form"; // 로그인 페이지 경로로 수정
         }
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         log.info("Fetching all books for userId: {}", userId);
 
         try {
             // 2. 사용자의 책 목록 조회 (UserBookService 사용)
-            List<Book> myBooks = userBookService.findMyBooks(userId);
+            List<BookSummaryDto> myBooks = userBookService.findMyBookSummaries(userId);
 
             // 3. 조회된 책 목록을 Model에 추가
             model.addAttribute("myBooks", myBooks); // 뷰에서 사용할 이름 "myBooks"
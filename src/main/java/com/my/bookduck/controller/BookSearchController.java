@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
 import java.util.List;
 
 @RestController
@@ -20,8 +22,11 @@ public class BookSearchController {
         this.aladinService = aladinService;
     }
 
+    /**
+     * 알라딘 실시간 검색/목록. Mono를 반환하므로 알라딘 응답을 기다리는 동안 서블릿 스레드를 점유하지 않습니다.
+     */
     @GetMapping("/books")
-    public PaginatedAladinResponse searchOrListBooks(
+    public Mono<PaginatedAladinResponse> searchOrListBooks(
             @RequestParam(required = false, defaultValue = "") String query, // 검색어는 선택 사항
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -3,7 +3,6 @@ package com.my.bookduck.controller;
 import com.my.bookduck.config.auth.BDUserDetails;
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.user.Cart;
-import com.my.bookduck.domain.user.User;
 import com.my.bookduck.service.BookService;
 import com.my.bookduck.service.CartService;
 import com.my.bookduck.service.UserService;
@@ -37,7 +36,7 @@ public class CartController {
             log.warn("인증되지 않은 사용자의 장바구니 추가 시도.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
         }
-        Long sessionUserId = userDetails.getUser().getId();
+        Long sessionUserId = userDetails.getId();
         if (userId == null || !sessionUserId.equals(userId)) {
             log.warn("요청된 userId({})와 세션 userId({}) 불일치.", userId, sessionUserId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "잘못된 사용자 접근입니다."));
@@ -46,7 +45,6 @@ public class CartController {
             log.warn("bookId가 null입니다.");
             return ResponseEntity.badRequest().body(Map.of("message", "도서 ID가 필요합니다."));
         }
-        User user = userDetails.getUser();
         Book book = bookService.getBookById(bookId);
         if (book == null) {
             log.warn("Book not found for ID: {}", bookId);
@@ -56,7 +54,6 @@ public class CartController {
             log.info("1111111111111111111111111");
             log.info("userId: {}", userId);
             log.info("bookId: {}", bookId);
-            log.info("user: {}", user);
             log.info("book: {}", book);
             cartService.createCart(userId, bookId); // User 객체 대신 userId 전달
             log.info("장바구니 추가 성공 - userId: {}, bookId: {}", userId, bookId);
@@ -73,8 +70,8 @@ public class CartController {
             log.warn("인증되지 않은 사용자가 장바구니 목록 접근 시도. 로그인 페이지로 리다이렉트.");
             return "redirect:/login-form";
         }
-        Long userId = userDetails.getUser().getId();
-        String userNickName = userDetails.getUser().getNickName();
+        Long userId = userDetails.getId();
+        String userNickName = userDetails.getNickname();
         log.info("장바구니 목록 페이지 요청 - userId: {}", userId);
         model.addAttribute("currentUserId", String.valueOf(userId));
         model.addAttribute("currentUserNickName", userNickName);
@@ -113,7 +110,7 @@ public class CartController {
             log.warn("인증되지 않은 사용자의 장바구니 삭제 시도.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
         }
-        Long sessionUserId = userDetails.getUser().getId();
+        Long sessionUserId = userDetails.getId();
         if (!sessionUserId.equals(userId)) {
             log.warn("권한 없는 장바구니 삭제 시도. SessionUserId={}, RequestedUserId={}", sessionUserId, userId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("message", "자신의 장바구니 상품만 삭제할 수 있습니다."));
@@ -1,13 +1,13 @@
 package com.my.bookduck.controller;
 
-import com.my.bookduck.controller.response.ExcelDataDto;
 import com.my.bookduck.service.ExcelService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class ExcelController {
@@ -15,11 +15,13 @@ public class ExcelController {
     private final ExcelService excelService;
 
     @GetMapping("/excel")
-    public void getExcel() {
+    public ResponseEntity<ExcelService.ImportResult> getExcel() {
+        String filePath = "C:\\KMK\\aladin_Category_CID_20200626.xls";
         try {
-            excelService.importCategoriesFromLocalFile("C:\\KMK\\aladin_Category_CID_20200626.xls");
-        }catch (Exception e) {
-            e.printStackTrace();
+            return ResponseEntity.ok(excelService.importCategoriesFromLocalFile(filePath));
+        } catch (Exception e) {
+            log.error("Category excel import failed: {}", filePath, e);
+            return ResponseEntity.internalServerError().build();
         }
     }
 }
@@ -1,8 +1,8 @@
 package com.my.bookduck.controller;
 
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.controller.response.GroupListViewDto;
 import com.my.bookduck.controller.response.loginUserInfo; // 세션 사용자 정보 DTO
-import com.my.bookduck.domain.book.Book; // getGroupBooks 에서 사용
 import com.my.bookduck.domain.group.Group;
 // import com.my.bookduck.domain.group.GroupBook; // 직접 사용 안 함
 import com.my.bookduck.domain.group.GroupUser;
@@ -400,19 +400,14 @@ public class GroupController {
         // (선택적) 권한 확인 로직 추가 가능
 
         try {
-            Group group = groupService.findGroupByIdWithBooks(groupId); // 책 정보 포함 조회
-
-            List<Map<String, Object>> bookList = group.getBooks().stream()
-                    .map(groupBook -> {
-                        Book book = groupBook.getBook();
-                        if (book == null) return null;
-                        return Map.<String, Object>of(
-                                "id", book.getId(),
-                                "title", book.getTitle() != null ? book.getTitle() : "제목 없음",
-                                "cover", book.getCover() != null ? book.getCover() : "/images/default-book-cover.png"
-                        );
-                    })
-                    .filter(Objects::nonNull)
+            List<BookSummaryDto> groupBooks = groupService.findGroupBookSummaries(groupId); // 요약 DTO로 바로 조회
+
+            List<Map<String, Object>> bookList = groupBooks.stream()
+                    .map(book -> Map.<String, Object>of(
+                            "id", book.getId(),
+                            "title", book.getTitle() != null ? book.getTitle() : "제목 없음",
+                            "cover", book.getCover() != null ? book.getCover() : "/images/default-book-cover.png"
+                    ))
                     .collect(Collectors.toList());
 
             log.info("Returning {} books for group ID: {}", bookList.size(), groupId);
@@ -1,11 +1,10 @@
 package com.my.bookduck.controller;
 
 import com.my.bookduck.config.auth.BDUserDetails;
-import com.my.bookduck.controller.response.BoardListViewDto;
+import com.my.bookduck.controller.response.BoardListSliceResponse;
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.controller.response.GroupListViewDto;
 import com.my.bookduck.controller.response.loginUserInfo;
-import com.my.bookduck.domain.board.Board;
-import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.user.User;
 import com.my.bookduck.service.BoardService;
 import com.my.bookduck.service.GroupService;
@@ -49,7 +48,9 @@ public class HomeController {
             @RequestParam(name = "query", required = false, defaultValue = "") String query,
             @RequestParam(name = "filterMyBooks", required = false, defaultValue = "false") boolean filterMyBooks,
             @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") String sortDir
+            @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") String sortDir,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "30") int size
     ) {
         log.info("Home page request (via / or /home) - query: '{}', filterMyBooks: {}, sortBy: {}, sortDir: {}", query, filterMyBooks, sortBy, sortDir);
 
@@ -59,7 +60,7 @@ public class HomeController {
         model.addAttribute("isLoggedIn", isLoggedIn); // 모델에 isLoggedIn 추가
 
         if (userDetails != null) {
-            currentUserId = userDetails.getUser().getId();
+            currentUserId = userDetails.getId();
             loginUser = (loginUserInfo) httpSession.getAttribute("loginuser");
 
             if (loginUser == null || !loginUser.getId().equals(currentUserId)) {
@@ -68,8 +69,6 @@ public class HomeController {
                 if (user != null) {
                     loginUser = new loginUserInfo(user);
                     httpSession.setAttribute("loginuser", loginUser);
-                    // 이미지 세션도 여기서 동기화 가능 (선택적)
-                    // httpSession.setAttribute("img", loginUser.getImg());
                     log.info("세션(home): loginuser 정보 저장 완료. Nickname: {}", loginUser.getNickName());
 
                     if (loginUser.getNickName() == null) {
@@ -86,12 +85,9 @@ public class HomeController {
             model.addAttribute("loginuser", null);
         }
 
-        List<Board> boards = boardService.findBoards(currentUserId, filterMyBooks, query, sortBy, sortDir);
-        List<BoardListViewDto> boardDtos = boards.stream()
-                .map(BoardListViewDto::new)
-                .collect(Collectors.toList());
-        model.addAttribute("boards", boardDtos);
-        log.info("boards DTO count: {}", boardDtos.size());
+        BoardListSliceResponse boards = boardService.findBoards(currentUserId, filterMyBooks, query, sortBy, sortDir, cursor, size);
+        addBoardSlice(model, boards);
+        log.info("boards DTO count: {}", boards.getBoards().size());
 
         model.addAttribute("currentQuery", query);
         model.addAttribute("currentFilterMyBooks", filterMyBooks);
@@ -101,13 +97,34 @@ public class HomeController {
         return "home";
     }
 
+    // 홈 "더 보기": 같은 조건의 다음 구간을 HTML 조각으로 반환 (화면에서 기존 목록 뒤에 이어 붙임)
+    @GetMapping("/home/boards")
+    public String homeBoards(
+            Model model,
+            @AuthenticationPrincipal BDUserDetails userDetails,
+            @RequestParam(name = "query", required = false, defaultValue = "") String query,
+            @RequestParam(name = "filterMyBooks", required = false, defaultValue = "false") boolean filterMyBooks,
+            @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") String sortDir,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "30") int size
+    ) {
+        Long currentUserId = (userDetails != null) ? userDetails.getId() : null;
+        BoardListSliceResponse boards = boardService.findBoards(currentUserId, filterMyBooks, query, sortBy, sortDir, cursor, size);
+        addBoardSlice(model, boards);
+        log.debug("Returning HTML fragment boardItems with {} boards (hasNext: {}).", boards.getBoards().size(), boards.isHasNext());
+        return "home :: boardItems";
+    }
+
     // `/logininfo` 경로는 이제 홈 화면으로 안내하는 역할을 합니다. (로그인 성공 후 도착지)
     @GetMapping("/logininfo")
     public String processLoginSuccessAndGoToHome(Model model, @AuthenticationPrincipal BDUserDetails userDetails, HttpSession httpSession,
                                                  @RequestParam(name = "query", required = false, defaultValue = "") String query,
                                                  @RequestParam(name = "filterMyBooks", required = false, defaultValue = "false") boolean filterMyBooks,
                                                  @RequestParam(name = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
-                                                 @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") String sortDir) {
+                                                 @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") String sortDir,
+                                                 @RequestParam(name = "cursor", required = false) Long cursor,
+                                                 @RequestParam(name = "size", required = false, defaultValue = "30") int size) {
 
         log.info("Access to /logininfo, processing for home page.");
 
@@ -121,7 +138,7 @@ public class HomeController {
             return "redirect:/login-form"; // 인증되지 않은 접근 시 로그인 페이지로
         }
 
-        currentUserId = userDetails.getUser().getId();
+        currentUserId = userDetails.getId();
         loginUser = (loginUserInfo) httpSession.getAttribute("loginuser");
 
         // 세션 정보 확인 및 갱신 (DB에서 사용자 정보 다시 가져와 세션에 저장)
@@ -129,8 +146,7 @@ public class HomeController {
         User userFromDb = userService.getUserById(currentUserId);
         if (userFromDb != null) {
             loginUser = new loginUserInfo(userFromDb);
-            httpSession.setAttribute("loginuser", loginUser);
-            httpSession.setAttribute("img", loginUser.getImg()); // 이미지 세션도 설정
+            httpSession.setAttribute("loginuser", loginUser); // 이미지는 loginuser.img 사용 (별도 "img" 속성 없음)
             log.info("세션(/logininfo): loginuser 정보 설정/갱신 완료. Nickname: {}", loginUser.getNickName());
 
             if (loginUser.getNickName() == null) {
@@ -145,10 +161,9 @@ public class HomeController {
         model.addAttribute("loginuser", loginUser); // 모델에 loginUser 추가
 
         // 홈 화면 데이터 로드 (boards 등)
-        List<Board> boards = boardService.findBoards(currentUserId, filterMyBooks, query, sortBy, sortDir);
-        List<BoardListViewDto> boardDtos = boards.stream().map(BoardListViewDto::new).collect(Collectors.toList());
-        model.addAttribute("boards", boardDtos);
-        log.info("/logininfo -> home: boards DTO count: {}", boardDtos.size());
+        BoardListSliceResponse boards = boardService.findBoards(currentUserId, filterMyBooks, query, sortBy, sortDir, cursor, size);
+        addBoardSlice(model, boards);
+        log.info("/logininfo -> home: boards DTO count: {}", boards.getBoards().size());
 
         model.addAttribute("currentQuery", query);
         model.addAttribute("currentFilterMyBooks", filterMyBooks);
@@ -168,30 +183,16 @@ public class HomeController {
             return "redirect:/login-form";
         }
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         loginUserInfo loginUser = (loginUserInfo) session.getAttribute("loginuser");
 
-        // 이미지 세션 값과 loginUser의 이미지 값 비교
-        boolean imageMismatch = false;
-        Object sessionImgAttr = session.getAttribute("img");
-        String sessionImg = (sessionImgAttr instanceof String) ? (String) sessionImgAttr : null;
-
-        if (loginUser != null) {
-            if (loginUser.getImg() == null && sessionImg != null) {
-                imageMismatch = true;
-            } else if (loginUser.getImg() != null && !loginUser.getImg().equals(sessionImg)) {
-                imageMismatch = true;
-            }
-        }
-
-        // 세션 정보가 없거나, 사용자 ID 불일치, 또는 이미지 정보 불일치 시 DB에서 다시 조회
-        if (loginUser == null || !loginUser.getId().equals(userId) || imageMismatch) {
-            log.info("세션(myPage via /userinfo): loginuser 정보 없거나 불일치(ID 또는 이미지). DB 조회. userId: {}", userId);
+        // 세션 정보가 없거나 사용자 ID 불일치 시 DB에서 다시 조회
+        if (loginUser == null || !loginUser.getId().equals(userId)) {
+            log.info("세션(myPage via /userinfo): loginuser 정보 없거나 불일치. DB 조회. userId: {}", userId);
             User user = userService.getUserById(userId);
             if (user != null) {
                 loginUser = new loginUserInfo(user);
                 session.setAttribute("loginuser", loginUser);
-                session.setAttribute("img", loginUser.getImg()); // 세션의 img 속성도 갱신
                 log.info("세션(myPage via /userinfo): loginuser 정보 저장 완료. Nickname: {}", loginUser.getNickName());
             } else {
                 log.warn("세션(myPage via /userinfo): DB에서 userId {} 사용자를 찾을 수 없음. 로그아웃 처리.", userId);
@@ -212,7 +213,7 @@ public class HomeController {
         model.addAttribute("myGroupsPreview", allMyGroups.stream().limit(3).collect(Collectors.toList()));
         model.addAttribute("hasMoreGroups", allMyGroups.size() > 3);
 
-        List<Book> allMyBooks = userBookService.findMyBooks(userId);
+        List<BookSummaryDto> allMyBooks = userBookService.findMyBookSummaries(userId);
         model.addAttribute("myBooksPreview", allMyBooks.stream().limit(3).collect(Collectors.toList()));
         model.addAttribute("hasMoreBooks", allMyBooks.size() > 3);
 
@@ -252,7 +253,7 @@ public class HomeController {
     @GetMapping("/addNickname")
     public String addNickname(@AuthenticationPrincipal BDUserDetails userDetails, Model model){
         if (userDetails != null) {
-            User user = userDetails.getUser();
+            User user = userService.getUserById(userDetails.getId()); // 세션 주체에는 이메일이 없으므로 DB 조회
             model.addAttribute("userEmail", user.getEmail());
             // 뷰에서 필요하다면 loginUserInfo 객체를 만들어 전달할 수도 있습니다.
             // loginUserInfo socialLoginUser = new loginUserInfo(user);
@@ -313,7 +314,7 @@ public class HomeController {
             log.warn("API 요청(my-groups): 사용자가 인증되지 않았습니다.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
         }
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         log.info("API 요청(my-groups): 사용자 {}의 전체 그룹 목록 조회", userId);
         try {
             List<GroupListViewDto> myGroups = groupService.findMyGroupsForView(userId);
@@ -332,10 +333,10 @@ public class HomeController {
             log.warn("API 요청(my-books): 사용자가 인증되지 않았습니다.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "로그인이 필요합니다."));
         }
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         log.info("API 요청(my-books): 사용자 {}의 전체 책 목록 조회", userId);
         try {
-            List<Book> myBooks = userBookService.findMyBooks(userId);
+            List<BookSummaryDto> myBooks = userBookService.findMyBookSummaries(userId);
             List<Map<String, Object>> bookData = myBooks.stream()
                     .map(book -> Map.<String, Object>of(
                             "id", book.getId(),
@@ -351,4 +352,11 @@ public class HomeController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "책 목록 조회 중 오류 발생"));
         }
     }
+
+    // 홈 게시글 목록 한 구간 + 다음 구간 커서
+    private void addBoardSlice(Model model, BoardListSliceResponse boards) {
+        model.addAttribute("boards", boards.getBoards());
+        model.addAttribute("hasNext", boards.isHasNext());
+        model.addAttribute("nextCursor", boards.getNextCursor());
+    }
 }
\ No newline at end of file
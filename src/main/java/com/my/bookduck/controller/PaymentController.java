@@ -7,6 +7,7 @@ import com.my.bookduck.service.BookService;
 import com.my.bookduck.service.CartService;
 import com.my.bookduck.service.PaymentService;
 import com.my.bookduck.service.UserBookService;
+import com.my.bookduck.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -34,6 +35,7 @@ public class PaymentController {
     private final BookService bookService;
     private final CartService cartService; // CartService 주입
     private final UserBookService userBookService;
+    private final UserService userService;
 
     /**
      * (단일 상품) 결제 폼 페이지를 보여주는 메소드. bookId로 책 정보 조회.
@@ -100,7 +102,7 @@ public class PaymentController {
                     .body(Collections.singletonMap("error", "로그인이 필요합니다."));
             // JavaScript에서 오류 처리를 위해 {"error": "메시지"} 형태로 반환
         }
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         log.info("소유 여부 확인 요청 - userId: {}, bookId: {}", userId, bookId);
 
         // 2. bookId 유효성 확인
@@ -146,12 +148,12 @@ public class PaymentController {
         log.info("결제 성공 콜백 수신! orderId: {}, userId: {}, isbn(bookId): [{}], amount: {}", orderId, userId, isbn, amount);
 
         // 0. 인증 및 사용자 ID 일치 확인 (이전 코드 유지)
-        if (userDetails == null || !userDetails.getUser().getId().equals(Long.parseLong(userId))) {
+        if (userDetails == null || !userDetails.getId().equals(Long.parseLong(userId))) {
             model.addAttribute("errorMessage", "사용자 인증 오류 또는 불일치.");
             model.addAttribute("orderId", orderId); return "failForm";
         }
-        User currentUser = userDetails.getUser();
-        Long sessionUserId = currentUser.getId();
+        Long sessionUserId = userDetails.getId();
+        User currentUser = userService.getUserById(sessionUserId); // 세션 주체는 엔티티가 아니므로 결제 처리용으로 조회
 
         // 1. 쉼표로 구분된 ISBN(bookId) 문자열 파싱 (여러 ID 처리)
         List<Long> bookIds = new ArrayList<>();
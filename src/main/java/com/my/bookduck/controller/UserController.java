@@ -49,7 +49,7 @@ public class UserController {
     public String socialAddInfo(final @ModelAttribute SocialJoinUpdateRequest info,Model model, @AuthenticationPrincipal BDUserDetails userDetails) throws InterruptedException {
         log.info("social update info: {}", info);
 
-        long id = userDetails.getUser().getId();
+        long id = userDetails.getId();
         String result;
 
         try{
@@ -99,7 +99,7 @@ public class UserController {
     public String updateUser(final @ModelAttribute UpdateUserRequest user, Model model, @AuthenticationPrincipal BDUserDetails userDetails){
         log.info("update User: {}", user);
 
-        long id = userDetails.getUser().getId();
+        long id = userDetails.getId();
         String result;
 
         try{
@@ -0,0 +1,18 @@
+package com.my.bookduck.controller.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 홈 게시글 목록 한 구간
+ * nextCursor(이번 구간 마지막 게시글 ID)는 다음 요청에 cursor로 그대로 넘기면 됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardListSliceResponse {
+    private final List<BoardListViewDto> boards;
+    private final boolean hasNext;
+    private final Long nextCursor;
+}
@@ -35,4 +35,15 @@ public class BoardListViewDto {
         }
         this.createdAt = board.getCreatedAt();
     }
+
+    // 홈 피드(BoardFeed) 적재용: JPQL 생성자 표현식으로 필요한 컬럼만 조회
+    public BoardListViewDto(Long boardId, String bookTitle, String bookCover, String groupName, Long groupId, Long bookId, LocalDateTime createdAt) {
+        this.boardId = boardId;
+        this.bookTitle = bookTitle;
+        this.bookCover = bookCover;
+        this.groupName = groupName;
+        this.groupId = groupId;
+        this.bookId = bookId;
+        this.createdAt = createdAt;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import java.time.LocalDate;
 @ToString
 @Getter
 public class BookLIstViewResponse {
+    private final Long id;
     private final String title;
     private final String cover;
     private final String writer;
@@ -17,6 +18,7 @@ public class BookLIstViewResponse {
     private final int price;
 
     public BookLIstViewResponse(Book book) {
+        this.id = book.getId();
         this.title = book.getTitle();
         this.cover = book.getCover();
         this.writer = book.getWriter();
@@ -25,4 +27,15 @@ public class BookLIstViewResponse {
         this.price = book.getPrice();
     }
 
+    // JPQL 생성자 표현식(select new ...)용: 엔티티를 거치지 않고 필요한 컬럼만 받음
+    public BookLIstViewResponse(Long id, String title, String cover, String writer, LocalDate publicationDate, String publishing, int price) {
+        this.id = id;
+        this.title = title;
+        this.cover = cover;
+        this.writer = writer;
+        this.publicationDate = publicationDate;
+        this.publishing = publishing;
+        this.price = price;
+    }
+
 }
@@ -0,0 +1,25 @@
+package com.my.bookduck.controller.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도서 목록 한 구간(무한 스크롤 한 번 분량)
+ * nextCursor는 다음 요청에 cursor로 그대로 넘기면 됩니다.
+ * (검색어가 없으면 "k:마지막 도서 ID", 검색어가 있으면 "r:검색 결과 순위상의 다음 위치")
+ * truncated가 true면 검색 결과가 상한(catalog.search.max-results)을 넘어 상위 결과까지만 이어서 볼 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookListSliceResponse {
+    private final List<BookLIstViewResponse> books;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final boolean truncated;
+
+    public BookListSliceResponse(List<BookLIstViewResponse> books, boolean hasNext, String nextCursor) {
+        this(books, hasNext, nextCursor, false);
+    }
+}
@@ -0,0 +1,18 @@
+package com.my.bookduck.controller.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 화면(내 서재, 그룹 도서, 도서 검색 자동완성 등)에서 쓰는 도서 요약 정보
+ * 리포지토리에서 JPQL 생성자 표현식(select new ...)으로 바로 조회하므로 Book 엔티티와 연관 컬렉션을 불러오지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookSummaryDto {
+    private final Long id;
+    private final String title;
+    private final String cover;
+    private final String writer;
+    private final int price;
+}
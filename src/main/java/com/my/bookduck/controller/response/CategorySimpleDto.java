@@ -16,4 +16,10 @@ public class CategorySimpleDto {
         // parent 객체가 null이 아닐 때만 parentId 설정
         this.parentId = (category.getParent() != null) ? category.getParent().getId() : null;
     }
+
+    public CategorySimpleDto(Long id, String name, Long parentId) {
+        this.id = id;
+        this.name = name;
+        this.parentId = parentId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.my.bookduck.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 뷰어가 책을 열 때 한 번에 받아가는 EPUB 구조 정보 (매니페스트, spine 순서, 목차)
+ * href는 모두 EPUB 루트 기준 경로이므로 /book/api/epub-content/{id}/ 뒤에 그대로 붙여 요청할 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpubManifestResponse {
+    private Long bookId;
+    private String title;
+    private String opfPath;
+    private List<ManifestItem> manifest;
+    private List<SpineItem> spine;
+    private List<TocItem> toc;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManifestItem {
+        private String id;
+        private String href;
+        private String mediaType;
+        private long size;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SpineItem {
+        private String idref;
+        private String href;
+        private boolean linear;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TocItem {
+        private String label;
+        private String href;
+        private List<TocItem> children;
+    }
+}
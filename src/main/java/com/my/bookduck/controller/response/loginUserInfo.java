@@ -3,12 +3,19 @@ package com.my.bookduck.controller.response;
 import com.my.bookduck.domain.user.User;
 import lombok.*;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 @Getter
 @Setter
 @AllArgsConstructor
 @Builder
 @ToString
-public class loginUserInfo {
+public class loginUserInfo implements Serializable { // 세션("loginuser")에 저장되므로 직렬화 가능해야 함 (JDBC 세션 저장소)
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long id;
     private final String nickName;
     private final String img;
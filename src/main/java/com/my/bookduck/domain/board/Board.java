@@ -2,6 +2,7 @@ package com.my.bookduck.domain.board;
 
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.group.Group;
+import com.my.bookduck.service.BoardFeedListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,7 +19,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA를 위한 protected 기본 생성자 유지
 @ToString(exclude = {"group", "book", "likes"}) // likes도 추가 (Lazy Loading 고려)
-@EntityListeners(AuditingEntityListener.class) // JPA Auditing 활성화 시 추가 (createdAt 자동 설정)
+@EntityListeners({AuditingEntityListener.class, BoardFeedListener.class}) // createdAt 자동 설정, 홈 피드 반영
 public class Board {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) // ID 자동 생성
@@ -2,6 +2,8 @@ package com.my.bookduck.domain.book;
 
 import com.my.bookduck.domain.board.Board;
 import com.my.bookduck.domain.group.Group;
+import com.my.bookduck.service.BoardFeedBookListener;
+import com.my.bookduck.service.BookSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +13,7 @@ import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Entity
+@EntityListeners({BookSearchIndexListener.class, BoardFeedBookListener.class})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,6 +33,10 @@ public class Book {
     private String identifier;
     private String epubPath;
 
+    // 알라딘 동기화 변경 감지용 해시 (제목/표지/저자/출판사/가격/출간일, BookUpsertWriter가 기록)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
 
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BookCategory> categories;
@@ -101,4 +108,10 @@ public class Book {
             return null; // 최종 파싱 실패 시 null 반환
         }
     }
+
+    // JPA로 수정된 행은 해시가 내용과 맞지 않으므로 비움 (다음 동기화에서 다시 비교 후 기록)
+    @PreUpdate
+    void clearContentHash() {
+        this.contentHash = null;
+    }
 }
@@ -0,0 +1,44 @@
+package com.my.bookduck.domain.book;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "manifestJson")
+public class BookEpubManifest {
+    // 책 EPUB 구조 정보 (Book.epubPath의 파일을 한 번 파싱한 결과)
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    // 파싱 당시의 EPUB 파일 정보 (바뀌면 다시 파싱)
+    private String epubPath;
+    private long epubSize;
+    private long epubLastModified;
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String manifestJson;
+
+    private LocalDateTime createdAt;
+
+    public BookEpubManifest(Long bookId, String epubPath, long epubSize, long epubLastModified, String manifestJson) {
+        this.bookId = bookId;
+        this.epubPath = epubPath;
+        this.epubSize = epubSize;
+        this.epubLastModified = epubLastModified;
+        this.manifestJson = manifestJson;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean matches(String path, long size, long lastModified) {
+        return path.equals(this.epubPath) && size == this.epubSize && lastModified == this.epubLastModified;
+    }
+}
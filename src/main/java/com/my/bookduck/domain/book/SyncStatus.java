@@ -21,6 +21,23 @@ public class SyncStatus {
     @Column(name = "last_updated")
     private LocalDateTime lastUpdated;
 
+    // ---- 카테고리 자동 동기화(CatalogSyncService) 체크포인트 ----
+
+    @Column(name = "last_seen_isbn") // 마지막으로 저장한 페이지의 마지막 ISBN13
+    private Long lastSeenIsbn;
+
+    @Column(name = "head_page_hash", length = 64) // 직전 회차 1페이지 내용 해시 (같으면 이번 회차 생략)
+    private String headPageHash;
+
+    @Column(name = "pages_per_run") // 한 번에 가져올 페이지 수 (변경량에 따라 조절)
+    private Integer pagesPerRun;
+
+    @Column(name = "unchanged_streak") // 연속으로 변경이 없었던 회차 수 (동기화 간격 조절)
+    private Integer unchangedStreak;
+
+    @Column(name = "next_sync_at") // 다음 동기화 예정 시각 (null이면 바로 대상)
+    private LocalDateTime nextSyncAt;
+
     public SyncStatus(String syncKey, int lastProcessedPage) {
         this.syncKey = syncKey;
         this.lastProcessedPage = lastProcessedPage;
@@ -1,6 +1,7 @@
 package com.my.bookduck.domain.user;
 
 import com.my.bookduck.domain.book.Book;
+import com.my.bookduck.service.UserLibraryCacheListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import lombok.ToString;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"user", "book"})
 @IdClass(UserBookId.class)
+@EntityListeners(UserLibraryCacheListener.class)
 public class UserBook {
     @Id
     @Column(name = "user_id")
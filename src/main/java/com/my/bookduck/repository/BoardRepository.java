@@ -1,7 +1,7 @@
 package com.my.bookduck.repository;
 
+import com.my.bookduck.controller.response.BoardListViewDto;
 import com.my.bookduck.domain.board.Board;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,22 +16,8 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query("SELECT b.book.id FROM Board b WHERE b.group.id = :groupId")
     Set<Long> findBookIdsByGroupId(@Param("groupId") Long groupId);
 
-    // Book ID 리스트 + 책 제목 검색 + 정렬
-    @Query("SELECT DISTINCT b FROM Board b " +
-            "JOIN FETCH b.book bk " +
-            "JOIN FETCH b.group g " +
-            "WHERE bk.id IN :bookIds " +
-            // ★★★ 그룹 이름 검색 조건 제거, 책 제목만 검색 ★★★
-            "AND (LOWER(bk.title) LIKE LOWER(CONCAT('%', :query, '%')))")
-    List<Board> findByBookIdInAndQuery(@Param("bookIds") List<Long> bookIds, @Param("query") String query, Sort sort);
-
-    // 책 제목 검색 + 정렬 (Book ID 필터링 없음)
-    @Query("SELECT b FROM Board b JOIN FETCH b.book bk JOIN FETCH b.group g " +
-            // ★★★ 그룹 이름 검색 조건 제거, 책 제목만 검색 ★★★
-            "WHERE LOWER(bk.title) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<Board> findAllPublicBoardsWithDetailsAndQuery(@Param("query") String query, Sort sort);
-
-    // 검색어가 없을 때 (이전과 동일)
-    @Query("SELECT b FROM Board b JOIN FETCH b.book JOIN FETCH b.group")
-    List<Board> findAllPublicBoardsWithDetails(Sort sort);
+    // 홈 피드(BoardFeed) 적재용: 엔티티 대신 목록 화면에 필요한 컬럼만 조회
+    @Query("SELECT new com.my.bookduck.controller.response.BoardListViewDto(b.id, bk.title, bk.cover, g.name, g.id, bk.id, b.createdAt) " +
+            "FROM Board b JOIN b.book bk JOIN b.group g")
+    List<BoardListViewDto> findAllFeedRows();
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.my.bookduck.repository;
+
+import com.my.bookduck.domain.book.BookEpubManifest;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookEpubManifestRepository extends JpaRepository<BookEpubManifest, Long> {
+}
@@ -1,13 +1,18 @@
 // BookRepository.java 인터페이스에 추가
 package com.my.bookduck.repository;
 
+import com.my.bookduck.controller.response.BookLIstViewResponse;
 import com.my.bookduck.controller.response.BookSimpleDto;
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.domain.book.Book;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -51,8 +56,55 @@ public interface BookRepository extends JpaRepository<Book, Long> {
             "WHERE ub.userId = :userId AND b.title LIKE %:query%")
     List<BookSimpleDto> findMyBooksByTitleContaining(@Param("userId") Long userId, @Param("query") String query);
 
-    @Query("SELECT b FROM Book b JOIN UserBook ub ON b.id = ub.book.id WHERE ub.user.id = :userId AND LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))")
-    List<Book> findByTitleContainingIgnoreCaseAndUserId(String title, Long userId, int limit);
+    // 검색 색인 적재용: 엔티티 대신 필요한 컬럼만 조회
+    @Query("SELECT b.id AS id, b.title AS title, b.writer AS writer, b.publishing AS publishing FROM Book b")
+    List<SearchFields> findAllSearchFields();
+
+    interface SearchFields {
+        Long getId();
+        String getTitle();
+        String getWriter();
+        String getPublishing();
+    }
+
+    // ---- 목록 화면(/book/books)용 키셋 페이지네이션 ----
+    // id 내림차순으로 cursor(이전 구간의 마지막 id)보다 작은 도서부터 조회하고, 엔티티 대신 BookLIstViewResponse로 바로 받음
+
+    @Query("SELECT new com.my.bookduck.controller.response.BookLIstViewResponse(b.id, b.title, b.cover, b.writer, b.publicationDate, b.publishing, b.price) " +
+            "FROM Book b WHERE (:cursor IS NULL OR b.id < :cursor) ORDER BY b.id DESC")
+    Slice<BookLIstViewResponse> findListViewSlice(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT new com.my.bookduck.controller.response.BookLIstViewResponse(b.id, b.title, b.cover, b.writer, b.publicationDate, b.publishing, b.price) " +
+            "FROM Book b WHERE (:cursor IS NULL OR b.id < :cursor) " +
+            "AND EXISTS (SELECT 1 FROM BookCategory bc WHERE bc.bookId = b.id AND bc.categoryId IN :categoryIds) ORDER BY b.id DESC")
+    Slice<BookLIstViewResponse> findListViewSliceByCategoryIds(@Param("cursor") Long cursor, @Param("categoryIds") Set<Long> categoryIds, Pageable pageable);
+
+    // 검색 색인 적재 전에만 사용하는 LIKE 검색 버전
+    @Query("SELECT new com.my.bookduck.controller.response.BookLIstViewResponse(b.id, b.title, b.cover, b.writer, b.publicationDate, b.publishing, b.price) " +
+            "FROM Book b WHERE (:cursor IS NULL OR b.id < :cursor) " +
+            "AND (LOWER(b.title) LIKE LOWER(concat('%', :query, '%')) OR LOWER(b.writer) LIKE LOWER(concat('%', :query, '%'))) ORDER BY b.id DESC")
+    Slice<BookLIstViewResponse> findListViewSliceByQuery(@Param("query") String query, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT new com.my.bookduck.controller.response.BookLIstViewResponse(b.id, b.title, b.cover, b.writer, b.publicationDate, b.publishing, b.price) " +
+            "FROM Book b WHERE (:cursor IS NULL OR b.id < :cursor) " +
+            "AND (LOWER(b.title) LIKE LOWER(concat('%', :query, '%')) OR LOWER(b.writer) LIKE LOWER(concat('%', :query, '%'))) " +
+            "AND EXISTS (SELECT 1 FROM BookCategory bc WHERE bc.bookId = b.id AND bc.categoryId IN :categoryIds) ORDER BY b.id DESC")
+    Slice<BookLIstViewResponse> findListViewSliceByQueryAndCategoryIds(@Param("query") String query, @Param("cursor") Long cursor,
+                                                                       @Param("categoryIds") Set<Long> categoryIds, Pageable pageable);
+
+    // 검색 색인 결과(ID 목록)를 목록 화면용 DTO로 조회
+    @Query("SELECT new com.my.bookduck.controller.response.BookLIstViewResponse(b.id, b.title, b.cover, b.writer, b.publicationDate, b.publishing, b.price) " +
+            "FROM Book b WHERE b.id IN :ids")
+    List<BookLIstViewResponse> findListViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 주어진 ID 중 카테고리 조건을 만족하는 ID만 조회 (검색 색인 결과 필터링용)
+    @Query("SELECT DISTINCT bc.bookId FROM BookCategory bc WHERE bc.bookId IN :ids AND bc.categoryId IN :categoryIds")
+    List<Long> findBookIdsInCategories(@Param("ids") Collection<Long> ids, @Param("categoryIds") Set<Long> categoryIds);
+
+    // ID 목록으로 요약 DTO 조회 (사용자별 제목 자동완성 색인 적재용)
+    @Query("SELECT new com.my.bookduck.controller.response.BookSummaryDto(b.id, b.title, b.cover, b.writer, b.price) " +
+            "FROM Book b WHERE b.id IN :ids")
+    List<BookSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     // 모든 책 조회 (findAll() 사용 가능)
 
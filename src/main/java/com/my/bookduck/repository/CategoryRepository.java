@@ -2,6 +2,7 @@ package com.my.bookduck.repository;
 
 import com.my.bookduck.domain.book.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +17,18 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     // 이름으로 검색하는데 부모가 없는 경우 (루트 카테고리 검색용, 추가)
     Optional<Category> findByNameAndParentIsNull(String name);
+
+    // 카테고리 트리 전체 ID (자동 동기화 대상 목록)
+    @Query("SELECT c.id FROM Category c ORDER BY c.id")
+    List<Long> findAllIds();
+
+    // 메모리 카테고리 트리(CategoryTree) 적재용: 엔티티 대신 필요한 컬럼만 조회
+    @Query("SELECT c.id AS id, c.name AS name, p.id AS parentId FROM Category c LEFT JOIN c.parent p")
+    List<TreeRow> findAllTreeRows();
+
+    interface TreeRow {
+        Long getId();
+        String getName();
+        Long getParentId();
+    }
 }
\ No newline at end of file
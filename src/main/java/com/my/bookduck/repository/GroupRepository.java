@@ -1,5 +1,6 @@
 package com.my.bookduck.repository;
 
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.domain.group.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,11 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
             "WHERE g.id IN (SELECT gu_inner.group.id FROM GroupUser gu_inner WHERE gu_inner.user.id = :userId)")
     List<Group> findGroupsWithUsersByUserId(@Param("userId") Long userId); // 메소드 이름 확인
 
+    // 그룹 도서 목록을 요약 DTO로 조회 (최근 추가 순)
+    @Query("SELECT new com.my.bookduck.controller.response.BookSummaryDto(b.id, b.title, b.cover, b.writer, b.price) " +
+            "FROM GroupBook gb JOIN gb.book b WHERE gb.groupId = :groupId ORDER BY gb.createdAt DESC")
+    List<BookSummaryDto> findBookSummariesByGroupId(@Param("groupId") Long groupId);
+
     // 그룹 이름 중복 체크용 (기존 메소드가 있다면 유지)
     boolean existsByName(String name);
 
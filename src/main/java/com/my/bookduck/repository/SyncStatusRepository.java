@@ -3,5 +3,8 @@ package com.my.bookduck.repository;
 import com.my.bookduck.domain.book.SyncStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface SyncStatusRepository extends JpaRepository<SyncStatus, String> {
-}
\ No newline at end of file
+    List<SyncStatus> findBySyncKeyStartingWith(String prefix);
+}
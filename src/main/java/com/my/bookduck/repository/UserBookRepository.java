@@ -1,5 +1,6 @@
 package com.my.bookduck.repository;
 
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.user.UserBook;
 import com.my.bookduck.domain.user.UserBookId; // ★★★ UserBookId 임포트 (복합 키 클래스) ★★★
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; // @Repository 어노테이션 추가 권장
 
+import java.util.Collection;
 import java.util.List; // 필요시 List 임포트
 
 @Repository // Spring Bean으로 등록하기 위한 어노테이션 추가
@@ -48,6 +50,22 @@ public interface UserBookRepository extends JpaRepository<UserBook, UserBookId>
     @Query("SELECT ub.book FROM UserBook ub WHERE ub.user.id = :userId")
     List<Book> findBooksByUserId(@Param("userId") Long userId);
 
+    /**
+     * 특정 사용자의 서재 목록을 요약 DTO로 조회합니다. (Book 엔티티를 영속성 컨텍스트에 올리지 않음)
+     * @param userId 사용자 ID
+     */
+    @Query("SELECT new com.my.bookduck.controller.response.BookSummaryDto(b.id, b.title, b.cover, b.writer, b.price) " +
+            "FROM UserBook ub JOIN ub.book b WHERE ub.userId = :userId")
+    List<BookSummaryDto> findBookSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * bookIds 중 사용자가 이미 소장한 책 ID만 조회합니다. (쓰기 경로의 소장 여부 확인을 쿼리 한 번으로)
+     * @param userId 사용자 ID
+     * @param bookIds 확인할 책 ID 목록 (비어 있으면 안 됨)
+     */
+    @Query("SELECT ub.bookId FROM UserBook ub WHERE ub.userId = :userId AND ub.bookId IN :bookIds")
+    List<Long> findOwnedBookIds(@Param("userId") Long userId, @Param("bookIds") Collection<Long> bookIds);
+
     // ★★★ 특정 사용자가 구매한 모든 책의 ID 목록을 조회하는 메소드 추가 ★★★
     @Query("SELECT ub.book.id FROM UserBook ub WHERE ub.user.id = :userId")
     List<Long> findBookIdsByUserId(@Param("userId") Long userId);
@@ -0,0 +1,27 @@
+package com.my.bookduck.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 색인/캐시 갱신을 트랜잭션 커밋 뒤로 미루는 도우미입니다.
+ * 진행 중인 트랜잭션이 있으면 커밋된 뒤에만 실행하고(롤백되면 실행하지 않음), 없으면 바로 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.my.bookduck.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.my.bookduck.controller.response.AladinApiResponse;
+import com.my.bookduck.controller.response.AladinBookItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알라딘 API 응답 본문(DataBuffer 스트림)을 Jackson 논블로킹 파서로 토큰 단위로 읽어
+ * item 배열의 원소를 도착하는 대로 AladinBookItem으로 내보내는 디코더입니다.
+ * 본문 전체를 문자열로 모으지 않으므로 페이지 크기와 관계없이 메모리 사용량이 아이템 하나 분량으로 제한됩니다.
+ * item 앞에 오는 최상위 필드(totalResults, startIndex, itemsPerPage)는 header에 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AladinItemStreamDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param body 응답 본문
+     * @param header 최상위 필드를 채울 객체 (item은 채우지 않음)
+     */
+    public Flux<AladinBookItem> decode(Flux<DataBuffer> body, AladinApiResponse header) {
+        return Flux.defer(() -> {
+            ParseState state = new ParseState(header);
+            return body.concatMapIterable(buffer -> {
+                        try {
+                            return state.feed(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(state.endOfInput())));
+        });
+    }
+
+    /** 응답 하나를 읽는 동안의 파서 상태 (구독마다 새로 생성) */
+    private class ParseState {
+        private final AladinApiResponse header;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private int depth = 0;
+        private String field;
+        private boolean inItems = false;
+        // 읽고 있는 아이템 객체의 토큰 (아이템 밖이면 null)
+        private TokenBuffer item;
+        private int itemDepth = 0;
+
+        ParseState(AladinApiResponse header) {
+            this.header = header;
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<AladinBookItem> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new IllegalStateException("API 응답 JSON 파싱 실패", e);
+            }
+        }
+
+        List<AladinBookItem> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<AladinBookItem> items = drain();
+                if (depth != 0 || item != null) {
+                    throw new IllegalStateException("API 응답이 중간에 끊김");
+                }
+                return items;
+            } catch (IOException e) {
+                throw new IllegalStateException("API 응답 JSON 파싱 실패", e);
+            }
+        }
+
+        // 지금까지 들어온 바이트로 읽을 수 있는 토큰을 모두 처리하고, 완성된 아이템을 반환
+        private List<AladinBookItem> drain() throws IOException {
+            List<AladinBookItem> completed = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token, completed);
+            }
+            return completed;
+        }
+
+        private void handle(JsonToken token, List<AladinBookItem> completed) throws IOException {
+            if (item != null) {
+                item.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    itemDepth++;
+                } else if (token.isStructEnd() && --itemDepth == 0) {
+                    completed.add(objectMapper.readValue(item.asParser(objectMapper), AladinBookItem.class));
+                    item = null;
+                }
+                return;
+            }
+
+            if (depth == 0 && token != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("API 응답이 JSON 형식이 아님");
+            }
+            if (token.isStructStart()) {
+                if (token == JsonToken.START_OBJECT && inItems && depth == 2) {
+                    item = new TokenBuffer(parser);
+                    item.copyCurrentEvent(parser);
+                    itemDepth = 1;
+                    return;
+                }
+                if (token == JsonToken.START_ARRAY && depth == 1 && "item".equals(field)) {
+                    inItems = true;
+                }
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (depth == 1) {
+                    inItems = false;
+                }
+            } else if (token == JsonToken.FIELD_NAME) {
+                if (depth == 1) {
+                    field = parser.currentName();
+                }
+            } else if (depth == 1) {
+                readHeaderValue();
+            }
+        }
+
+        private void readHeaderValue() throws IOException {
+            switch (field) {
+                case "totalResults" -> header.setTotalResults(parser.getValueAsInt());
+                case "startIndex" -> header.setStartIndex(parser.getValueAsInt());
+                case "itemsPerPage" -> header.setItemsPerPage(parser.getValueAsInt());
+                case "query" -> header.setQuery(parser.getValueAsString());
+                case "errorMessage" -> throw new IllegalStateException("알라딘 API 오류: " + parser.getValueAsString());
+                default -> {
+                    // 그 외 최상위 필드는 사용하지 않음
+                }
+            }
+        }
+    }
+}
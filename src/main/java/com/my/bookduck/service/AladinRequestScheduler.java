@@ -0,0 +1,383 @@
+package com.my.bookduck.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 알라딘 TTB API 호출을 한 곳에서 조절하는 스케줄러입니다. AladinService의 모든 알라딘 호출은 execute를 거칩니다.
+ * <ul>
+ *     <li>토큰 버킷: 초당 요청 수(rate-per-second)와 순간 허용량(burst) 제한. 토큰이 없으면 다음 토큰 시점까지 지연</li>
+ *     <li>동시 요청 수(max-in-flight) 제한: 초과 요청은 대기열에서 순서대로 실행.
+ *         스트리밍 호출(executeStreaming)은 본문을 다 읽을 때까지 슬롯을 잡고 있음</li>
+ *     <li>5xx/429/타임아웃/네트워크 오류는 지터가 들어간 지수 백오프로 재시도</li>
+ *     <li>서킷 브레이커: 연속 실패가 임계치를 넘으면 open-ms 동안 즉시 실패, 이후 한 건만 시험 호출(half-open)</li>
+ *     <li>엔드포인트별 지연 시간 히스토그램: aladin.client.requests (actuator /metrics, /prometheus)</li>
+ *     <li>최근 성공 호출의 p95 지연 시간 (헤지 요청 시점 결정용)</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AladinRequestScheduler {
+
+    public enum CircuitState { CLOSED, OPEN, HALF_OPEN }
+
+    /** 서킷이 열려 있어 호출하지 않고 바로 실패한 경우 */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final double ratePerSecond;
+    private final int burst;
+    private final int maxInFlight;
+    private final int maxRetries;
+    private final Duration retryBaseDelay;
+    private final int circuitFailureThreshold;
+    private final long circuitOpenMillis;
+
+    // 토큰 버킷 (this로 동기화)
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    // 동시 요청 제한 (this로 동기화)
+    private int inFlight = 0;
+    private final Deque<MonoSink<Boolean>> waiting = new ArrayDeque<>();
+
+    // 서킷 브레이커 (this로 동기화)
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtMillis = 0;
+    private boolean halfOpenTrialInFlight = false;
+
+    // 엔드포인트별 최근 성공 호출 지연 시간
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public AladinRequestScheduler(MeterRegistry meterRegistry,
+                                  @Value("${aladin.client.rate-per-second:5}") double ratePerSecond,
+                                  @Value("${aladin.client.burst:5}") int burst,
+                                  @Value("${aladin.client.max-in-flight:4}") int maxInFlight,
+                                  @Value("${aladin.client.max-retries:3}") int maxRetries,
+                                  @Value("${aladin.client.retry-base-delay-ms:300}") long retryBaseDelayMillis,
+                                  @Value("${aladin.client.circuit.failure-threshold:5}") int circuitFailureThreshold,
+                                  @Value("${aladin.client.circuit.open-ms:30000}") long circuitOpenMillis) {
+        this.meterRegistry = meterRegistry;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMillis);
+        this.circuitFailureThreshold = Math.max(1, circuitFailureThreshold);
+        this.circuitOpenMillis = circuitOpenMillis;
+        this.tokens = this.burst;
+    }
+
+    /**
+     * 알라딘 호출 하나를 스케줄러를 거쳐 실행합니다. 재시도마다 토큰과 동시 요청 슬롯을 다시 얻습니다.
+     * @param endpoint 지표 태그용 엔드포인트 이름 (예: "ItemList", "ItemSearch")
+     * @param call 실제 호출 (구독할 때마다 새 요청을 보내는 Mono)
+     */
+    public <T> Mono<T> execute(String endpoint, Supplier<Mono<T>> call) {
+        return withRetry(endpoint, attempt(endpoint, call))
+                .map(lease -> {
+                    lease.slot().release();
+                    return lease.value();
+                });
+    }
+
+    /**
+     * 응답 헤더를 받은 뒤 본문을 스트리밍으로 읽는 호출을 실행합니다. 동시 요청 슬롯은 body가 끝날 때(완료/오류/취소)까지 유지합니다.
+     * 재시도는 헤더를 받기 전까지만 적용합니다. (본문 일부를 내보낸 뒤 다시 요청하면 아이템이 중복되므로)
+     * @param call 헤더까지 받는 호출 (구독할 때마다 새 요청을 보내는 Mono)
+     * @param body 헤더를 받은 응답에서 본문 Flux를 만드는 함수
+     */
+    public <T, R> Flux<R> executeStreaming(String endpoint, Supplier<Mono<T>> call, Function<T, Flux<R>> body) {
+        return withRetry(endpoint, attempt(endpoint, call))
+                .flatMapMany(lease -> Flux.usingWhen(Mono.just(lease),
+                        held -> body.apply(held.value()),
+                        held -> Mono.fromRunnable(held.slot()::release)));
+    }
+
+    // 시도 한 번: 서킷 확인 → 토큰 → 동시 요청 슬롯 → 호출 (성공/실패는 시도 단위로 서킷에 반영)
+    // 값을 받으면 슬롯을 Lease에 담아 넘기고, 오류/빈 응답/값을 받기 전 취소면 여기서 반환
+    private <T> Mono<Lease<T>> attempt(String endpoint, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!allowRequest()) {
+                return Mono.error(new CircuitOpenException("Aladin API circuit is open; skipping " + endpoint + " call."));
+            }
+            return acquireToken()
+                    .then(acquireSlot())
+                    .flatMap(ignored -> {
+                        Slot slot = new Slot();
+                        return timed(endpoint, call.get())
+                                .map(value -> slot.handOff(value))
+                                .switchIfEmpty(Mono.fromRunnable(slot::release))
+                                .doOnError(error -> slot.release())
+                                .doOnCancel(slot::releaseUnlessHandedOff);
+                    })
+                    .doOnSuccess(value -> recordSuccess())
+                    .doOnError(error -> {
+                        if (isRetryable(error)) {
+                            recordFailure(endpoint, error);
+                        } else {
+                            releaseHalfOpenTrial(); // 4xx 등 서버 상태와 무관한 실패
+                        }
+                    })
+                    .doOnCancel(this::releaseHalfOpenTrial);
+        });
+    }
+
+    // 서킷이 열리면 다음 재시도는 CircuitOpenException(재시도 대상 아님)으로 바로 끝남
+    private <T> Mono<T> withRetry(String endpoint, Mono<T> attempt) {
+        return attempt.retryWhen(Retry.backoff(maxRetries, retryBaseDelay)
+                .jitter(0.5)
+                .filter(AladinRequestScheduler::isRetryable)
+                .doBeforeRetry(signal -> log.warn("Aladin {} call failed (attempt {}), retrying: {}",
+                        endpoint, signal.totalRetries() + 1, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * 최근 성공 호출의 p95 지연 시간. 표본이 적으면 fallback을 반환합니다.
+     */
+    public Duration getP95Latency(String endpoint, Duration fallback) {
+        LatencyWindow window = latencies.get(endpoint);
+        return window != null ? window.percentile(0.95, fallback) : fallback;
+    }
+
+    public synchronized CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    /** 현재 상태 요약 (로그/관리 화면용) */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("circuitState", circuitState);
+        status.put("consecutiveFailures", consecutiveFailures);
+        status.put("inFlight", inFlight);
+        status.put("waiting", waiting.size());
+        status.put("availableTokens", tokens);
+        return status;
+    }
+
+    private <T> Mono<T> timed(String endpoint, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(value -> {
+                        long nanos = sample.stop(timer(endpoint, "success"));
+                        latencies.computeIfAbsent(endpoint, key -> new LatencyWindow()).record(nanos);
+                    })
+                    .doOnError(error -> sample.stop(timer(endpoint, outcomeOf(error))));
+        });
+    }
+
+    private Timer timer(String endpoint, String outcome) {
+        return Timer.builder("aladin.client.requests")
+                .description("Aladin TTB API call latency")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /** 최근 LatencyWindow.SIZE개 지연 시간을 담는 원형 버퍼 */
+    private static class LatencyWindow {
+        private static final int SIZE = 256;
+        private static final int MIN_SAMPLES = 20;
+        private final long[] samples = new long[SIZE];
+        private int count = 0;
+        private int next = 0;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % SIZE;
+            count = Math.min(count + 1, SIZE);
+        }
+
+        synchronized Duration percentile(double percentile, Duration fallback) {
+            if (count < MIN_SAMPLES) {
+                return fallback;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = Math.min(count - 1, (int) Math.ceil(percentile * count) - 1);
+            return Duration.ofNanos(sorted[Math.max(0, index)]);
+        }
+    }
+
+    // ---- 토큰 버킷 ----
+
+    private Mono<Void> acquireToken() {
+        long waitNanos = reserveToken();
+        return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.empty();
+    }
+
+    // 토큰을 하나 예약하고, 그 토큰을 쓸 수 있을 때까지 기다려야 하는 시간을 반환 (음수 잔량 = 앞선 예약)
+    private synchronized long reserveToken() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1e9 * ratePerSecond);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * 1e9);
+    }
+
+    // ---- 동시 요청 제한 ----
+
+    private Mono<Boolean> acquireSlot() {
+        return Mono.create(sink -> {
+            boolean acquired;
+            synchronized (this) {
+                acquired = inFlight < maxInFlight;
+                if (acquired) {
+                    inFlight++;
+                } else {
+                    waiting.addLast(sink);
+                }
+            }
+            if (acquired) {
+                sink.success(Boolean.TRUE);
+            } else {
+                // 대기 중 취소되면 대기열에서 제거
+                sink.onCancel(() -> {
+                    synchronized (this) {
+                        waiting.remove(sink);
+                    }
+                });
+            }
+        });
+    }
+
+    /** 호출 하나가 잡은 동시 요청 슬롯. 오류/취소/본문 종료 중 어느 경로로 여러 번 불려도 한 번만 반환 */
+    private final class Slot {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean handedOff = false;
+
+        <T> Lease<T> handOff(T value) {
+            handedOff = true;
+            return new Lease<>(value, this);
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                releaseSlot();
+            }
+        }
+
+        void releaseUnlessHandedOff() {
+            if (!handedOff) {
+                release();
+            }
+        }
+    }
+
+    /** 응답 값과, 그 값을 다 쓸 때까지 잡고 있는 슬롯 */
+    private record Lease<T>(T value, Slot slot) {
+    }
+
+    private void releaseSlot() {
+        MonoSink<Boolean> next;
+        synchronized (this) {
+            next = waiting.pollFirst();
+            if (next == null) {
+                inFlight--;
+            }
+            // 대기자가 있으면 슬롯을 그대로 넘겨줌 (inFlight 유지)
+        }
+        if (next != null) {
+            next.success(Boolean.TRUE);
+        }
+    }
+
+    // ---- 서킷 브레이커 ----
+
+    private synchronized boolean allowRequest() {
+        if (circuitState == CircuitState.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < circuitOpenMillis) {
+                return false;
+            }
+            circuitState = CircuitState.HALF_OPEN;
+            log.info("Aladin API circuit half-open; sending a trial request.");
+        }
+        if (circuitState == CircuitState.HALF_OPEN) {
+            if (halfOpenTrialInFlight) {
+                return false;
+            }
+            halfOpenTrialInFlight = true;
+        }
+        return true;
+    }
+
+    private synchronized void recordSuccess() {
+        if (circuitState != CircuitState.CLOSED) {
+            log.info("Aladin API circuit closed after a successful call.");
+        }
+        circuitState = CircuitState.CLOSED;
+        consecutiveFailures = 0;
+        halfOpenTrialInFlight = false;
+    }
+
+    private synchronized void recordFailure(String endpoint, Throwable error) {
+        consecutiveFailures++;
+        halfOpenTrialInFlight = false;
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= circuitFailureThreshold) {
+            if (circuitState != CircuitState.OPEN) {
+                log.error("Aladin API circuit opened for {} ms after {} consecutive failures (last: {} {}).",
+                        circuitOpenMillis, consecutiveFailures, endpoint, error.toString());
+            }
+            circuitState = CircuitState.OPEN;
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    private synchronized void releaseHalfOpenTrial() {
+        halfOpenTrialInFlight = false;
+    }
+
+    // ---- 오류 분류 ----
+
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError() || responseException.getStatusCode().value() == 429;
+        }
+        if (error instanceof HttpClientErrorException clientErrorException) {
+            return clientErrorException.getStatusCode().value() == 429;
+        }
+        return error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || error instanceof HttpServerErrorException
+                || error instanceof ResourceAccessException;
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        return isRetryable(error) ? "server_error" : "client_error";
+    }
+}
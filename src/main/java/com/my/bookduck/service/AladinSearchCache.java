@@ -0,0 +1,188 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.PaginatedAladinResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 알라딘 실시간 검색(AladinService.searchBooks) 응답 캐시입니다.
+ * <ul>
+ *     <li>키: 정규화한 (검색어, 페이지, 크기, 카테고리, 정렬)</li>
+ *     <li>크기 제한 LRU (max-entries)</li>
+ *     <li>TTL은 종류별: 키워드 검색(search-ttl)과 검색어 없는 목록(신간/베스트셀러, list-ttl)</li>
+ *     <li>TTL이 지난 뒤 stale 구간 안에서는 이전 응답을 바로 돌려주고 백그라운드에서 다시 가져옴 (stale-while-revalidate)</li>
+ *     <li>같은 키의 동시 미스는 알라딘 호출 한 번을 함께 기다림</li>
+ * </ul>
+ * 상위 호출은 호출자가 구독을 취소(마감 시간 초과 등)해도 끝까지 진행되어 결과를 캐시에 채웁니다.
+ * 적중률/상위 호출 수는 aladin.search.cache.requests, aladin.search.upstream.calls 지표로 확인합니다.
+ */
+@Component
+@Slf4j
+public class AladinSearchCache {
+
+    /** 캐시 키. 검색어는 BookSearchIndex와 같은 방식으로 정규화 */
+    public record Key(String query, int page, int size, String categoryId, String sort) {
+        public static Key of(String query, int page, int size, String categoryId, String sort) {
+            return new Key(BookSearchIndex.normalize(query), page, size, categoryId == null ? "0" : categoryId.trim(), sort);
+        }
+
+        boolean isListQuery() {
+            return query.isEmpty();
+        }
+    }
+
+    private record Entry(PaginatedAladinResponse value, long freshUntil, long staleUntil) {
+    }
+
+    private final int maxEntries;
+    private final long searchTtlMillis;
+    private final long listTtlMillis;
+    private final long staleMillis;
+
+    // 접근 순서 LinkedHashMap (LRU), this로 동기화
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 진행 중인 상위 호출 (같은 키의 동시 미스/재검증이 공유)
+    private final Map<Key, CompletableFuture<PaginatedAladinResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter upstreamSuccess;
+    private final Counter upstreamFailure;
+
+    public AladinSearchCache(MeterRegistry meterRegistry,
+                             @Value("${aladin.search-cache.max-entries:2000}") int maxEntries,
+                             @Value("${aladin.search-cache.search-ttl-seconds:300}") long searchTtlSeconds,
+                             @Value("${aladin.search-cache.list-ttl-seconds:1800}") long listTtlSeconds,
+                             @Value("${aladin.search-cache.stale-seconds:600}") long staleSeconds) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.searchTtlMillis = searchTtlSeconds * 1000;
+        this.listTtlMillis = listTtlSeconds * 1000;
+        this.staleMillis = staleSeconds * 1000;
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.staleHits = requestCounter(meterRegistry, "stale");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.upstreamSuccess = Counter.builder("aladin.search.upstream.calls").tag("outcome", "success").register(meterRegistry);
+        this.upstreamFailure = Counter.builder("aladin.search.upstream.calls").tag("outcome", "failure").register(meterRegistry);
+        Gauge.builder("aladin.search.cache.size", this, AladinSearchCache::size).register(meterRegistry);
+        Gauge.builder("aladin.search.cache.hit.ratio", this, AladinSearchCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답을 반환하거나, 없으면 loader로 가져와 저장합니다.
+     * loader가 실패하면 에러를 그대로 전달하며 캐시에는 저장하지 않습니다.
+     */
+    public Mono<PaginatedAladinResponse> get(Key key, Supplier<Mono<PaginatedAladinResponse>> loader) {
+        return Mono.defer(() -> {
+            long now = System.currentTimeMillis();
+            Entry entry;
+            synchronized (this) {
+                entry = entries.get(key);
+            }
+            if (entry != null && now < entry.freshUntil()) {
+                hits.increment();
+                return Mono.just(entry.value());
+            }
+            if (entry != null && now < entry.staleUntil()) {
+                staleHits.increment();
+                revalidate(key, loader);
+                return Mono.just(entry.value());
+            }
+            misses.increment();
+            // suppressCancel: 기다리던 호출자가 취소해도 공유 중인 상위 호출은 취소하지 않음
+            return Mono.fromFuture(load(key, loader), true);
+        });
+    }
+
+    /** 만료 여부와 관계없이 남아 있는 응답 (상위 호출 실패 시 대체 응답용) */
+    public synchronized Optional<PaginatedAladinResponse> peek(Key key) {
+        Entry entry = entries.get(key);
+        return Optional.ofNullable(entry).map(Entry::value);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + staleHits.count() + misses.count();
+        return served == 0 ? 0 : (hits.count() + staleHits.count()) / served;
+    }
+
+    // 백그라운드 재검증. 이미 같은 키를 가져오는 중이면 건너뜀
+    private void revalidate(Key key, Supplier<Mono<PaginatedAladinResponse>> loader) {
+        if (!inFlight.containsKey(key)) {
+            load(key, loader).exceptionally(error -> {
+                log.warn("Aladin search cache revalidation failed for {}: {}", key, error.getMessage());
+                return null;
+            });
+        }
+    }
+
+    private CompletableFuture<PaginatedAladinResponse> load(Key key, Supplier<Mono<PaginatedAladinResponse>> loader) {
+        CompletableFuture<PaginatedAladinResponse> created = new CompletableFuture<>();
+        CompletableFuture<PaginatedAladinResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        loader.get().subscribe(
+                value -> {
+                    upstreamSuccess.increment();
+                    put(key, value);
+                    inFlight.remove(key, created);
+                    created.complete(value);
+                },
+                error -> {
+                    upstreamFailure.increment();
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(error);
+                },
+                () -> {
+                    if (!created.isDone()) {
+                        upstreamFailure.increment();
+                        inFlight.remove(key, created);
+                        created.completeExceptionally(new NoSuchElementException("Empty Aladin response for " + key));
+                    }
+                });
+        return created;
+    }
+
+    private void put(Key key, PaginatedAladinResponse value) {
+        long now = System.currentTimeMillis();
+        long ttl = key.isListQuery() ? listTtlMillis : searchTtlMillis;
+        synchronized (this) {
+            entries.put(key, new Entry(value, now + ttl, now + ttl + staleMillis));
+            if (entries.size() > maxEntries) {
+                Key eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+            }
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("aladin.search.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,22 +1,19 @@
 package com.my.bookduck.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.my.bookduck.controller.response.AladinApiResponse;
 import com.my.bookduck.controller.response.AladinBookItem; // ★수정★: 이 DTO의 isbn13이 Long 타입임
+import com.my.bookduck.controller.response.BookLIstViewResponse;
 import com.my.bookduck.controller.response.PaginatedAladinResponse;
 import com.my.bookduck.domain.book.Book;
-import com.my.bookduck.domain.book.SyncStatus;
 import com.my.bookduck.repository.BookRepository;
-import com.my.bookduck.repository.SyncStatusRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
@@ -26,12 +23,14 @@ import reactor.core.scheduler.Schedulers;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -48,19 +47,38 @@ public class AladinService {
     @Value("${aladin.api.itemlist}")
     private String apiListUrl; // 상품 리스트 API용 (ItemList.aspx) - 베스트셀러용
 
-    private final RestTemplate restTemplate;
-    private final BookRepository bookRepository;
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
-    private final SyncStatusRepository syncStatusRepository;
+    private final BookUpsertWriter bookUpsertWriter;
+    private final AladinRequestScheduler aladinRequestScheduler;
+    private final AladinSearchCache aladinSearchCache;
+    private final AladinItemStreamDecoder aladinItemStreamDecoder;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookRepository bookRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aladin.live-search.deadline-ms:2500}") // 실시간 검색 마감 시간 (초과 시 대체 응답)
+    private long liveSearchDeadlineMillis;
+
+    @Value("${aladin.live-search.hedge-enabled:true}")
+    private boolean liveSearchHedgeEnabled;
+
+    @Value("${aladin.live-search.hedge-delay-ms:800}") // p95 표본이 부족할 때의 헤지 지연
+    private long liveSearchHedgeDelayMillis;
 
-    private static final int MAX_RESULTS_PER_PAGE = 50;
-    private static final int PAGES_PER_RUN = 20;
+    public static final int MAX_RESULTS_PER_PAGE = 50;
+    // 리스트 API(베스트셀러 등)는 상위 200건까지만 제공
+    public static final int MAX_LIST_PAGE = 200 / MAX_RESULTS_PER_PAGE;
     private static final Duration API_TIMEOUT = Duration.ofSeconds(15);
-    public static final int DEFAULT_BESTSELLER_CATEGORY_ID = 0;
-    public static final int DEFAULT_EBOOK_BESTSELLER_CATEGORY_ID = 0;
+    // 스트리밍 수신 중 이 개수가 모일 때마다 바로 upsert (페이지 전체를 기다리지 않음)
+    public static final int STORE_CHUNK_SIZE = 25;
 
-    public PaginatedAladinResponse searchBooks(String query, int page, int size, String categoryId, String sort) {
+    /**
+     * 알라딘 실시간 검색/목록 조회 (논블로킹, /api/search/books).
+     * 응답 캐시 → 알라딘 호출(최근 p95 지연이 지나도 응답이 없으면 헤지 요청 1회 추가) 순으로 처리하고,
+     * 마감 시간(aladin.live-search.deadline-ms) 안에 응답이 없거나 실패하면 남아 있는 캐시 응답,
+     * 그것도 없으면 로컬 도서 색인 결과로 대신 응답합니다.
+     */
+    public Mono<PaginatedAladinResponse> searchBooks(String query, int page, int size, String categoryId, String sort) {
         String effectiveSort = sort != null && List.of("PublishTime", "SalesPoint", "Title").contains(sort)
                 ? sort
                 : "PublishTime"; // 기본 정렬은 최신순
@@ -68,6 +86,18 @@ public class AladinService {
                 ? categoryId
                 : "0"; // 알라딘 API에서 0은 보통 전체 국내도서를 의미 (문서 확인 필요)
 
+        // 같은 (검색어, 페이지, 크기, 카테고리, 정렬) 요청은 캐시에서 응답 (동시 미스는 한 번만 호출)
+        AladinSearchCache.Key key = AladinSearchCache.Key.of(query, page, size, effectiveCategoryId, effectiveSort);
+        String endpoint = (query == null || query.trim().isEmpty()) ? "ItemList" : "ItemSearch";
+
+        // 실패는 에러로 전달해 빈 결과가 캐시에 남지 않도록 함
+        return aladinSearchCache.get(key, () -> hedgedCall(endpoint, buildSearchBooksUri(query, page, size, effectiveCategoryId, effectiveSort))
+                        .map(response -> toPaginatedResponse(response, query, page, size)))
+                .timeout(Duration.ofMillis(liveSearchDeadlineMillis))
+                .onErrorResume(error -> fallbackSearch(key, query, page, size, error));
+    }
+
+    private URI buildSearchBooksUri(String query, int page, int size, String effectiveCategoryId, String effectiveSort) {
         UriComponentsBuilder uriBuilder;
         String finalApiUrl; // 사용할 알라딘 API의 기본 URL (ItemSearch.aspx 또는 ItemList.aspx)
 
@@ -132,31 +162,128 @@ public class AladinService {
 
         URI uri = uriBuilder.encode(StandardCharsets.UTF_8).build().toUri();
         log.info("최종 호출 Aladin API URL: {}", uri.toString());
+        return uri;
+    }
 
-        try {
-            AladinApiResponse response = restTemplate.getForObject(uri, AladinApiResponse.class);
-            if (response != null) {
-                List<AladinBookItem> books = (response.getItem() != null) ? response.getItem() : Collections.emptyList();
-                int total = response.getTotalResults() != null ? response.getTotalResults() : 0;
-                // 검색어 없는 ItemList API의 경우 totalResults가 정확하지 않거나 매우 클 수 있음
-                // 프론트엔드 페이지네이션과 사용자 경험을 위해 조정 필요할 수 있음
-                if ((query == null || query.trim().isEmpty()) && total == 0 && !books.isEmpty()) {
-                    // 예: ItemList API가 totalResults를 0으로 주지만 실제론 더 많은 결과가 있을 수 있는 경우
-                    // total = books.size() * 20; // 임의로 더 많은 결과가 있다고 가정 (페이지네이션 테스트용)
-                    log.warn("검색어 없는 목록 조회 시 API totalResults가 0이지만, 아이템이 존재합니다. 페이지네이션에 영향이 있을 수 있습니다.");
-                }
-                log.info("Aladin API 응답: totalResults={}, 현재 페이지 아이템 수={}", total, books.size());
-                return new PaginatedAladinResponse(books, total, page, size);
-            } else {
-                log.warn("알라딘 API 응답이 null입니다. URL: {}", uri);
-                return new PaginatedAladinResponse(Collections.emptyList(), 0, page, size);
+    // 스케줄러(요청 한도/재시도/서킷)를 거친 호출. 헤지가 켜져 있으면 p95 지연 후 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+    private Mono<AladinApiResponse> hedgedCall(String endpoint, URI uri) {
+        Mono<AladinApiResponse> call = Mono.defer(() -> {
+            AladinApiResponse response = new AladinApiResponse();
+            return streamItems(endpoint, uri, response)
+                    .collectList()
+                    .map(items -> {
+                        response.setItem(items);
+                        return response;
+                    });
+        });
+        if (!liveSearchHedgeEnabled) {
+            return call;
+        }
+        Duration hedgeDelay = aladinRequestScheduler.getP95Latency(endpoint, Duration.ofMillis(liveSearchHedgeDelayMillis));
+        Mono<AladinApiResponse> hedge = Mono.delay(hedgeDelay)
+                .then(Mono.defer(() -> {
+                    meterRegistry.counter("aladin.search.hedged", "endpoint", endpoint).increment();
+                    return call;
+                }));
+        return Mono.firstWithValue(call, hedge);
+    }
+
+    private PaginatedAladinResponse toPaginatedResponse(AladinApiResponse response, String query, int page, int size) {
+        if (response != null) {
+            List<AladinBookItem> books = (response.getItem() != null) ? response.getItem() : Collections.emptyList();
+            int total = response.getTotalResults() != null ? response.getTotalResults() : 0;
+            // 검색어 없는 ItemList API의 경우 totalResults가 정확하지 않거나 매우 클 수 있음
+            // 프론트엔드 페이지네이션과 사용자 경험을 위해 조정 필요할 수 있음
+            if ((query == null || query.trim().isEmpty()) && total == 0 && !books.isEmpty()) {
+                // 예: ItemList API가 totalResults를 0으로 주지만 실제론 더 많은 결과가 있을 수 있는 경우
+                // total = books.size() * 20; // 임의로 더 많은 결과가 있다고 가정 (페이지네이션 테스트용)
+                log.warn("검색어 없는 목록 조회 시 API totalResults가 0이지만, 아이템이 존재합니다. 페이지네이션에 영향이 있을 수 있습니다.");
             }
-        } catch (Exception e) {
-            log.error("알라딘 API 호출 중 오류 발생. URL: {}. Error: {}", uri, e.getMessage(), e);
+            log.info("Aladin API 응답: totalResults={}, 현재 페이지 아이템 수={}", total, books.size());
+            return new PaginatedAladinResponse(books, total, page, size);
+        } else {
+            log.warn("알라딘 API 응답이 null입니다. Query: {}", query);
             return new PaginatedAladinResponse(Collections.emptyList(), 0, page, size);
         }
     }
 
+    // 알라딘이 마감 시간 안에 응답하지 못했을 때: 남아 있는 캐시 응답 → 로컬 도서 색인 순으로 대체
+    private Mono<PaginatedAladinResponse> fallbackSearch(AladinSearchCache.Key key, String query, int page, int size, Throwable error) {
+        Optional<PaginatedAladinResponse> cached = aladinSearchCache.peek(key);
+        if (cached.isPresent()) {
+            log.warn("알라딘 실시간 검색 실패/지연({}), 캐시된 이전 응답으로 대체: {}", error.toString(), key);
+            meterRegistry.counter("aladin.search.fallback", "source", "cache").increment();
+            return Mono.just(cached.get());
+        }
+        log.warn("알라딘 실시간 검색 실패/지연({}), 로컬 도서 색인으로 대체: {}", error.toString(), key);
+        meterRegistry.counter("aladin.search.fallback", "source", "local_index").increment();
+        return Mono.fromCallable(() -> localCatalogPage(query, page, size))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(localError -> {
+                    log.error("로컬 도서 색인 대체 조회 실패: {}", localError.getMessage(), localError);
+                    return Mono.just(new PaginatedAladinResponse(Collections.emptyList(), 0, page, size));
+                });
+    }
+
+    // 로컬 book 테이블 기준 결과: 검색어가 있으면 검색 색인 순위 순, 없으면 최근 등록 순
+    private PaginatedAladinResponse localCatalogPage(String query, int page, int size) {
+        int pageIndex = Math.max(page - 1, 0);
+        if (query == null || query.trim().isEmpty()) {
+            List<AladinBookItem> items = bookRepository.findListViewSlice(null, PageRequest.of(pageIndex, size))
+                    .map(this::toAladinItem)
+                    .getContent();
+            return new PaginatedAladinResponse(items, (int) bookRepository.count(), page, size);
+        }
+        if (!bookSearchIndex.isReady()) {
+            return new PaginatedAladinResponse(Collections.emptyList(), 0, page, size);
+        }
+        BookSearchIndex.SearchResult result = bookSearchIndex.search(query, pageIndex * size, size);
+        Map<Long, BookLIstViewResponse> byId = bookRepository.findListViewsByIdIn(result.ids()).stream()
+                .collect(Collectors.toMap(BookLIstViewResponse::getId, Function.identity()));
+        List<AladinBookItem> items = result.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toAladinItem)
+                .toList();
+        return new PaginatedAladinResponse(items, result.total(), page, size);
+    }
+
+    private AladinBookItem toAladinItem(BookLIstViewResponse book) {
+        AladinBookItem item = new AladinBookItem();
+        item.setIsbn13(book.getId());
+        item.setTitle(book.getTitle());
+        item.setCover(book.getCover());
+        item.setAuthor(book.getWriter());
+        item.setPublisher(book.getPublishing());
+        item.setPriceStandard(book.getPrice());
+        item.setPubDate(book.getPublicationDate() != null ? book.getPublicationDate().toString() : null);
+        return item;
+    }
+
+    /**
+     * 상품 검색 API 원본 응답(JSON 문자열)을 그대로 반환합니다. (/api/aladin/search)
+     */
+    public Mono<String> searchItemsRaw(String query, Long categoryId) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("ttbkey", apiKey)
+                .queryParam("Query", query != null ? query : "")
+                .queryParam("QueryType", "Keyword")
+                .queryParam("MaxResults", 10)
+                .queryParam("start", 1)
+                .queryParam("SearchTarget", "Book")
+                .queryParam("output", "js")
+                .queryParam("Version", "20131101");
+        if (categoryId != null) {
+            uriBuilder.queryParam("CategoryId", categoryId);
+        }
+        URI uri = uriBuilder.encode(StandardCharsets.UTF_8).build().toUri();
+        return aladinRequestScheduler.execute("ItemSearch", () -> webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(API_TIMEOUT));
+    }
+
 
     @lombok.Data
     @lombok.NoArgsConstructor
@@ -164,220 +291,40 @@ public class AladinService {
         private long totalApiItems = 0;
         private long savedCount = 0;
         private long updatedCount = 0;
+        private long unchangedCount = 0;
         private boolean errorOccurred = false;
         private int startPage = 1;
         private int lastAttemptedPage = 0;
         private int actualLastProcessedPage = 0;
+        private long elapsedMillis = 0;
 
         public void incrementSavedCount() { this.savedCount++; }
         public void incrementUpdatedCount() { this.updatedCount++; }
+        public synchronized void addUpsert(BookUpsertWriter.UpsertResult upsert) {
+            this.savedCount += upsert.inserted();
+            this.updatedCount += upsert.updated();
+            this.unchangedCount += upsert.unchanged();
+        }
+        // 이번 실행에서 DB에 반영(비교 포함)한 행 수 / 초
+        public double getRowsPerSecond() {
+            long rows = savedCount + updatedCount + unchangedCount;
+            return elapsedMillis > 0 ? rows * 1000.0 / elapsedMillis : 0;
+        }
         public SyncResult setErrorOccurred(boolean errorOccurred) { this.errorOccurred = errorOccurred; return this; }
     }
 
-    public Mono<SyncResult> fetchNextBestsellerBatch(int categoryId) {
-        String syncKey = "bestseller_" + categoryId;
-        log.info("알라딘 API 다음 일반 도서 베스트셀러 배치(SyncKey={}) 처리 시작", syncKey);
-        SyncResult result = new SyncResult();
-
-        return Mono.fromCallable(() -> syncStatusRepository.findById(syncKey)
-                        .map(SyncStatus::getLastProcessedPage)
-                        .orElse(0))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(lastProcessedPage -> {
-                    int startPage = lastProcessedPage + 1;
-                    result.setStartPage(startPage);
-                    int pagesToFetchThisRun = PAGES_PER_RUN;
-                    int maxApiPageLimit = (200 / MAX_RESULTS_PER_PAGE);
-
-                    if (startPage > maxApiPageLimit) {
-                        log.warn("[{}] 시작 페이지({})가 알라딘 API 최대 페이지({})를 초과하여 더 이상 가져올 일반 도서 데이터가 없습니다.", syncKey, startPage, maxApiPageLimit);
-                        result.setLastAttemptedPage(startPage -1);
-                        result.setActualLastProcessedPage(lastProcessedPage);
-                        return Mono.just(result);
-                    }
-                    if (startPage + pagesToFetchThisRun -1 > maxApiPageLimit) {
-                        pagesToFetchThisRun = maxApiPageLimit - startPage + 1;
-                    }
-
-                    result.setLastAttemptedPage(startPage + pagesToFetchThisRun - 1);
-                    log.info("[{}] DB 조회 결과 lastProcessedPage={}, 이번 실행 시작 페이지={}, 가져올 페이지 수={}",
-                            syncKey, lastProcessedPage, startPage, pagesToFetchThisRun);
-                    AtomicInteger currentMaxProcessedPage = new AtomicInteger(lastProcessedPage);
-
-                    return Flux.range(startPage, pagesToFetchThisRun)
-                            .concatMap(pageNumber -> fetchAladinBestsellerPage(categoryId, pageNumber, "Book")
-                                            .doOnSuccess(response -> {
-                                                if (isResponseValid(response, syncKey, pageNumber)) {
-                                                    if (response.getItem() != null && !response.getItem().isEmpty()) {
-                                                        currentMaxProcessedPage.accumulateAndGet(pageNumber, Math::max);
-                                                        result.setTotalApiItems(result.getTotalApiItems() + response.getItem().size());
-                                                    } else {
-                                                        log.info("[{}] 페이지 {}에 더 이상 일반 도서 아이템이 없습니다.", syncKey, pageNumber);
-                                                    }
-                                                }
-                                            })
-                                            .flatMapMany(pageResponse -> Flux.fromIterable(
-                                                    (pageResponse != null && pageResponse.getItem() != null) ? pageResponse.getItem() : Collections.<AladinBookItem>emptyList()
-                                            ))
-                                            .onErrorResume(e -> {
-                                                log.warn("[{}] 일반 도서 페이지 {} 처리 중 오류 발생하여 건너<0xEB><0x9A><0x81>니다: {}", syncKey, pageNumber, e.getMessage());
-                                                return Flux.empty();
-                                            }),
-                                    1)
-                            .filter(this::isValidBookItem)
-                            .publishOn(Schedulers.boundedElastic())
-                            .flatMap(apiItem -> processBookItem(apiItem, result))
-                            .collectList()
-                            .flatMap(booksToSaveOrUpdate ->
-                                    saveBooksInBatch(booksToSaveOrUpdate, result)
-                                            .onErrorResume(saveError -> {
-                                                log.error("[{}] 일반 도서 DB 저장/업데이트 중 오류 발생!", syncKey, saveError);
-                                                result.setErrorOccurred(true);
-                                                return Mono.just(result);
-                                            })
-                            )
-                            .flatMap(savedResult -> {
-                                int actualLastProcessed = currentMaxProcessedPage.get();
-                                if (savedResult.getTotalApiItems() == 0 && actualLastProcessed == lastProcessedPage && startPage > lastProcessedPage) {
-                                    log.info("[{}] API에서 가져온 일반 도서 아이템이 없어 실제 처리된 페이지 번호 변경 없음 ({} -> {}).",
-                                            syncKey, lastProcessedPage, actualLastProcessed);
-                                }
-                                savedResult.setActualLastProcessedPage(actualLastProcessed);
-
-                                if (!savedResult.isErrorOccurred() && actualLastProcessed > lastProcessedPage) {
-                                    log.info("[{}] 성공적으로 일반 도서 페이지 처리 완료 ({} -> {}). Sync 상태 업데이트 시도.",
-                                            syncKey, lastProcessedPage, actualLastProcessed);
-                                    return updateSyncStatus(syncKey, actualLastProcessed)
-                                            .thenReturn(savedResult)
-                                            .onErrorResume(updateError -> {
-                                                log.error("[{}] 일반 도서 Sync 상태 업데이트 중 오류 발생!", syncKey, updateError);
-                                                savedResult.setErrorOccurred(true);
-                                                return Mono.just(savedResult);
-                                            });
-                                } else {
-                                    if (savedResult.isErrorOccurred()) {
-                                        log.error("[{}] 이전 단계 에러로 인해 일반 도서 Sync 상태 업데이트 건너<0xEB><0x9A><0x81> (LastProcessed: {}, CurrentMax: {})",
-                                                syncKey, lastProcessedPage, actualLastProcessed);
-                                    } else {
-                                        log.warn("[{}] 신규 처리된 일반 도서 페이지 없음. Sync 상태 업데이트 건너<0xEB><0x9A><0x81> (LastProcessed: {}, CurrentMax: {})",
-                                                syncKey, lastProcessedPage, actualLastProcessed);
-                                    }
-                                    return Mono.just(savedResult);
-                                }
-                            });
-                })
-                .onErrorResume(finalError -> {
-                    log.error("[{}] 일반 도서 배치 처리 중 예측하지 못한 최종 에러 발생: {}", syncKey, finalError.getMessage(), finalError);
-                    result.setErrorOccurred(true);
-                    return Mono.just(result);
-                });
-    }
-
-    public Mono<SyncResult> fetchNextEBookBestsellerBatch(int categoryId) {
-        String syncKey = "ebook_bestseller_" + categoryId;
-        log.info("알라딘 API 다음 eBook 베스트셀러 배치(SyncKey={}) 처리 시작", syncKey);
-        SyncResult result = new SyncResult();
-
-        return Mono.fromCallable(() -> syncStatusRepository.findById(syncKey)
-                        .map(SyncStatus::getLastProcessedPage)
-                        .orElse(0))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(lastProcessedPage -> {
-                    int startPage = lastProcessedPage + 1;
-                    result.setStartPage(startPage);
-                    int pagesToFetchThisRun = PAGES_PER_RUN;
-                    int maxApiPageLimit = (200 / MAX_RESULTS_PER_PAGE);
-
-                    if (startPage > maxApiPageLimit) {
-                        log.warn("[{}] 시작 페이지({})가 알라딘 API 최대 페이지({})를 초과하여 더 이상 가져올 eBook 데이터가 없습니다.", syncKey, startPage, maxApiPageLimit);
-                        result.setLastAttemptedPage(startPage -1);
-                        result.setActualLastProcessedPage(lastProcessedPage);
-                        return Mono.just(result);
-                    }
-                    if (startPage + pagesToFetchThisRun -1 > maxApiPageLimit) {
-                        pagesToFetchThisRun = maxApiPageLimit - startPage + 1;
-                    }
-
-                    result.setLastAttemptedPage(startPage + pagesToFetchThisRun - 1);
-                    log.info("[{}] DB 조회 결과 lastProcessedPage={}, 이번 실행 시작 페이지={}, 가져올 페이지 수={}",
-                            syncKey, lastProcessedPage, startPage, pagesToFetchThisRun);
-                    AtomicInteger currentMaxProcessedPage = new AtomicInteger(lastProcessedPage);
-
-                    return Flux.range(startPage, pagesToFetchThisRun)
-                            .concatMap(pageNumber -> fetchAladinBestsellerPage(categoryId, pageNumber, "eBook")
-                                            .doOnSuccess(response -> {
-                                                if (isResponseValid(response, syncKey, pageNumber)) {
-                                                    if (response.getItem() != null && !response.getItem().isEmpty()) {
-                                                        currentMaxProcessedPage.accumulateAndGet(pageNumber, Math::max);
-                                                        result.setTotalApiItems(result.getTotalApiItems() + response.getItem().size());
-                                                    } else {
-                                                        log.info("[{}] 페이지 {}에 더 이상 eBook 아이템이 없습니다.", syncKey, pageNumber);
-                                                    }
-                                                }
-                                            })
-                                            .flatMapMany(pageResponse -> Flux.fromIterable(
-                                                    (pageResponse != null && pageResponse.getItem() != null) ? pageResponse.getItem() : Collections.<AladinBookItem>emptyList()
-                                            ))
-                                            .onErrorResume(e -> {
-                                                log.warn("[{}] eBook 페이지 {} 처리 중 오류 발생하여 건너<0xEB><0x9A><0x81>니다: {}", syncKey, pageNumber, e.getMessage());
-                                                return Flux.empty();
-                                            }),
-                                    1)
-                            .filter(this::isValidEBookItem)
-                            .publishOn(Schedulers.boundedElastic())
-                            .flatMap(apiItem -> processBookItem(apiItem, result))
-                            .collectList()
-                            .flatMap(booksToSaveOrUpdate ->
-                                    saveBooksInBatch(booksToSaveOrUpdate, result)
-                                            .onErrorResume(saveError -> {
-                                                log.error("[{}] eBook DB 저장/업데이트 중 오류 발생!", syncKey, saveError);
-                                                result.setErrorOccurred(true);
-                                                return Mono.just(result);
-                                            })
-                            )
-                            .flatMap(savedResult -> {
-                                int actualLastProcessed = currentMaxProcessedPage.get();
-                                if (savedResult.getTotalApiItems() == 0 && actualLastProcessed == lastProcessedPage && startPage > lastProcessedPage) {
-                                    log.info("[{}] API에서 가져온 eBook 아이템이 없어 실제 처리된 페이지 번호 변경 없음 ({} -> {}).",
-                                            syncKey, lastProcessedPage, actualLastProcessed);
-                                }
-                                savedResult.setActualLastProcessedPage(actualLastProcessed);
-
-                                if (!savedResult.isErrorOccurred() && actualLastProcessed > lastProcessedPage) {
-                                    log.info("[{}] 성공적으로 eBook 페이지 처리 완료 ({} -> {}). Sync 상태 업데이트 시도.",
-                                            syncKey, lastProcessedPage, actualLastProcessed);
-                                    return updateSyncStatus(syncKey, actualLastProcessed)
-                                            .thenReturn(savedResult)
-                                            .onErrorResume(updateError -> {
-                                                log.error("[{}] eBook Sync 상태 업데이트 중 오류 발생!", syncKey, updateError);
-                                                savedResult.setErrorOccurred(true);
-                                                return Mono.just(savedResult);
-                                            });
-                                } else {
-                                    if (savedResult.isErrorOccurred()) {
-                                        log.error("[{}] 이전 단계 에러로 인해 eBook Sync 상태 업데이트 건너<0xEB><0x9A><0x81> (LastProcessed: {}, CurrentMax: {})",
-                                                syncKey, lastProcessedPage, actualLastProcessed);
-                                    } else {
-                                        log.warn("[{}] 신규 처리된 eBook 페이지 없음. Sync 상태 업데이트 건너<0xEB><0x9A><0x81> (LastProcessed: {}, CurrentMax: {})",
-                                                syncKey, lastProcessedPage, actualLastProcessed);
-                                    }
-                                    return Mono.just(savedResult);
-                                }
-                            });
-                })
-                .onErrorResume(finalError -> {
-                    log.error("[{}] eBook 배치 처리 중 예측하지 못한 최종 에러 발생: {}", syncKey, finalError.getMessage(), finalError);
-                    result.setErrorOccurred(true);
-                    return Mono.just(result);
-                });
-    }
-
-    private Mono<AladinApiResponse> fetchAladinBestsellerPage(int categoryId, int pageNumber, String searchTarget) {
-        log.debug("알라딘 베스트셀러 API 요청: CategoryId={}, Page={}, SearchTarget={}", categoryId, pageNumber, searchTarget);
+    /**
+     * 상품 리스트 API(ItemList)에서 카테고리 목록 한 페이지를 스트리밍으로 가져옵니다. (CatalogSyncService에서 사용)
+     * 아이템은 본문이 도착하는 대로 내보내며, 요청 한도/재시도 후에도 실패하면 에러를 그대로 전달합니다.
+     * @param queryType 리스트 종류 (예: "Bestseller", "ItemNewAll")
+     * @param searchTarget "Book" 또는 "eBook"
+     */
+    public Flux<AladinBookItem> streamCategoryListItems(int categoryId, int pageNumber, String queryType, String searchTarget) {
+        log.debug("알라딘 리스트 API 요청: QueryType={}, CategoryId={}, Page={}, SearchTarget={}", queryType, categoryId, pageNumber, searchTarget);
         URI uri = UriComponentsBuilder
                 .fromHttpUrl(apiListUrl)
                 .queryParam("ttbkey", apiKey)
-                .queryParam("QueryType", "Bestseller")
+                .queryParam("QueryType", queryType)
                 .queryParam("MaxResults", MAX_RESULTS_PER_PAGE)
                 .queryParam("start", pageNumber)
                 .queryParam("SearchTarget", searchTarget)
@@ -388,49 +335,10 @@ public class AladinService {
                 .build()
                 .toUri();
 
-        return webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(String.class)
-                .flatMap(responseBody -> {
-                    log.trace("[Bestseller CatId={}, Target={}, Page={}] API 응답 문자열: {}", categoryId, searchTarget, pageNumber, responseBody);
-                    try {
-                        if (responseBody != null && responseBody.trim().startsWith("{")) {
-                            AladinApiResponse responseDto = objectMapper.readValue(responseBody, com.my.bookduck.controller.response.AladinApiResponse.class);
-                            if (responseDto.getItem() == null) {
-                                responseDto.setItem(Collections.emptyList());
-                            }
-                            return Mono.just(responseDto);
-                        } else {
-                            log.error("[Bestseller CatId={}, Target={}, Page={}] API 응답이 JSON 형식이 아님. 응답: {}", categoryId, searchTarget, pageNumber, responseBody.substring(0, Math.min(responseBody.length(), 500)));
-                            return Mono.error(new RuntimeException("API 응답이 JSON 형식이 아님"));
-                        }
-                    } catch (Exception e) {
-                        log.error("[Bestseller CatId={}, Target={}, Page={}] API 응답 JSON 파싱 실패: {}, 응답 일부: {}",
-                                categoryId, searchTarget, pageNumber, e.getMessage(), responseBody.substring(0, Math.min(responseBody.length(), 500)), e);
-                        return Mono.error(new RuntimeException("API 응답 JSON 파싱 실패", e));
-                    }
-                })
-                .timeout(API_TIMEOUT)
-                .doOnError(error -> {
-                    if (!(error instanceof RuntimeException && (error.getMessage().contains("파싱 실패") || error.getMessage().contains("JSON 형식이 아님")))) {
-                        log.error("알라딘 베스트셀러 API 페이지 {} (CatId={}, Target={}) 호출 또는 네트워크 오류: {}", pageNumber, categoryId, searchTarget, error.getMessage(), error);
-                    }
-                })
-                .onErrorResume(e -> {
-                    log.warn("fetchAladinBestsellerPage 최종 에러 처리: CatId={}, Target={}, Page={}. 빈 응답 반환. 에러: {}", categoryId, searchTarget, pageNumber, e.getMessage());
-                    AladinApiResponse emptyResponse = new AladinApiResponse();
-                    emptyResponse.setItem(Collections.emptyList());
-                    return Mono.just(emptyResponse);
-                });
-    }
-
-    private boolean isResponseValid(AladinApiResponse response, String context, int pageNumber) {
-        if (response == null) {
-            log.warn("[{}] 알라딘 API 페이지 {} 에 대한 처리된 응답이 null입니다.", context, pageNumber);
-            return false;
-        }
-        return true;
+        // 호출 간격/동시성/재시도/서킷은 스케줄러가 담당 (재시도 후에도 실패하면 에러를 그대로 전달)
+        return streamItems("ItemList", uri, new AladinApiResponse())
+                .doOnError(error -> log.error("알라딘 리스트 API({}) 페이지 {} (CatId={}, Target={}) 호출 또는 네트워크 오류: {}",
+                        queryType, pageNumber, categoryId, searchTarget, error.getMessage(), error));
     }
 
     private boolean isValidBookItem(AladinBookItem item) {
@@ -457,119 +365,58 @@ public class AladinService {
         return true;
     }
 
-    private Mono<Book> processBookItem(AladinBookItem apiItem, SyncResult result) {
-        // ★수정★: apiItem.getIsbn13()은 Long 타입. Book 엔티티의 ID도 Long 타입이어야 함.
-        return Mono.fromCallable(() -> bookRepository.findById(apiItem.getIsbn13()))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(existingBookOpt -> {
-                    if (existingBookOpt.isPresent()) {
-                        Book existingBook = existingBookOpt.get();
-                        boolean updated = updateBookIfNeeded(existingBook, apiItem);
-                        if (updated) {
-                            log.debug("기존 책 정보 업데이트 대상: ISBN={}", apiItem.getIsbn13());
-                            result.incrementUpdatedCount();
-                            return Mono.just(existingBook);
-                        } else {
-                            log.trace("기존 책 정보 변경 없음: ISBN={}", apiItem.getIsbn13());
-                            return Mono.empty();
-                        }
-                    } else {
-                        Book newBook = convertToBookEntity(apiItem);
-                        if (newBook != null) {
-                            log.debug("새로운 책 저장 대상: ISBN={}", apiItem.getIsbn13());
-                            result.incrementSavedCount();
-                            return Mono.just(newBook);
-                        } else {
-                            log.warn("AladinBookItem을 Book 엔티티로 변환 실패: ISBN={}", apiItem.getIsbn13());
-                            return Mono.empty();
-                        }
-                    }
-                });
-    }
-
-    private boolean updateBookIfNeeded(Book existingBook, AladinBookItem apiItem) {
-        boolean changed = false;
-        if (!Objects.equals(existingBook.getTitle(), apiItem.getTitle())) {
-            existingBook.setTitle(apiItem.getTitle());
-            changed = true;
-        }
-        if (!Objects.equals(existingBook.getCover(), apiItem.getCover())) {
-            existingBook.setCover(apiItem.getCover());
-            changed = true;
-        }
-        if (!Objects.equals(existingBook.getWriter(), apiItem.getAuthor())) {
-            existingBook.setWriter(apiItem.getAuthor());
-            changed = true;
-        }
-        if (!Objects.equals(existingBook.getPublishing(), apiItem.getPublisher())) {
-            existingBook.setPublishing(apiItem.getPublisher());
-            changed = true;
-        }
-        if (existingBook.getPrice() != apiItem.getPriceStandard()) {
-            existingBook.setPrice(apiItem.getPriceStandard());
-            changed = true;
-        }
-        LocalDate apiPubDate = Book.parseDate(apiItem.getPubDate());
-        if (apiPubDate != null && !Objects.equals(existingBook.getPublicationDate(), apiPubDate)) {
-            existingBook.setPublicationDate(apiPubDate);
-            changed = true;
-        }
-        // Book 엔티티에 mallType 필드가 있고, 업데이트하고 싶다면 아래 주석 해제 및 수정
-        // if (apiItem.getMallType() != null && (existingBook.getMallType() == null || !existingBook.getMallType().equalsIgnoreCase(apiItem.getMallType()))) {
-        //    existingBook.setMallType(apiItem.getMallType().toUpperCase());
-        //    changed = true;
-        // }
-        return changed;
-    }
-
-    private Book convertToBookEntity(AladinBookItem item) {
-        try {
-            LocalDate publicationDate = Book.parseDate(item.getPubDate());
-            // ★수정★: item.getIsbn13()은 Long 타입. Book 엔티티의 setIsbn13도 Long을 받아야 함.
-            return Book.aladdinBuilder()
-                    .title(item.getTitle())
-                    .cover(item.getCover())
-                    .writer(item.getAuthor())
-                    .publicationDate(publicationDate)
-                    .publishing(item.getPublisher())
-                    .price(item.getPriceStandard())
-                    .isbn13(item.getIsbn13()) // ★수정★: Long 타입 그대로 전달
-                    // Book 엔티티에 mallType 필드가 있다면 여기서 설정
-                    // .mallType(item.getMallType() != null ? item.getMallType().toUpperCase() : null)
-                    .buildFromAladdin();
-        } catch (Exception e) {
-            log.error("Book 엔티티 변환 중 오류 발생: isbn13={}, title={}, 오류: {}",
-                    item.getIsbn13(), item.getTitle(), e.getMessage(), e);
-            return null;
-        }
+    /**
+     * 카테고리 목록 아이템 묶음(페이지 또는 스트리밍 중 모인 일부)을 검증 후 일괄 upsert 합니다. searchTarget이 eBook이면 eBook 아이템만 저장합니다.
+     */
+    public Mono<SyncResult> storeListItems(List<AladinBookItem> pageItems, String searchTarget, SyncResult result, String context) {
+        Predicate<AladinBookItem> validator = "eBook".equalsIgnoreCase(searchTarget) ? this::isValidEBookItem : this::isValidBookItem;
+        return upsertPage(pageItems, validator, result, context);
     }
 
-    private Mono<SyncResult> saveBooksInBatch(List<Book> booksToSaveOrUpdate, SyncResult result) {
-        if (booksToSaveOrUpdate == null || booksToSaveOrUpdate.isEmpty()) {
-            log.info("DB에 저장하거나 업데이트할 책이 없습니다.");
+    /**
+     * API 한 페이지 분량의 아이템을 검증한 뒤 book 테이블에 일괄 upsert 하고 결과를 누적합니다.
+     * 실패하면 errorOccurred를 표시하고 다음 페이지를 계속 처리합니다. (Sync 상태는 갱신되지 않음)
+     */
+    private Mono<SyncResult> upsertPage(List<AladinBookItem> pageItems, Predicate<AladinBookItem> validator, SyncResult result, String context) {
+        List<BookUpsertWriter.BookRow> rows = pageItems.stream()
+                .filter(validator)
+                .map(this::toBookRow)
+                .toList();
+        if (rows.isEmpty()) {
             return Mono.just(result);
         }
-        return Mono.fromRunnable(() -> {
-                    bookRepository.saveAll(booksToSaveOrUpdate);
-                    log.info("이번 배치에서 총 {}권의 책 정보를 저장 또는 업데이트 완료 (누적 신규: {}, 누적 업데이트: {}).",
-                            booksToSaveOrUpdate.size(),
-                            result.getSavedCount(), result.getUpdatedCount());
-                })
+        return Mono.fromCallable(() -> bookUpsertWriter.upsert(rows))
                 .subscribeOn(Schedulers.boundedElastic())
-                .thenReturn(result);
+                .map(upsert -> {
+                    result.addUpsert(upsert);
+                    log.debug("[{}] 페이지 upsert: 신규 {}, 업데이트 {}, 변경 없음 {} ({} ms)",
+                            context, upsert.inserted(), upsert.updated(), upsert.unchanged(), upsert.elapsedMillis());
+                    return result;
+                })
+                .onErrorResume(saveError -> {
+                    log.error("[{}] DB 저장/업데이트 중 오류 발생!", context, saveError);
+                    result.setErrorOccurred(true);
+                    return Mono.just(result);
+                });
     }
 
-    private Mono<Void> updateSyncStatus(String syncKey, int lastProcessedPage) {
-        return Mono.fromRunnable(() -> {
-                    SyncStatus status = syncStatusRepository.findById(syncKey)
-                            .orElse(new SyncStatus(syncKey, 0));
-                    status.setLastProcessedPage(lastProcessedPage);
-                    status.setLastUpdated(LocalDateTime.now());
-                    syncStatusRepository.save(status);
-                    log.info("Sync 상태 업데이트 완료: Key={}, LastProcessedPage={}", syncKey, lastProcessedPage);
-                })
-                .subscribeOn(Schedulers.boundedElastic())
-                .then();
+    private SyncResult finishRun(SyncResult result, long runStarted, String context) {
+        result.setElapsedMillis(System.currentTimeMillis() - runStarted);
+        log.info("[{}] 이번 실행 DB 반영 완료: 신규 {}, 업데이트 {}, 변경 없음 {}, {} ms ({} rows/sec)",
+                context, result.getSavedCount(), result.getUpdatedCount(), result.getUnchangedCount(),
+                result.getElapsedMillis(), String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    private BookUpsertWriter.BookRow toBookRow(AladinBookItem item) {
+        return new BookUpsertWriter.BookRow(
+                item.getIsbn13(),
+                item.getTitle(),
+                item.getCover(),
+                item.getAuthor(),
+                item.getPublisher(),
+                item.getPriceStandard(),
+                Book.parseDate(item.getPubDate()));
     }
 
     /**
@@ -585,135 +432,32 @@ public class AladinService {
         String 작업설명 = String.format("eBook_search(keyword:%s, type:%s, catId:%d)", searchKeyword, queryType, categoryId);
         log.info("알라딘 API eBook 대량 검색 및 저장 작업 시작: {}", 작업설명);
         SyncResult result = new SyncResult(); // 작업 결과를 담을 객체
-        result.setStartPage(1); // 검색은 항상 1페이지부터 시작한다고 가정
+        result.setStartPage(1); // 검색은 항상 1페이지부터 시작
 
         // ★주의★: 상품 검색 API는 한 페이지에 최대 100개까지 가능합니다.
         final int maxResultsPerSearchPage = 100; // 상품 검색 API의 MaxResults 한계값
-
-        AtomicInteger currentPage = new AtomicInteger(1);
-        AtomicInteger totalFetchedItemsThisRun = new AtomicInteger(0);
-        // API 응답의 totalResults를 저장할 변수 (첫 응답에서 설정)
-        AtomicInteger apiTotalResults = new AtomicInteger(Integer.MAX_VALUE);
-
-        return Flux.defer(() -> {
-                    // 첫 페이지를 먼저 호출하여 totalResults를 얻고, 추가 페이지 가져올지 결정
-                    if (currentPage.get() == 1) {
-                        return fetchAladinSearchPage(searchKeyword, queryType, categoryId, currentPage.get(), maxResultsPerSearchPage)
-                                .doOnSuccess(response -> {
-                                    if (response != null && response.getTotalResults() > 0) {
-                                        apiTotalResults.set(response.getTotalResults());
-                                        log.info("[{}] 첫 페이지 API 응답: totalResults={}", 작업설명, response.getTotalResults());
-                                    } else {
-                                        apiTotalResults.set(0); // 결과 없음
-                                        log.info("[{}] 첫 페이지 API 응답: 결과 없음.", 작업설명);
-                                    }
-                                });
-                    }
-                    // 이미 totalResults를 알고 있다면, 추가 페이지 요청은 생략될 수 있음 (아래 takeWhile 조건에서 처리)
-                    return Mono.empty(); // 실제로는 이 부분이 실행되지 않도록 takeWhile에서 제어
-                })
-                .expand(lastResponse -> { // 이전 응답을 기반으로 다음 요청 생성
-                    int nextPage = currentPage.incrementAndGet();
-                    int fetchedSoFar = totalFetchedItemsThisRun.get(); // 이전 expand 단계까지 누적된 아이템 수
-                    // (실제로는 Flux.range 와 유사하게 페이지 번호로 제어하는게 더 명확)
-
-                    // 가져올 페이지 수 제한 (maxPagesToFetch)
-                    // API가 제공하는 전체 페이지 수 제한 (apiTotalResults / maxResultsPerSearchPage)
-                    // 둘 중 작은 값까지, 또는 totalResults가 0이면 중단
-                    if (apiTotalResults.get() == 0 || nextPage > maxPagesToFetch || ((nextPage -1) * maxResultsPerSearchPage >= apiTotalResults.get())) {
-                        log.info("[{}] 더 이상 가져올 페이지가 없거나 최대 페이지 도달. 다음 페이지: {}, API 총 결과: {}, 최대 요청 페이지: {}",
-                                작업설명, nextPage, apiTotalResults.get(), maxPagesToFetch);
-                        return Mono.empty(); // 확장 중단
-                    }
-
-                    log.info("[{}] 다음 페이지({}) eBook 검색 시도.", 작업설명, nextPage);
-                    return fetchAladinSearchPage(searchKeyword, queryType, categoryId, nextPage, maxResultsPerSearchPage)
-                            .delayElement(Duration.ofMillis(200)); // ★추가★: 연속 API 호출 시 약간의 딜레이 (Rate Limiting 방지)
-                })
-                // expand는 첫번째 요소도 포함하므로, 첫번째 요소 처리를 위해 concatMap 또는 flatMap 사용
-                // 여기서는 Flux.range를 사용하여 페이지 번호를 생성하고, 각 페이지마다 API를 호출하는 방식으로 변경하는 것이 더 직관적일 수 있습니다.
-                // 아래는 Flux.range를 사용한 대체 방식입니다.
-                // --- Flux.range 사용 방식으로 변경 ---
-                .thenMany(Flux.defer(() -> { // thenMany를 사용하여 위의 expand 결과를 버리고 새로운 Flux 시작
-                    if (apiTotalResults.get() == 0 && currentPage.get() == 1) { // 첫 호출에서 결과가 없었으면
-                        return Flux.empty();
+        long runStarted = System.currentTimeMillis();
+
+        // 첫 페이지로 totalResults를 확인한 뒤 나머지 페이지(2페이지부터)를 순서대로 요청
+        // 호출 간격/동시성/재시도는 AladinRequestScheduler가 조절하므로 여기서 별도 지연을 두지 않음
+        AladinApiResponse firstPageHeader = new AladinApiResponse();
+        return storeSearchPage(searchKeyword, queryType, categoryId, 1, maxResultsPerSearchPage, firstPageHeader, result, 작업설명)
+                .thenMany(Flux.defer(() -> {
+                    int apiTotalResults = firstPageHeader.getTotalResults() != null ? firstPageHeader.getTotalResults() : 0;
+                    if (apiTotalResults <= 0) {
+                        log.info("[{}] 첫 페이지 API 응답: 결과 없음.", 작업설명);
+                        return Flux.<Void>empty();
                     }
-                    // 실제 가져올 총 페이지 수 계산
-                    int totalAvailablePagesFromApi = (apiTotalResults.get() + maxResultsPerSearchPage - 1) / maxResultsPerSearchPage;
+                    int totalAvailablePagesFromApi = (apiTotalResults + maxResultsPerSearchPage - 1) / maxResultsPerSearchPage;
                     int pagesToProcess = Math.min(totalAvailablePagesFromApi, maxPagesToFetch);
-                    // currentPage가 1일때 이미 첫페이지를 가져왔다면, 2페이지부터 시작
-                    // 여기서는 첫 페이지 포함하여 다시 range로 처리 (중복 호출 가능성 있으므로 주의 또는 첫페이지 호출 분리)
-
-                    // 더 명확하게, 첫 페이지 호출은 별도로 하고, Flux.range는 2페이지부터 시작하도록 수정
-                    // 첫 페이지 데이터 처리
-                    Mono<AladinApiResponse> firstPageMono;
-                    if(currentPage.get() == 1 && apiTotalResults.get() == Integer.MAX_VALUE) { // 아직 첫페이지 호출 전이라면
-                        firstPageMono = fetchAladinSearchPage(searchKeyword, queryType, categoryId, 1, maxResultsPerSearchPage)
-                                .doOnSuccess(response -> {
-                                    if (response != null && response.getTotalResults() > 0) {
-                                        apiTotalResults.set(response.getTotalResults());
-                                        result.setLastAttemptedPage(1); // 시도한 마지막 페이지 기록
-                                        currentMaxProcessedPageForSearch.set(1); // 실제 처리된 페이지
-                                        log.info("[{}] 첫 페이지 API 응답: totalResults={}", 작업설명, response.getTotalResults());
-                                    } else {
-                                        apiTotalResults.set(0);
-                                        log.info("[{}] 첫 페이지 API 응답: 결과 없음.", 작업설명);
-                                    }
-                                });
-                    } else {
-                        firstPageMono = Mono.empty(); // 이미 처리되었거나 필요 없음
-                    }
-
-                    // 나머지 페이지 데이터 처리 (2페이지부터)
-                    Flux<AladinApiResponse> subsequentPagesFlux = Flux.defer(() -> {
-                        if (apiTotalResults.get() == 0) return Flux.empty(); // 첫 페이지에서 결과 없으면 더 진행 안함
-
-                        int actualMaxPages = (apiTotalResults.get() + maxResultsPerSearchPage - 1) / maxResultsPerSearchPage;
-                        int limitPages = Math.min(actualMaxPages, maxPagesToFetch);
-
-                        if (limitPages < 2) return Flux.empty(); // 1페이지만 있거나, maxPagesToFetch가 1이면 추가 페이지 없음
-
-                        // currentPage.get()은 첫 페이지 호출 후 1 또는 그 이상일 수 있음.
-                        // Flux.range는 시작 페이지부터 개수를 의미하므로, (2, limitPages - 1) 또는 (start, count) 형태
-                        int startFetchingFromPage = 2; // 항상 2페이지부터
-                        int countOfSubsequentPages = limitPages - 1; // 2페이지부터 가져올 페이지 수
-
-                        if (countOfSubsequentPages <= 0) return Flux.empty();
-
-                        log.info("[{}] 2페이지부터 최대 {}페이지까지 (총 {}개) 추가 검색 시도", 작업설명, startFetchingFromPage + countOfSubsequentPages -1, countOfSubsequentPages);
-                        return Flux.range(startFetchingFromPage, countOfSubsequentPages)
-                                .delayElements(Duration.ofMillis(250)) // 연속 API 호출 시 딜레이
-                                .concatMap(pageIdx -> {
-                                    result.setLastAttemptedPage(pageIdx); // 시도한 마지막 페이지 기록
-                                    currentMaxProcessedPageForSearch.set(pageIdx); // 실제 처리된 페이지
-                                    return fetchAladinSearchPage(searchKeyword, queryType, categoryId, pageIdx, maxResultsPerSearchPage);
-                                });
-                    });
-                    // 첫 페이지 Mono와 나머지 페이지 Flux를 합침
-                    return Flux.concat(firstPageMono, subsequentPagesFlux);
+                    log.info("[{}] 첫 페이지 API 응답: totalResults={}, 처리할 페이지 수={}", 작업설명, apiTotalResults, pagesToProcess);
+                    return Flux.range(2, Math.max(0, pagesToProcess - 1))
+                            .concatMap(pageIdx -> storeSearchPage(searchKeyword, queryType, categoryId, pageIdx, maxResultsPerSearchPage,
+                                    new AladinApiResponse(), result, 작업설명));
                 }))
-                // --- Flux.range 방식 종료 ---
-                .filter(response -> response != null && response.getItem() != null && !response.getItem().isEmpty()) // 유효한 응답만 필터링
-                .doOnNext(response -> {
-                    totalFetchedItemsThisRun.addAndGet(response.getItem().size());
-                    result.setTotalApiItems(totalFetchedItemsThisRun.get()); // API에서 가져온 총 아이템 수 업데이트
-                })
-                .flatMapIterable(AladinApiResponse::getItem) // AladinBookItem 스트림으로 변환
-                .filter(this::isValidEBookItem) // eBook 아이템 유효성 검사 (ISBN, mallType 등)
-                .publishOn(Schedulers.boundedElastic()) // DB 작업을 위한 스레드풀로 전환
-                .flatMap(apiItem -> processBookItem(apiItem, result)) // 기존 메소드 재활용 (신규/업데이트 카운트)
-                .collectList()
-                .flatMap(booksToSaveOrUpdate ->
-                        saveBooksInBatch(booksToSaveOrUpdate, result) // 기존 메소드 재활용
-                                .onErrorResume(saveError -> {
-                                    log.error("[{}] eBook 대량 검색 결과 DB 저장 중 오류 발생!", 작업설명, saveError);
-                                    result.setErrorOccurred(true);
-                                    return Mono.just(result);
-                                })
-                )
+                .then(Mono.fromCallable(() -> finishRun(result, runStarted, 작업설명)))
                 .doOnSuccess(finalResult -> {
-                    // result.setActualLastProcessedPage(...); 이 값은 위에서 setLastAttemptedPage로 유사하게 설정됨
-                    // 단순 검색 수집이므로 SyncStatus 업데이트는 선택적
+                    // 단순 검색 수집이므로 SyncStatus 업데이트는 하지 않음
                     log.info("[{}] 작업 완료. 총 API 아이템: {}, 신규 저장: {}, 업데이트: {}",
                             작업설명, finalResult.getTotalApiItems(), finalResult.getSavedCount(), finalResult.getUpdatedCount());
                 })
@@ -723,9 +467,27 @@ public class AladinService {
                     return Mono.just(result);
                 });
     }
-    // currentMaxProcessedPageForSearch 필드 추가 (fetchAndStoreEBooksBySearch 메소드용)
-    private final AtomicInteger currentMaxProcessedPageForSearch = new AtomicInteger(0);
 
+    /**
+     * 검색 결과 한 페이지를 스트리밍으로 받아, 아이템이 STORE_CHUNK_SIZE개 모일 때마다 바로 upsert 합니다.
+     * 재시도 후에도 실패하면 작업을 오류로 표시하고 다음 페이지로 계속 진행합니다.
+     */
+    private Mono<Void> storeSearchPage(String keyword, String queryType, int categoryId, int pageNumber, int maxResults,
+                                       AladinApiResponse header, SyncResult result, String context) {
+        result.setLastAttemptedPage(pageNumber);
+        return streamSearchPageItems(keyword, queryType, categoryId, pageNumber, maxResults, header)
+                .doOnNext(item -> result.setTotalApiItems(result.getTotalApiItems() + 1))
+                .buffer(STORE_CHUNK_SIZE)
+                // eBook 아이템 유효성 검사 후 IN 조회 1회 + batch INSERT/UPDATE
+                .concatMap(chunk -> upsertPage(chunk, this::isValidEBookItem, result, context))
+                .then()
+                .doOnSuccess(ignored -> result.setActualLastProcessedPage(pageNumber))
+                .onErrorResume(e -> {
+                    log.warn("[{}] 검색 페이지 {} 처리 실패, 작업을 오류로 표시합니다: {}", context, pageNumber, e.getMessage());
+                    result.setErrorOccurred(true);
+                    return Mono.empty();
+                });
+    }
 
     /**
      * 알라딘 상품 검색 API를 호출하는 내부 메소드 (ItemSearch.aspx 사용)
@@ -735,9 +497,11 @@ public class AladinService {
      * @param categoryId 카테고리 ID
      * @param pageNumber 페이지 번호
      * @param maxResults 페이지당 결과 수
-     * @return Mono<AladinApiResponse>
+     * @param header totalResults 등 최상위 필드를 채울 객체
+     * @return 도착하는 순서대로의 아이템
      */
-    private Mono<AladinApiResponse> fetchAladinSearchPage(String keyword, String queryType, int categoryId, int pageNumber, int maxResults) {
+    private Flux<AladinBookItem> streamSearchPageItems(String keyword, String queryType, int categoryId, int pageNumber, int maxResults,
+                                                       AladinApiResponse header) {
         String 작업명 = String.format("상품검색(키워드:%s,타입:%s,카테고리:%d,페이지:%d)", keyword, queryType, categoryId, pageNumber);
         log.debug("알라딘 상품 검색 API 요청: {}", 작업명);
 
@@ -758,51 +522,26 @@ public class AladinService {
 
         URI uri = uriBuilder.encode(StandardCharsets.UTF_8).build().toUri();
 
-        return webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(String.class)
-                .flatMap(responseBody -> {
-                    log.trace("[{}] API 응답 문자열: {}", 작업명, responseBody);
-                    try {
-                        if (responseBody != null && responseBody.trim().startsWith("{")) {
-                            AladinApiResponse responseDto = objectMapper.readValue(responseBody, com.my.bookduck.controller.response.AladinApiResponse.class);
-                            if (responseDto.getItem() == null) {
-                                responseDto.setItem(Collections.emptyList());
-                            }
-                            // totalResults가 0으로 오는 경우가 있으므로, 실제 item 개수도 확인
-                            if (responseDto.getTotalResults() == 0 && responseDto.getItem() != null && !responseDto.getItem().isEmpty()) {
-                                log.warn("[{}] API 응답에서 totalResults는 0이지만 item 리스트는 비어있지 않음. 실제 아이템 수: {}", 작업명, responseDto.getItem().size());
-                                // 필요시 totalResults를 item.size()로 보정할 수 있으나, API 스펙을 따르는 것이 일반적
-                            }
-                            return Mono.just(responseDto);
-                        } else {
-                            log.error("[{}] API 응답이 JSON 형식이 아님. 응답: {}", 작업명, responseBody.substring(0, Math.min(responseBody.length(), 500)));
-                            // 빈 응답 또는 에러 DTO 반환하여 파이프라인 계속 진행
-                            AladinApiResponse emptyResponse = new AladinApiResponse();
-                            emptyResponse.setItem(Collections.emptyList());
-                            emptyResponse.setTotalResults(0); // 확실히 0으로 설정
-                            return Mono.just(emptyResponse); // 에러 대신 빈 결과로 처리
-                        }
-                    } catch (Exception e) {
-                        log.error("[{}] API 응답 JSON 파싱 실패: {}, 응답 일부: {}",
-                                작업명, e.getMessage(), responseBody.substring(0, Math.min(responseBody.length(), 500)), e);
-                        AladinApiResponse errorResponse = new AladinApiResponse();
-                        errorResponse.setItem(Collections.emptyList());
-                        errorResponse.setTotalResults(0);
-                        return Mono.just(errorResponse); // 파싱 에러도 빈 결과로 처리
-                    }
-                })
-                .timeout(API_TIMEOUT)
+        return streamItems("ItemSearch", uri, header)
                 .doOnError(error -> {
                     log.error("알라딘 상품 검색 API ({}) 호출 또는 네트워크 오류: {}", 작업명, error.getMessage(), error);
-                })
-                .onErrorResume(e -> { // 최종 에러 처리: 빈 응답 반환
-                    log.warn("fetchAladinSearchPage 최종 에러 처리 ({}). 빈 응답 반환. 에러: {}", 작업명, e.getMessage());
-                    AladinApiResponse emptyResponse = new AladinApiResponse();
-                    emptyResponse.setItem(Collections.emptyList());
-                    emptyResponse.setTotalResults(0);
-                    return Mono.just(emptyResponse);
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * 알라딘 응답 본문을 문자열로 모으지 않고 item 배열을 토큰 단위로 읽어 아이템을 도착하는 대로 내보냅니다.
+     * 재시도는 응답 헤더를 받을 때까지 적용되고, 동시 요청 슬롯은 본문을 다 읽을(또는 실패/취소될) 때까지 유지합니다.
+     * 본문 수신 중에는 API_TIMEOUT 이상 데이터가 끊기면 실패합니다.
+     */
+    private Flux<AladinBookItem> streamItems(String endpoint, URI uri, AladinApiResponse header) {
+        return aladinRequestScheduler.executeStreaming(endpoint, () -> webClient.get()
+                                .uri(uri)
+                                .retrieve()
+                                .toEntityFlux(DataBuffer.class)
+                                .timeout(API_TIMEOUT),
+                        entity -> entity.getBody() != null
+                                ? aladinItemStreamDecoder.decode(entity.getBody(), header)
+                                : Flux.<AladinBookItem>empty())
+                .timeout(API_TIMEOUT);
+    }
+}
@@ -0,0 +1,411 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BoardListSliceResponse;
+import com.my.bookduck.controller.response.BoardListViewDto;
+import com.my.bookduck.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 홈 화면 게시글 목록의 메모리 피드입니다. 게시글마다 목록에 보여줄 값(BoardListViewDto)을 미리 만들어
+ * 작성일순/책 제목순 두 가지 정렬로 보관하므로, 페이지 요청마다 book/group 조인이나 엔티티 변환을 하지 않습니다.
+ * <ul>
+ *     <li>기동 완료 후 조인 쿼리 한 번으로 적재, 이후에는 변경 통지만으로 갱신 (주기적 전체 재적재 없음)</li>
+ *     <li>게시글 생성/삭제(연쇄 삭제 포함)는 BoardFeedListener가, 책 제목/표지 변경은 BoardFeedBookListener가, 도서 일괄 동기화는 BookUpsertWriter가,
+ *         그룹 이름 변경은 GroupService가 커밋 후 반영</li>
+ *     <li>재적재(rebuild)는 새 피드를 락 밖에서 만든 뒤 교체하며, 조회 시작 이후 들어온 변경은 새 피드에 다시 적용</li>
+ * </ul>
+ * 책 제목 검색(글자/2-gram 색인)과 '내가 구매한 책' 조건(도서별 게시글 색인 × 정렬된 보유 도서 ID)은 후보 게시글만 골라 정렬합니다.
+ * 페이지는 커서(이전 구간 마지막 게시글 ID) 기반입니다. 커서 게시글이 그 사이 삭제돼도 최근 삭제분의 정렬 키를 기억해 이어서 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardFeed {
+
+    /** 정렬 기준 */
+    public enum Order {
+        CREATED_AT, BOOK_TITLE
+    }
+
+    private static final int REMOVED_CURSOR_CAPACITY = 1024;
+
+    // 같은 값이면 게시글 ID로 순서를 고정 (커서 위치가 유일하도록)
+    private static final Comparator<BoardListViewDto> CREATED_AT_ORDER = Comparator
+            .comparing(BoardListViewDto::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(BoardListViewDto::getBoardId);
+    private static final Comparator<BoardListViewDto> BOOK_TITLE_ORDER = Comparator
+            .comparing(BoardListViewDto::getBookTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(BoardListViewDto::getBoardId);
+
+    private final BoardRepository boardRepository;
+
+    // 아래 세 필드는 lock으로 보호
+    private State state = new State();
+    // rebuild가 게시글을 조회하는 동안 들어온 변경 (rebuild 중이 아니면 null)
+    private List<Consumer<State>> changesDuringRebuild = null;
+    // 최근 삭제된 게시글 (삭제된 게시글을 커서로 받은 경우 위치 계산용, 오래된 것부터 버림)
+    private final Map<Long, BoardListViewDto> recentlyRemoved = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BoardListViewDto> eldest) {
+            return size() > REMOVED_CURSOR_CAPACITY;
+        }
+    };
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 전체 게시글로 피드를 새로 만들어 교체합니다. 조회와 구성은 락 밖에서 하므로 그동안 목록은 이전 피드를 사용합니다.
+     * 조회를 시작한 뒤 들어온 변경은 교체 직전에 새 피드에 순서대로 다시 적용합니다. (이미 반영된 변경을 다시 적용해도 결과는 같음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State built = new State();
+        try {
+            boardRepository.findAllFeedRows().forEach(built::addRow);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = changesDuringRebuild.size();
+            changesDuringRebuild.forEach(change -> change.accept(built));
+            changesDuringRebuild = null;
+            state = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Board feed built: {} boards, {} changes replayed, {} ms.", built.byId.size(), replayed, System.currentTimeMillis() - started);
+    }
+
+    /** 게시글을 추가(또는 교체)합니다. 트랜잭션 안이면 커밋 후 반영됩니다. */
+    public void put(BoardListViewDto row) {
+        if (row == null || row.getBoardId() == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                recentlyRemoved.remove(row.getBoardId());
+                apply(current -> {
+                    current.removeRow(row.getBoardId());
+                    current.addRow(row);
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** 게시글을 뺍니다. 트랜잭션 안이면 커밋 후 반영됩니다. */
+    public void remove(Long boardId) {
+        if (boardId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                BoardListViewDto removed = state.byId.get(boardId);
+                if (removed != null) {
+                    recentlyRemoved.put(boardId, removed);
+                }
+                apply(current -> current.removeRow(boardId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** 그룹 이름이 바뀌면 해당 그룹 게시글의 표시 이름을 바꿉니다. 트랜잭션 안이면 커밋 후 반영됩니다. */
+    public void renameGroup(Long groupId, String groupName) {
+        if (groupId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                apply(current -> {
+                    List<BoardListViewDto> renamed = new ArrayList<>();
+                    for (BoardListViewDto row : current.byId.values()) {
+                        if (groupId.equals(row.getGroupId())) {
+                            renamed.add(new BoardListViewDto(row.getBoardId(), row.getBookTitle(), row.getBookCover(),
+                                    groupName, row.getGroupId(), row.getBookId(), row.getCreatedAt()));
+                        }
+                    }
+                    renamed.forEach(current::replaceRow);
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 책 제목/표지가 바뀌면 그 책 게시글의 표시 값을 바꿉니다.
+     * 커밋 후 콜백 안에서 호출되므로(BoardFeedBookListener, BookUpsertWriter) 바로 반영합니다.
+     */
+    public void updateBook(Long bookId, String bookTitle, String bookCover) {
+        if (bookId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(current -> {
+                Set<Long> boardIds = current.boardsByBook.get(bookId);
+                if (boardIds == null) {
+                    return;
+                }
+                List<BoardListViewDto> updated = new ArrayList<>(boardIds.size());
+                for (Long boardId : boardIds) {
+                    BoardListViewDto row = current.byId.get(boardId);
+                    if (!Objects.equals(row.getBookTitle(), bookTitle) || !Objects.equals(row.getBookCover(), bookCover)) {
+                        updated.add(new BoardListViewDto(row.getBoardId(), bookTitle, bookCover,
+                                row.getGroupName(), row.getGroupId(), row.getBookId(), row.getCreatedAt()));
+                    }
+                }
+                updated.forEach(current::replaceRow);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출. 현재 피드에 적용하고, rebuild 중이면 새 피드에도 적용되도록 기록
+    private void apply(Consumer<State> change) {
+        change.accept(state);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 정렬 순서대로 cursor 다음부터 조건에 맞는 게시글을 최대 size개 반환합니다.
+     * 조건이 있으면 색인으로 후보 게시글만 먼저 구한 뒤 그 안에서만 정렬/페이지를 나눕니다.
+     * @param cursor 이전 구간의 마지막 게시글 ID (첫 구간이면 null)
+     * @param query 책 제목 검색어 (부분 일치, 대소문자 무시, 빈 값이면 조건 없음)
+     * @param ownedBookIds 오름차순 정렬된 보유 도서 ID (null이면 조건 없음)
+     */
+    public BoardListSliceResponse page(Order order, boolean descending, Long cursor, int size, String query, long[] ownedBookIds) {
+        int limit = Math.max(1, size);
+        String normalizedQuery = (query == null) ? "" : query.trim().toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            State current = state;
+            Comparator<BoardListViewDto> comparator = (order == Order.BOOK_TITLE) ? BOOK_TITLE_ORDER : CREATED_AT_ORDER;
+            NavigableSet<BoardListViewDto> ordered;
+            if (normalizedQuery.isEmpty() && ownedBookIds == null) {
+                ordered = (order == Order.BOOK_TITLE) ? current.byBookTitle : current.byCreatedAt;
+            } else {
+                ordered = new TreeSet<>(comparator);
+                for (Long boardId : candidates(current, normalizedQuery, ownedBookIds)) {
+                    ordered.add(current.byId.get(boardId));
+                }
+            }
+            if (descending) {
+                ordered = ordered.descendingSet();
+            }
+            if (cursor != null) {
+                BoardListViewDto after = current.byId.containsKey(cursor) ? current.byId.get(cursor) : recentlyRemoved.get(cursor);
+                if (after == null) {
+                    log.debug("Board feed cursor {} is unknown, returning an empty slice.", cursor);
+                    return new BoardListSliceResponse(List.of(), false, null);
+                }
+                ordered = ordered.tailSet(after, false);
+            }
+
+            List<BoardListViewDto> boards = new ArrayList<>(limit);
+            Iterator<BoardListViewDto> it = ordered.iterator();
+            while (it.hasNext() && boards.size() < limit) {
+                boards.add(it.next());
+            }
+            boolean hasNext = it.hasNext();
+            Long nextCursor = hasNext ? boards.get(boards.size() - 1).getBoardId() : null;
+            return new BoardListSliceResponse(boards, hasNext, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서 호출. 검색어/보유 도서 조건을 모두 만족하는 게시글 ID
+    private static Set<Long> candidates(State current, String normalizedQuery, long[] ownedBookIds) {
+        Set<Long> byTitle = normalizedQuery.isEmpty() ? null : titleMatches(current, normalizedQuery);
+        if (ownedBookIds == null) {
+            return byTitle;
+        }
+        if (byTitle != null) {
+            // 제목 후보가 이미 좁혀졌으면 후보마다 보유 여부만 이진 탐색
+            Set<Long> result = new HashSet<>();
+            for (Long boardId : byTitle) {
+                if (Arrays.binarySearch(ownedBookIds, current.byId.get(boardId).getBookId()) >= 0) {
+                    result.add(boardId);
+                }
+            }
+            return result;
+        }
+        // 보유 도서와 게시글이 있는 도서 중 적은 쪽을 순회
+        Set<Long> result = new HashSet<>();
+        if (ownedBookIds.length <= current.boardsByBook.size()) {
+            for (long bookId : ownedBookIds) {
+                Set<Long> boards = current.boardsByBook.get(bookId);
+                if (boards != null) {
+                    result.addAll(boards);
+                }
+            }
+        } else {
+            for (Map.Entry<Long, Set<Long>> entry : current.boardsByBook.entrySet()) {
+                if (Arrays.binarySearch(ownedBookIds, entry.getKey()) >= 0) {
+                    result.addAll(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    // 읽기 락 안에서 호출. 1글자는 글자 색인, 2글자 이상은 2-gram 색인의 교집합을 구한 뒤 실제 포함 여부로 확인
+    private static Set<Long> titleMatches(State current, String normalizedQuery) {
+        List<Integer> keys = gramKeys(normalizedQuery);
+        List<Set<Long>> postings = new ArrayList<>(keys.size());
+        for (int key : keys) {
+            Set<Long> posting = current.titleGrams.get(key);
+            if (posting == null) {
+                return Set.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>();
+        for (Long boardId : postings.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < postings.size() && inAll; i++) {
+                inAll = postings.get(i).contains(boardId);
+            }
+            if (inAll && current.normalizedTitles.get(boardId).contains(normalizedQuery)) {
+                result.add(boardId);
+            }
+        }
+        return result;
+    }
+
+    // 1글자: -(글자+1), 2글자 이상: 이웃한 두 글자를 (앞 << 16 | 뒤)로 묶은 키
+    private static List<Integer> gramKeys(String text) {
+        List<Integer> keys = new ArrayList<>();
+        if (text.length() == 1) {
+            keys.add(-(text.charAt(0) + 1));
+            return keys;
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            keys.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+        return keys;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 피드 자료구조. 사용 중인 피드는 BoardFeed의 쓰기 락 안에서만 변경합니다. */
+    private static final class State {
+        private final Map<Long, BoardListViewDto> byId = new HashMap<>();
+        private final TreeSet<BoardListViewDto> byCreatedAt = new TreeSet<>(CREATED_AT_ORDER);
+        private final TreeSet<BoardListViewDto> byBookTitle = new TreeSet<>(BOOK_TITLE_ORDER);
+        // 검색 색인: 제목 글자/2-gram → 게시글 ID, 도서 ID → 게시글 ID, 게시글 ID → 소문자 제목 (부분 일치 확인용)
+        private final Map<Integer, Set<Long>> titleGrams = new HashMap<>();
+        private final Map<Long, Set<Long>> boardsByBook = new HashMap<>();
+        private final Map<Long, String> normalizedTitles = new HashMap<>();
+
+        void addRow(BoardListViewDto row) {
+            Long boardId = row.getBoardId();
+            byId.put(boardId, row);
+            byCreatedAt.add(row);
+            byBookTitle.add(row);
+            if (row.getBookId() != null) {
+                boardsByBook.computeIfAbsent(row.getBookId(), key -> new HashSet<>()).add(boardId);
+            }
+            String title = (row.getBookTitle() == null) ? "" : row.getBookTitle().toLowerCase(Locale.ROOT);
+            normalizedTitles.put(boardId, title);
+            for (int key : titleGramKeys(title)) {
+                titleGrams.computeIfAbsent(key, k -> new HashSet<>()).add(boardId);
+            }
+        }
+
+        BoardListViewDto removeRow(Long boardId) {
+            BoardListViewDto existing = byId.remove(boardId);
+            if (existing != null) {
+                byCreatedAt.remove(existing);
+                byBookTitle.remove(existing);
+                removePosting(boardsByBook, existing.getBookId(), boardId);
+                for (int key : titleGramKeys(normalizedTitles.remove(boardId))) {
+                    removePosting(titleGrams, key, boardId);
+                }
+            }
+            return existing;
+        }
+
+        void replaceRow(BoardListViewDto row) {
+            removeRow(row.getBoardId());
+            addRow(row);
+        }
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> postings, K key, Long boardId) {
+        Set<Long> posting = (key == null) ? null : postings.get(key);
+        if (posting != null && posting.remove(boardId) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    // 색인할 키: 제목의 모든 글자와 모든 2-gram
+    private static Set<Integer> titleGramKeys(String title) {
+        Set<Integer> keys = new HashSet<>();
+        if (title == null) {
+            return keys;
+        }
+        for (int i = 0; i < title.length(); i++) {
+            keys.add(-(title.charAt(i) + 1));
+            if (i + 1 < title.length()) {
+                keys.add((title.charAt(i) << 16) | title.charAt(i + 1));
+            }
+        }
+        return keys;
+    }
+}
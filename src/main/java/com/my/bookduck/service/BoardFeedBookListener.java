@@ -0,0 +1,26 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.domain.book.Book;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Book 제목/표지 변경을 홈 피드(BoardFeed)의 게시글에 반영하는 JPA 엔티티 리스너입니다. 커밋된 뒤에만 반영합니다.
+ * BookUpsertWriter의 일괄 동기화는 JPA를 거치지 않으므로 그쪽에서 직접 BoardFeed.updateBook을 호출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardFeedBookListener {
+
+    private final ObjectProvider<BoardFeed> boardFeedProvider;
+
+    @PostUpdate
+    public void onUpdate(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String cover = book.getCover();
+        AfterCommit.run(() -> boardFeedProvider.getObject().updateBook(id, title, cover));
+    }
+}
@@ -0,0 +1,33 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BoardListViewDto;
+import com.my.bookduck.domain.board.Board;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Board 생성/삭제를 홈 피드(BoardFeed)에 반영하는 JPA 엔티티 리스너입니다.
+ * 그룹/도서 삭제로 게시글이 연쇄 삭제(cascade)되는 경우도 여기서 빠집니다. BoardFeed.put/remove가 커밋된 뒤에 반영합니다.
+ * 책 제목/표지 변경은 BoardFeedBookListener가 반영합니다.
+ * BoardFeed → BoardRepository → EntityManagerFactory 순환을 피하기 위해 피드는 ObjectProvider로 지연 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardFeedListener {
+
+    private final ObjectProvider<BoardFeed> boardFeedProvider;
+
+    @PostPersist
+    public void onBoardSave(Board board) {
+        BoardListViewDto row = new BoardListViewDto(board);
+        boardFeedProvider.getObject().put(row);
+    }
+
+    @PostRemove
+    public void onBoardRemove(Board board) {
+        boardFeedProvider.getObject().remove(board.getId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.my.bookduck.service;
 
+import com.my.bookduck.controller.response.BoardListSliceResponse;
 import com.my.bookduck.domain.board.Board;
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.group.Group;
@@ -8,10 +9,8 @@ import com.my.bookduck.repository.BoardRepository;
 import com.my.bookduck.repository.BookRepository;
 import com.my.bookduck.repository.GroupRepository;
 // import com.my.bookduck.repository.UserRepository; // 필요시 주입
-import com.my.bookduck.repository.UserBookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,7 +30,8 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final GroupRepository groupRepository;
     private final BookRepository bookRepository;
-    private final UserBookRepository userBookRepository;
+    private final BoardFeed boardFeed;
+    private final UserLibraryCache userLibraryCache;
     // 필요시: private final UserRepository userRepository;
 
     /**
@@ -116,41 +116,34 @@ public class BoardService {
 
 
     /**
-     * 필터링 및 정렬 조건에 따라 게시글 목록을 조회합니다.
+     * 필터링 및 정렬 조건에 따라 게시글 목록 한 구간을 조회합니다. 메모리 피드(BoardFeed)의 색인에서 읽으므로 조인/LIKE 쿼리를 실행하지 않습니다.
      *
      * @param userId 현재 로그인한 사용자 ID (내가 구매한 책 필터링 시 필요, null 가능)
      * @param filterMyBooks true면 내가 구매한 책 관련 게시글만, false면 전체 게시글
+     * @param query 책 제목 검색어 (부분 일치, 대소문자 무시)
      * @param sortBy 정렬 기준 ("createdAt", "bookTitle")
      * @param sortDirection 정렬 방향 ("ASC", "DESC")
-     * @return Board 엔티티 리스트
+     * @param cursor 이전 구간의 마지막 게시글 ID (첫 구간이면 null)
+     * @param size 구간 크기
+     * @return 게시글 목록 한 구간
      */
+    public BoardListSliceResponse findBoards(Long userId, boolean filterMyBooks, String query, String sortBy, String sortDirection,
+                                             Long cursor, int size) {
+        log.info("게시글 목록 조회 - userId: {}, filterMyBooks: {}, query(책제목): '{}', sortBy: {}, sortDir: {}, cursor: {}",
+                userId, filterMyBooks, query, sortBy, sortDirection, cursor);
 
-    public List<Board> findBoards(Long userId, boolean filterMyBooks, String query, String sortBy, String sortDirection) {
-        log.info("게시글 목록 조회 - userId: {}, filterMyBooks: {}, query(책제목): '{}', sortBy: {}, sortDir: {}",
-                userId, filterMyBooks, query, sortBy, sortDirection);
-
-        Sort.Direction direction = "DESC".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
-        String sortProperty = "bookTitle".equalsIgnoreCase(sortBy) ? "book.title" : "createdAt";
-        Sort sort = Sort.by(direction, sortProperty);
-
-        String searchQuery = (query != null && !query.trim().isEmpty()) ? query.trim() : "";
+        boolean descending = "DESC".equalsIgnoreCase(sortDirection);
+        BoardFeed.Order order = "bookTitle".equalsIgnoreCase(sortBy) ? BoardFeed.Order.BOOK_TITLE : BoardFeed.Order.CREATED_AT;
 
+        String searchQuery = (query != null) ? query.trim() : "";
+        long[] myBookIds = null;
         if (filterMyBooks && userId != null) {
-            List<Long> myBookIds = userBookRepository.findBookIdsByUserId(userId);
-            if (myBookIds == null || myBookIds.isEmpty()) {
-                return List.of();
-            }
-            log.debug("사용자(ID:{}) 구매 책 ID 목록: {} 으로 필터링, 책 제목 검색어: '{}'", userId, myBookIds, searchQuery);
-            // 검색어가 있든 없든 findByBookIdInAndQuery 호출 (쿼리 내부에서 LIKE '%%' 처리)
-            return boardRepository.findByBookIdInAndQuery(myBookIds, searchQuery, sort);
-        } else {
-            if (!searchQuery.isEmpty()) {
-                log.debug("전체 게시글 대상 책 제목 검색어 '{}' 및 정렬 적용.", searchQuery);
-                return boardRepository.findAllPublicBoardsWithDetailsAndQuery(searchQuery, sort);
-            } else {
-                log.debug("전체 게시글 조회 및 정렬 적용 (검색어 없음).");
-                return boardRepository.findAllPublicBoardsWithDetails(sort);
+            myBookIds = userLibraryCache.ownedBookIds(userId);
+            if (myBookIds.length == 0) {
+                return new BoardListSliceResponse(List.of(), false, null);
             }
+            log.debug("사용자(ID:{}) 구매 책 {}권으로 필터링, 책 제목 검색어: '{}'", userId, myBookIds.length, searchQuery);
         }
+        return boardFeed.page(order, descending, cursor, size, searchQuery, myBookIds);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,344 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 제목/저자/출판사에 대한 메모리 역색인입니다. LIKE '%q%' 전체 스캔 대신 사용합니다.
+ * <ul>
+ *     <li>한글: 음절 단위 1-gram + 2-gram 으로 색인 (부분 문자열 검색 가능)</li>
+ *     <li>그 외(영문/숫자): 단어 단위로 색인하고, 검색 시 접두어 일치</li>
+ * </ul>
+ * 결과는 필드 가중치(제목 > 저자 > 출판사)와 제목 일치 보너스로 정렬됩니다.
+ * 기동 완료 후 전체 도서를 한 번 적재하고, 이후에는 BookSearchIndexListener가 저장/삭제 시 갱신합니다.
+ * 재적재(rebuild)는 새 색인을 락 밖에서 만든 뒤 교체하며, 조회 시작 이후 들어온 갱신은 기록해 두었다가 새 색인에 다시 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int WRITER_WEIGHT = 2;
+    private static final int PUBLISHING_WEIGHT = 1;
+
+    private final BookRepository bookRepository;
+
+    // 아래 두 필드는 lock으로 보호
+    private Index index = new Index();
+    // rebuild가 도서를 조회하는 동안 들어온 갱신 (rebuild 중이 아니면 null)
+    private List<Change> changesDuringRebuild = null;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    private record IndexedBook(String title, String writer, String publishing, Set<String> terms) {
+    }
+
+    // rebuild 중에 기록하는 갱신 (removed면 삭제, 아니면 색인)
+    private record Change(Long id, String title, String writer, String publishing, boolean removed) {
+    }
+
+    /** 검색 결과: 현재 페이지의 도서 ID(순위 순)와 전체 일치 건수 */
+    public record SearchResult(List<Long> ids, int total) {
+    }
+
+    /**
+     * 전체 도서로 색인을 새로 만들어 교체합니다. 조회와 구성은 락 밖에서 하므로 그동안 검색은 이전 색인을 사용합니다.
+     * 조회를 시작한 뒤 index/remove로 들어온 갱신은 교체 직전에 새 색인에 순서대로 다시 적용합니다.
+     * (조회 결과에 이미 반영된 갱신을 다시 적용해도 결과는 같음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index built = new Index();
+        try {
+            for (BookRepository.SearchFields row : bookRepository.findAllSearchFields()) {
+                built.add(row.getId(), row.getTitle(), row.getWriter(), row.getPublishing());
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = changesDuringRebuild.size();
+            for (Change change : changesDuringRebuild) {
+                if (change.removed()) {
+                    built.remove(change.id());
+                } else {
+                    built.remove(change.id());
+                    built.add(change.id(), change.title(), change.writer(), change.publishing());
+                }
+            }
+            changesDuringRebuild = null;
+            index = built;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Book search index built: {} books, {} terms, {} changes replayed, {} ms.",
+                built.documents.size(), built.postings.size(), replayed, System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 도서를 색인(신규 또는 갱신)합니다. */
+    public void index(Long id, String title, String writer, String publishing) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+            index.add(id, title, writer, publishing);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(id, title, writer, publishing, false));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(id, null, null, null, true));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 도서 ID를 순위 순으로 반환합니다. 모든 검색어 토큰이 일치해야 합니다(AND).
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 반환 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        String normalizedQuery = normalize(query);
+        List<QueryTerm> queryTerms = queryTerms(normalizedQuery);
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Index current = index;
+            Set<Long> candidates = null;
+            for (QueryTerm queryTerm : queryTerms) {
+                Set<Long> matches = queryTerm.prefix() ? prefixMatches(current, queryTerm.term()) : current.postings.getOrDefault(queryTerm.term(), Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(matches);
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+
+            List<ScoredBook> scored = new ArrayList<>(candidates.size());
+            for (Long id : candidates) {
+                scored.add(new ScoredBook(id, score(current.documents.get(id), normalizedQuery, queryTerms)));
+            }
+            scored.sort(Comparator.comparingInt(ScoredBook::score).reversed().thenComparing(ScoredBook::id, Comparator.reverseOrder()));
+
+            int from = Math.min(Math.max(offset, 0), scored.size());
+            int to = Math.min(from + Math.max(limit, 0), scored.size());
+            List<Long> pageIds = new ArrayList<>(to - from);
+            for (ScoredBook scoredBook : scored.subList(from, to)) {
+                pageIds.add(scoredBook.id());
+            }
+            return new SearchResult(pageIds, scored.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record QueryTerm(String term, boolean prefix) {
+    }
+
+    private record ScoredBook(Long id, int score) {
+    }
+
+    private Set<Long> prefixMatches(Index current, String prefix) {
+        NavigableMap<String, Set<Long>> range = current.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        Set<Long> union = new HashSet<>();
+        for (Set<Long> ids : range.values()) {
+            union.addAll(ids);
+        }
+        return union;
+    }
+
+    private int score(IndexedBook book, String normalizedQuery, List<QueryTerm> queryTerms) {
+        int score = 0;
+        for (QueryTerm queryTerm : queryTerms) {
+            if (book.title().contains(queryTerm.term())) score += TITLE_WEIGHT;
+            if (book.writer().contains(queryTerm.term())) score += WRITER_WEIGHT;
+            if (book.publishing().contains(queryTerm.term())) score += PUBLISHING_WEIGHT;
+        }
+        // 제목이 검색어 전체로 시작하거나 포함하면 가산점
+        if (book.title().startsWith(normalizedQuery)) {
+            score += 10;
+        } else if (book.title().contains(normalizedQuery)) {
+            score += 5;
+        }
+        return score;
+    }
+
+    /** 색인 자료구조. 사용 중인 색인은 BookSearchIndex의 쓰기 락 안에서만 변경합니다. */
+    private static final class Index {
+        // 색인어 → 도서 ID 목록 (TreeMap: 접두어 범위 조회용)
+        private final TreeMap<String, Set<Long>> postings = new TreeMap<>();
+        // 도서 ID → 색인된 필드 (갱신/삭제 시 이전 색인어 제거 및 점수 계산용)
+        private final Map<Long, IndexedBook> documents = new HashMap<>();
+
+        void add(Long id, String title, String writer, String publishing) {
+            String normalizedTitle = normalize(title);
+            String normalizedWriter = normalize(writer);
+            String normalizedPublishing = normalize(publishing);
+            Set<String> terms = new HashSet<>();
+            indexTerms(normalizedTitle, terms);
+            indexTerms(normalizedWriter, terms);
+            indexTerms(normalizedPublishing, terms);
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+            }
+            documents.put(id, new IndexedBook(normalizedTitle, normalizedWriter, normalizedPublishing, terms));
+        }
+
+        void remove(Long id) {
+            IndexedBook previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String term : previous.terms()) {
+                Set<Long> ids = postings.get(term);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase().trim();
+    }
+
+    // 색인 시: 한글 구간은 1-gram + 2-gram, 그 외 구간은 단어 전체
+    static void indexTerms(String normalized, Collection<String> terms) {
+        for (String run : scriptRuns(normalized)) {
+            if (isHangul(run.charAt(0))) {
+                for (int i = 0; i < run.length(); i++) {
+                    terms.add(run.substring(i, i + 1));
+                    if (i + 1 < run.length()) {
+                        terms.add(run.substring(i, i + 2));
+                    }
+                }
+            } else {
+                terms.add(run);
+            }
+        }
+    }
+
+    // 검색 시: 한글 구간은 2-gram(한 글자면 1-gram) 완전 일치, 그 외 구간은 접두어 일치
+    static List<QueryTerm> queryTerms(String normalized) {
+        Set<QueryTerm> terms = new LinkedHashSet<>();
+        for (String run : scriptRuns(normalized)) {
+            if (isHangul(run.charAt(0))) {
+                if (run.length() == 1) {
+                    terms.add(new QueryTerm(run, false));
+                }
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    terms.add(new QueryTerm(run.substring(i, i + 2), false));
+                }
+            } else {
+                terms.add(new QueryTerm(run, true));
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    // 문자/숫자가 아닌 문자로 단어를 나누고, 단어 안에서 한글/비한글 구간을 다시 나눔
+    private static List<String> scriptRuns(String normalized) {
+        List<String> runs = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        Boolean currentHangul = null;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flushRun(current, runs);
+                currentHangul = null;
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            if (currentHangul != null && currentHangul != hangul) {
+                flushRun(current, runs);
+            }
+            current.append(c);
+            currentHangul = hangul;
+        }
+        flushRun(current, runs);
+        return runs;
+    }
+
+    private static void flushRun(StringBuilder current, List<String> runs) {
+        if (current.length() > 0) {
+            runs.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,37 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.domain.book.Book;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Book 엔티티 저장/수정/삭제를 BookSearchIndex에 반영하는 JPA 엔티티 리스너입니다.
+ * 트랜잭션 안에서는 커밋된 뒤에만 색인을 갱신합니다. (롤백된 변경이 검색에 보이지 않도록)
+ * BookSearchIndex → BookRepository → EntityManagerFactory 순환을 피하기 위해 색인은 ObjectProvider로 지연 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+
+    private final ObjectProvider<BookSearchIndex> bookSearchIndexProvider;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String writer = book.getWriter();
+        String publishing = book.getPublishing();
+        AfterCommit.run(() -> bookSearchIndexProvider.getObject().index(id, title, writer, publishing));
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        Long id = book.getId();
+        AfterCommit.run(() -> bookSearchIndexProvider.getObject().remove(id));
+    }
+}
@@ -2,16 +2,28 @@ package com.my.bookduck.service;
 
 import com.my.bookduck.controller.request.AddUserRequest;
 import com.my.bookduck.controller.request.AdminAddBookRequest;
+import com.my.bookduck.controller.response.BookLIstViewResponse;
+import com.my.bookduck.controller.response.BookListSliceResponse;
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.user.User;
 import com.my.bookduck.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -22,38 +34,206 @@ public class BookService {
 
     private final BookRepository bookRepository;
     private final CategoryService categoryService;
+    private final BookSearchIndex bookSearchIndex;
+    private final UserBookTitleIndex userBookTitleIndex;
+
+    @Value("${catalog.search.max-results:1000}")
+    private int searchMaxResults;
+
+    @Value("${catalog.list.max-page-size:100}") // 목록 한 구간의 최대 크기
+    private int listMaxPageSize;
+
+    @Value("${catalog.search.ranked-cache-size:256}") // 무한 스크롤 중 재사용할 (검색어, 카테고리)별 순위 목록 수
+    private int rankedCacheSize;
+
+    @Value("${catalog.search.ranked-cache-ttl-ms:60000}") // 순위 목록을 재사용하는 시간
+    private long rankedCacheTtlMillis;
+
+    private static final String KEYSET_CURSOR_PREFIX = "k:"; // 키셋: 마지막 도서 ID
+    private static final String RANKED_CURSOR_PREFIX = "r:"; // 검색 순위: 다음 위치
+
+    private record RankedKey(String query, Set<Long> categoryIds) {
+    }
+
+    private record RankedIds(List<Long> ids, boolean truncated, long createdAtMillis) {
+    }
+
+    // (검색어, 카테고리)별 순위 목록. 스크롤할 때마다 다시 검색/카테고리 조회를 하지 않고, 순위가 구간 사이에 바뀌지 않도록 함
+    // 접근 순서 LinkedHashMap (LRU), 자신으로 동기화
+    private final Map<RankedKey, RankedIds> rankedCache = new LinkedHashMap<>(16, 0.75f, true);
 
     public List<Book> getAllBooks() {
         return bookRepository.findAll();
     }
 
-    public List<Book> searchBooks(String query, Long mainCategoryId, Long subCategoryId) {
-        String trimmedQuery = (query != null) ? query.trim() : null;
-        Set<Long> targetCategoryIds = null;
-        Long targetId = subCategoryId != null ? subCategoryId : mainCategoryId;
+    /**
+     * 목록 화면용 검색을 한 구간(size개)씩 나누어 반환합니다. 엔티티 대신 BookLIstViewResponse로 바로 조회합니다.
+     * 검색어가 없으면 id 기준 키셋(seek) 페이지네이션("k:id"), 있으면 검색 색인 순위상의 위치("r:offset")를 cursor로 사용합니다.
+     * @param cursor 이전 구간의 nextCursor (첫 구간이면 null)
+     * @param size 구간 크기
+     * @throws IllegalArgumentException cursor 형식이 잘못되었거나 검색 조건과 종류가 맞지 않을 때
+     */
+    public BookListSliceResponse searchBookSlice(String query, Long mainCategoryId, Long subCategoryId, String cursor, int size) {
+        String trimmedQuery = (query != null) ? query.trim() : "";
+        int pageSize = Math.max(1, Math.min(size, listMaxPageSize));
+
+        Set<Long> targetCategoryIds = resolveTargetCategoryIds(mainCategoryId, subCategoryId);
+        if (targetCategoryIds != null && targetCategoryIds.isEmpty()) {
+            return new BookListSliceResponse(Collections.emptyList(), false, null);
+        }
+
+        if (!trimmedQuery.isEmpty() && bookSearchIndex.isReady() && !isCursor(cursor, KEYSET_CURSOR_PREFIX)) {
+            return rankedSlice(trimmedQuery, targetCategoryIds, parseCursor(cursor, RANKED_CURSOR_PREFIX), pageSize);
+        }
+        // 색인이 준비되기 전 첫 구간을 받은 검색은 끝까지 키셋으로 이어감
+        Long lastId = parseCursor(cursor, KEYSET_CURSOR_PREFIX);
+
+        Pageable pageable = PageRequest.of(0, pageSize);
+        Slice<BookLIstViewResponse> slice;
+        if (trimmedQuery.isEmpty()) {
+            slice = (targetCategoryIds == null)
+                    ? bookRepository.findListViewSlice(lastId, pageable)
+                    : bookRepository.findListViewSliceByCategoryIds(lastId, targetCategoryIds, pageable);
+        } else {
+            slice = (targetCategoryIds == null)
+                    ? bookRepository.findListViewSliceByQuery(trimmedQuery, lastId, pageable)
+                    : bookRepository.findListViewSliceByQueryAndCategoryIds(trimmedQuery, lastId, targetCategoryIds, pageable);
+        }
+        List<BookLIstViewResponse> books = slice.getContent();
+        String nextCursor = (slice.hasNext() && !books.isEmpty()) ? KEYSET_CURSOR_PREFIX + books.get(books.size() - 1).getId() : null;
+        return new BookListSliceResponse(books, slice.hasNext(), nextCursor);
+    }
+
+    // 검색 색인 순위를 그대로 유지하면서 offset(순위상의 시작 위치)부터 size개를 조회
+    private BookListSliceResponse rankedSlice(String query, Set<Long> targetCategoryIds, Long offset, int size) {
+        RankedIds ranked = rankedIds(query, targetCategoryIds, offset == null);
+        List<Long> rankedIds = ranked.ids();
+
+        int from = (offset == null) ? 0 : (int) Math.min(Math.max(offset, 0L), rankedIds.size());
+        int to = Math.min(from + size, rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new BookListSliceResponse(Collections.emptyList(), false, null, ranked.truncated());
+        }
+
+        Map<Long, BookLIstViewResponse> byId = new HashMap<>();
+        for (BookLIstViewResponse book : bookRepository.findListViewsByIdIn(pageIds)) {
+            byId.put(book.getId(), book);
+        }
+        List<BookLIstViewResponse> books = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            BookLIstViewResponse book = byId.get(id);
+            if (book != null) { // 색인 반영 직후 삭제된 도서는 건너뜀
+                books.add(book);
+            }
+        }
+        boolean hasNext = to < rankedIds.size();
+        return new BookListSliceResponse(books, hasNext, hasNext ? RANKED_CURSOR_PREFIX + to : null,
+                !hasNext && ranked.truncated()); // 상한에서 끊긴 경우 마지막 구간에서 알림
+    }
+
+    // 첫 구간(fresh)은 항상 새로 검색해서 캐시를 갱신하고, 이어지는 구간은 같은 순위 목록을 재사용
+    private RankedIds rankedIds(String query, Set<Long> targetCategoryIds, boolean fresh) {
+        RankedKey key = new RankedKey(BookSearchIndex.normalize(query), targetCategoryIds);
+        long now = System.currentTimeMillis();
+        if (!fresh) {
+            synchronized (rankedCache) {
+                RankedIds cached = rankedCache.get(key);
+                if (cached != null && now - cached.createdAtMillis() < rankedCacheTtlMillis) {
+                    return cached;
+                }
+            }
+        }
+
+        RankedIds ranked = (targetCategoryIds == null)
+                ? rankAll(query, now)
+                : rankInCategories(query, targetCategoryIds, now);
+        synchronized (rankedCache) {
+            rankedCache.put(key, ranked);
+            if (rankedCache.size() > rankedCacheSize) {
+                rankedCache.remove(rankedCache.keySet().iterator().next());
+            }
+        }
+        return ranked;
+    }
+
+    private RankedIds rankAll(String query, long now) {
+        BookSearchIndex.SearchResult result = bookSearchIndex.search(query, 0, searchMaxResults);
+        return new RankedIds(result.ids(), result.total() > searchMaxResults, now);
+    }
+
+    // 카테고리 필터를 상한보다 먼저 적용: 색인 순위를 searchMaxResults개씩 넘기며 카테고리에 속한 도서가
+    // searchMaxResults개 모이거나 색인 결과가 끝날 때까지 모음 (상한을 넘는 도서가 하나라도 있으면 truncated)
+    private RankedIds rankInCategories(String query, Set<Long> targetCategoryIds, long now) {
+        List<Long> ids = new ArrayList<>();
+        int offset = 0;
+        int total;
+        do {
+            BookSearchIndex.SearchResult result = bookSearchIndex.search(query, offset, searchMaxResults);
+            total = result.total();
+            if (result.ids().isEmpty()) {
+                break;
+            }
+            Set<Long> inCategories = new HashSet<>(bookRepository.findBookIdsInCategories(result.ids(), targetCategoryIds));
+            for (Long id : result.ids()) {
+                if (inCategories.contains(id)) {
+                    ids.add(id);
+                    if (ids.size() > searchMaxResults) {
+                        return new RankedIds(List.copyOf(ids.subList(0, searchMaxResults)), true, now);
+                    }
+                }
+            }
+            offset += result.ids().size();
+        } while (offset < total);
+        return new RankedIds(List.copyOf(ids), false, now);
+    }
 
-        log.info("Searching books - Query: '{}', MainCategory: {}, SubCategory: {}", trimmedQuery, mainCategoryId, subCategoryId);
+    private static boolean isCursor(String cursor, String prefix) {
+        return cursor != null && cursor.startsWith(prefix);
+    }
+
+    // "접두어:숫자" 형식의 cursor에서 숫자를 꺼냄 (첫 구간이면 null)
+    private static Long parseCursor(String cursor, String prefix) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (!cursor.startsWith(prefix)) {
+            throw new IllegalArgumentException("잘못된 cursor입니다: " + cursor);
+        }
+        try {
+            return Long.parseLong(cursor.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor입니다: " + cursor, e);
+        }
+    }
 
+    /**
+     * 선택된 대분류/소분류로 필터링할 카테고리 ID 목록을 구합니다.
+     * @return 필터가 없으면 null, 대분류에 해당하는 카테고리가 없으면 빈 Set
+     */
+    private Set<Long> resolveTargetCategoryIds(Long mainCategoryId, Long subCategoryId) {
         if (subCategoryId != null) {
-            targetCategoryIds = Set.of(subCategoryId);
-            log.debug("Filtering by specific sub-category ID: {}", subCategoryId);
-        } else if (mainCategoryId != null) {
-            targetCategoryIds = categoryService.getAllSubCategoryIdsIncludingMain(mainCategoryId);
+            // 소분류도 그 아래 단계(3~5 depth) 카테고리까지 포함
+            Set<Long> targetCategoryIds = categoryService.getAllSubCategoryIdsIncludingMain(subCategoryId);
+            log.debug("Filtering by sub-category ID {} and its descendants: {}", subCategoryId, targetCategoryIds);
+            return targetCategoryIds.isEmpty() ? Set.of(subCategoryId) : targetCategoryIds;
+        }
+        if (mainCategoryId != null) {
+            Set<Long> targetCategoryIds = categoryService.getAllSubCategoryIdsIncludingMain(mainCategoryId);
             log.debug("Filtering by main category ID {} and its sub-categories: {}", mainCategoryId, targetCategoryIds);
             if (targetCategoryIds.isEmpty()) {
                 log.warn("Main category {} selected, but no corresponding category IDs found.", mainCategoryId);
-                return Collections.emptyList();
             }
-        } else {
-            log.debug("No category filter applied.");
+            return targetCategoryIds;
         }
-
-        return bookRepository.findBooksByQueryAndCategoryIdsIn(trimmedQuery, targetCategoryIds);
+        log.debug("No category filter applied.");
+        return null;
     }
 
-    public List<Book> searchBooksByTitleAndUser(String title, Long userId, int limit) {
-        log.info("Searching books for user {} with title '{}'", userId, title);
-        return bookRepository.findByTitleContainingIgnoreCaseAndUserId(title, userId, limit);
+    // 자동완성용: 사용자별 메모리 제목 색인에서 상위 limit개 (DB 조회 없음, 첫 조회 시에만 적재)
+    public List<BookSummaryDto> searchBookSummariesByTitleAndUser(String title, Long userId, int limit) {
+        log.debug("Autocomplete for user {} with title '{}' (limit {})", userId, title, limit);
+        return userBookTitleIndex.search(userId, title, limit);
     }
 
     public Book findById(Long bookId) {
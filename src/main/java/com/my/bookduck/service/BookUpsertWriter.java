@@ -0,0 +1,155 @@
+package com.my.bookduck.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API(알라딘)에서 받은 도서 정보를 book 테이블에 한 번에 반영하는 일괄 upsert 작성기입니다.
+ * <ol>
+ *     <li>페이지 안의 ISBN에 대해 (book_id, content_hash)만 WHERE book_id IN (...) 쿼리 한 번으로 조회</li>
+ *     <li>받은 값으로 계산한 해시와 비교해 신규/변경/변경 없음으로 분류 (기존 행의 다른 컬럼은 읽지 않음)</li>
+ *     <li>신규는 JDBC batch INSERT, 해시가 다른 행만 JDBC batch UPDATE</li>
+ * </ol>
+ * 변경 없는 목록을 다시 동기화하면 페이지당 해시 조회 쿼리 하나로 끝납니다.
+ * 해시가 없는 행(이전에 저장됐거나 JPA로 수정된 행)은 한 번 갱신되면서 해시가 기록됩니다.
+ * Book은 ID(ISBN13)를 직접 지정하는 엔티티라 saveAll을 쓰면 행마다 merge용 SELECT가 발생하므로 JPA를 거치지 않습니다.
+ * 대신 JPA 엔티티 리스너가 호출되지 않으므로 검색 색인(BookSearchIndex)과 홈 피드(BoardFeed)는 커밋 후 여기서 직접 갱신합니다.
+ * MySQL에서 batch가 실제 한 번의 왕복으로 묶이려면 JDBC URL에 rewriteBatchedStatements=true가 필요합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookUpsertWriter {
+
+    private static final String SELECT_HASHES_SQL =
+            "SELECT book_id, content_hash FROM book WHERE book_id IN (:ids)";
+    private static final String INSERT_SQL =
+            "INSERT INTO book (book_id, title, cover, writer, publishing, price, publication_date, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    // 출간일은 새 값이 있을 때만 변경 (날짜 파싱 실패로 기존 값을 지우지 않도록)
+    private static final String UPDATE_SQL =
+            "UPDATE book SET title = ?, cover = ?, writer = ?, publishing = ?, price = ?, publication_date = COALESCE(?, publication_date), content_hash = ? WHERE book_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final BookSearchIndex bookSearchIndex;
+    private final BoardFeed boardFeed;
+
+    /** book 테이블에 반영할 한 행 (publicationDate가 null이면 기존 값을 유지) */
+    public record BookRow(Long id, String title, String cover, String writer, String publishing, int price, LocalDate publicationDate) {
+
+        /** 동기화 대상 필드의 SHA-256 (hex 64자) */
+        public String contentHash() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                // 필드 구분자(\u001F)로 "ab"+"c"와 "a"+"bc"가 같은 해시가 되지 않도록 함
+                String content = String.join("\u001F", title, cover, writer, publishing, String.valueOf(price), String.valueOf(publicationDate));
+                return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    /** 한 번의 upsert 결과 */
+    public record UpsertResult(int inserted, int updated, int unchanged, long elapsedMillis) {
+    }
+
+    @Transactional
+    public UpsertResult upsert(Collection<BookRow> rows) {
+        long started = System.currentTimeMillis();
+        // 같은 페이지 안의 중복 ISBN은 마지막 값 사용
+        Map<Long, BookRow> incoming = new LinkedHashMap<>();
+        for (BookRow row : rows) {
+            if (row != null && row.id() != null) {
+                incoming.put(row.id(), row);
+            }
+        }
+        if (incoming.isEmpty()) {
+            return new UpsertResult(0, 0, 0, 0);
+        }
+
+        Map<Long, String> existingHashes = findExistingHashes(incoming.keySet());
+
+        List<BookRow> inserts = new ArrayList<>();
+        List<BookRow> updates = new ArrayList<>();
+        Map<Long, String> hashes = new HashMap<>();
+        for (BookRow row : incoming.values()) {
+            String hash = row.contentHash();
+            hashes.put(row.id(), hash);
+            if (!existingHashes.containsKey(row.id())) {
+                inserts.add(row);
+            } else if (!hash.equals(existingHashes.get(row.id()))) {
+                updates.add(row);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(inserts.size());
+            for (BookRow row : inserts) {
+                args.add(new Object[]{row.id(), row.title(), row.cover(), row.writer(), row.publishing(), row.price(),
+                        toSqlDate(row.publicationDate()), hashes.get(row.id())});
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        }
+        if (!updates.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(updates.size());
+            for (BookRow row : updates) {
+                args.add(new Object[]{row.title(), row.cover(), row.writer(), row.publishing(), row.price(),
+                        toSqlDate(row.publicationDate()), hashes.get(row.id()), row.id()});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+        }
+
+        List<BookRow> changed = new ArrayList<>(inserts);
+        changed.addAll(updates);
+        reindexAfterCommit(changed);
+
+        int unchanged = incoming.size() - inserts.size() - updates.size();
+        long elapsed = System.currentTimeMillis() - started;
+        log.debug("Book upsert: {} inserted, {} updated, {} unchanged in {} ms.", inserts.size(), updates.size(), unchanged, elapsed);
+        return new UpsertResult(inserts.size(), updates.size(), unchanged, elapsed);
+    }
+
+    // 기존 행의 해시만 조회 (해시가 없는 행은 null 값으로 포함)
+    private Map<Long, String> findExistingHashes(Collection<Long> ids) {
+        Map<Long, String> existing = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_HASHES_SQL, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    existing.put(rs.getLong("book_id"), rs.getString("content_hash"));
+                });
+        return existing;
+    }
+
+    private void reindexAfterCommit(List<BookRow> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Runnable reindex = () -> changed.forEach(row -> {
+            bookSearchIndex.index(row.id(), row.title(), row.writer(), row.publishing());
+            boardFeed.updateBook(row.id(), row.title(), row.cover());
+        });
+        AfterCommit.run(reindex);
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return (date == null) ? null : Date.valueOf(date);
+    }
+}
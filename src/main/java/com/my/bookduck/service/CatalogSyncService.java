@@ -0,0 +1,323 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.AladinBookItem;
+import com.my.bookduck.domain.book.SyncStatus;
+import com.my.bookduck.repository.CategoryRepository;
+import com.my.bookduck.repository.SyncStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 트리 전체를 대상으로 알라딘 목록을 주기적으로 가져와 book 테이블을 최신 상태로 유지하는 동기화 엔진입니다.
+ * (기존의 수동 next-batch 엔드포인트를 대체)
+ * <ul>
+ *     <li>카테고리마다 SyncStatus("catalog_{카테고리ID}")에 체크포인트(페이지, 마지막 ISBN, 1페이지 해시)를 저장하므로 재시작 후 이어서 진행</li>
+ *     <li>회차(pass)의 첫 페이지 해시가 직전 회차와 같으면 나머지 페이지를 받지 않고 종료</li>
+ *     <li>한 번에 가져올 페이지 수는 변경량에 따라 늘리거나 줄이고, 변경이 없을수록 다음 동기화 간격을 늘림</li>
+ *     <li>한 주기에는 예정 시각이 지난 카테고리만 최대 categories-per-cycle개 처리 (요청 한도는 AladinRequestScheduler가 조절)</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSyncService {
+
+    static final String SYNC_KEY_PREFIX = "catalog_";
+    private static final int MAX_BACKOFF_SHIFT = 6; // 최대 interval × 64
+
+    private final AladinService aladinService;
+    private final CategoryRepository categoryRepository;
+    private final SyncStatusRepository syncStatusRepository;
+
+    @Value("${catalog.sync.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.sync.query-type:Bestseller}")
+    private String queryType;
+
+    @Value("${catalog.sync.search-target:eBook}")
+    private String searchTarget;
+
+    @Value("${catalog.sync.categories-per-cycle:20}")
+    private int categoriesPerCycle;
+
+    @Value("${catalog.sync.initial-pages-per-run:1}")
+    private int initialPagesPerRun;
+
+    @Value("${catalog.sync.max-pages-per-run:4}")
+    private int maxPagesPerRun;
+
+    @Value("${catalog.sync.category-interval-minutes:360}") // 변경이 없을 때의 기본 재동기화 간격
+    private long categoryIntervalMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean paused = false;
+    private volatile LocalDateTime lastCycleStartedAt;
+    private volatile int lastCycleCategories;
+
+    /** 한 페이지 처리 결과 */
+    private enum PageOutcome { STORED, HEAD_UNCHANGED, END, FAILED }
+
+    /** 한 카테고리 실행 동안의 진행 상태 */
+    private static class RunState {
+        int lastStoredPage;
+        Long lastSeenIsbn;
+        String headPageHash;
+        boolean reachedEnd;
+        PageOutcome stopReason;
+    }
+
+    /**
+     * 주기적으로 예정된 카테고리를 동기화합니다. 이전 주기가 아직 진행 중이면 건너뜁니다.
+     * 알라딘 응답을 기다리는 동안 스케줄러 스레드를 붙잡지 않도록 구독만 하고 바로 반환합니다.
+     */
+    @Scheduled(initialDelayString = "${catalog.sync.initial-delay-ms:60000}", fixedDelayString = "${catalog.sync.cycle-interval-ms:60000}")
+    public void scheduledCycle() {
+        if (!enabled || paused) {
+            return;
+        }
+        runCycle();
+    }
+
+    /**
+     * 동기화 주기를 바로 시작합니다. 이미 실행 중이면 false를 반환합니다.
+     */
+    public boolean runCycle() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Catalog sync cycle already running; skipping.");
+            return false;
+        }
+        lastCycleStartedAt = LocalDateTime.now();
+        Mono.fromCallable(this::findDueCategories)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(due -> {
+                    lastCycleCategories = due.size();
+                    if (!due.isEmpty()) {
+                        log.info("Catalog sync cycle started: {} categories due.", due.size());
+                    }
+                    return Flux.fromIterable(due);
+                })
+                .takeWhile(status -> !paused)
+                .concatMap(this::syncCategory)
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        ignored -> { },
+                        error -> log.error("Catalog sync cycle failed: {}", error.getMessage(), error));
+        return true;
+    }
+
+    public void pause() {
+        paused = true;
+        log.info("Catalog sync paused.");
+    }
+
+    public void resume() {
+        paused = false;
+        log.info("Catalog sync resumed.");
+    }
+
+    /** 현재 상태 요약 (관리용) */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("paused", paused);
+        status.put("running", running.get());
+        status.put("lastCycleStartedAt", lastCycleStartedAt);
+        status.put("lastCycleCategories", lastCycleCategories);
+        status.put("queryType", queryType);
+        status.put("searchTarget", searchTarget);
+        return status;
+    }
+
+    // 체크포인트가 없는 카테고리 먼저, 그다음 예정 시각이 오래된 순
+    private List<SyncStatus> findDueCategories() {
+        Map<String, SyncStatus> statuses = syncStatusRepository.findBySyncKeyStartingWith(SYNC_KEY_PREFIX).stream()
+                .collect(Collectors.toMap(SyncStatus::getSyncKey, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        List<SyncStatus> due = new ArrayList<>();
+        for (Long categoryId : categoryRepository.findAllIds()) {
+            String syncKey = SYNC_KEY_PREFIX + categoryId;
+            SyncStatus status = statuses.getOrDefault(syncKey, new SyncStatus(syncKey, 0));
+            if (status.getNextSyncAt() == null || !status.getNextSyncAt().isAfter(now)) {
+                due.add(status);
+            }
+        }
+        due.sort(Comparator.comparing(SyncStatus::getNextSyncAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return due.size() > categoriesPerCycle ? new ArrayList<>(due.subList(0, categoriesPerCycle)) : due;
+    }
+
+    private Mono<AladinService.SyncResult> syncCategory(SyncStatus status) {
+        String syncKey = status.getSyncKey();
+        int categoryId = Integer.parseInt(syncKey.substring(SYNC_KEY_PREFIX.length()));
+        int startPage = status.getLastProcessedPage() + 1;
+        if (startPage > AladinService.MAX_LIST_PAGE) {
+            startPage = 1;
+        }
+        int pagesThisRun = Math.min(pagesPerRunOf(status), AladinService.MAX_LIST_PAGE - startPage + 1);
+
+        AladinService.SyncResult result = new AladinService.SyncResult();
+        result.setStartPage(startPage);
+        RunState state = new RunState();
+        long runStarted = System.currentTimeMillis();
+
+        return Flux.range(startPage, pagesThisRun)
+                .concatMap(pageNumber -> syncPage(categoryId, pageNumber, status, state, result, syncKey))
+                .takeUntil(outcome -> outcome != PageOutcome.STORED || state.reachedEnd)
+                .then(Mono.fromCallable(() -> {
+                    result.setElapsedMillis(System.currentTimeMillis() - runStarted);
+                    result.setActualLastProcessedPage(state.lastStoredPage);
+                    saveCheckpoint(status, state, result);
+                    return result;
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(error -> {
+                    log.error("[{}] 카테고리 동기화 중 오류: {}", syncKey, error.getMessage(), error);
+                    result.setErrorOccurred(true);
+                    return Mono.just(result);
+                });
+    }
+
+    private Mono<PageOutcome> syncPage(int categoryId, int pageNumber, SyncStatus status, RunState state,
+                                       AladinService.SyncResult result, String syncKey) {
+        result.setLastAttemptedPage(pageNumber);
+        Flux<AladinBookItem> items = aladinService.streamCategoryListItems(categoryId, pageNumber, queryType, searchTarget);
+        Mono<PageOutcome> outcome;
+        if (pageNumber == 1) {
+            // 1페이지는 직전 회차와 비교해야 하므로 모두 받은 뒤 해시를 확인하고 저장
+            outcome = items.collectList().flatMap(list -> {
+                if (list.isEmpty()) {
+                    state.reachedEnd = true;
+                    return Mono.just(PageOutcome.END);
+                }
+                String hash = pageHash(list);
+                if (hash.equals(status.getHeadPageHash())) {
+                    log.debug("[{}] 1페이지가 직전 회차와 같아 이번 회차를 생략합니다.", syncKey);
+                    return Mono.just(PageOutcome.HEAD_UNCHANGED);
+                }
+                state.headPageHash = hash;
+                return storeItems(Flux.fromIterable(list), pageNumber, state, result, syncKey);
+            });
+        } else {
+            // 그 외 페이지는 받는 대로 저장
+            outcome = storeItems(items, pageNumber, state, result, syncKey);
+        }
+        return outcome
+                .onErrorResume(error -> {
+                    log.warn("[{}] 페이지 {} 요청 실패: {}", syncKey, pageNumber, error.getMessage());
+                    result.setErrorOccurred(true);
+                    return Mono.just(PageOutcome.FAILED);
+                })
+                .doOnNext(pageOutcome -> state.stopReason = pageOutcome);
+    }
+
+    // 아이템을 받는 대로 STORE_CHUNK_SIZE개씩 upsert 하고 페이지 결과를 판단
+    private Mono<PageOutcome> storeItems(Flux<AladinBookItem> items, int pageNumber, RunState state,
+                                         AladinService.SyncResult result, String syncKey) {
+        int[] count = {0};
+        Long[] lastIsbn = {null};
+        return items
+                .doOnNext(item -> {
+                    count[0]++;
+                    lastIsbn[0] = item.getIsbn13();
+                })
+                .buffer(AladinService.STORE_CHUNK_SIZE)
+                .concatMap(chunk -> aladinService.storeListItems(chunk, searchTarget, result, syncKey))
+                .then(Mono.fromSupplier(() -> {
+                    result.setTotalApiItems(result.getTotalApiItems() + count[0]);
+                    if (count[0] == 0) {
+                        state.reachedEnd = true;
+                        return PageOutcome.END;
+                    }
+                    if (result.isErrorOccurred()) {
+                        return PageOutcome.FAILED;
+                    }
+                    state.lastStoredPage = pageNumber;
+                    state.lastSeenIsbn = lastIsbn[0];
+                    state.reachedEnd = count[0] < AladinService.MAX_RESULTS_PER_PAGE
+                            || pageNumber >= AladinService.MAX_LIST_PAGE;
+                    return PageOutcome.STORED;
+                }));
+    }
+
+    // 이번 실행 결과로 체크포인트, 페이지 수, 다음 동기화 시각을 갱신
+    private void saveCheckpoint(SyncStatus status, RunState state, AladinService.SyncResult result) {
+        boolean changed = result.getSavedCount() + result.getUpdatedCount() > 0;
+        int pagesPerRun = pagesPerRunOf(status);
+        int unchangedStreak = status.getUnchangedStreak() != null ? status.getUnchangedStreak() : 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (state.lastStoredPage > 0) {
+            status.setLastProcessedPage(state.lastStoredPage);
+            status.setLastSeenIsbn(state.lastSeenIsbn);
+        }
+        if (state.headPageHash != null) {
+            status.setHeadPageHash(state.headPageHash);
+        }
+
+        if (state.stopReason == PageOutcome.FAILED) {
+            // 실패: 마지막으로 저장한 페이지에서 다음 주기에 다시 시도
+            pagesPerRun = Math.max(1, pagesPerRun / 2);
+            status.setNextSyncAt(now.plusMinutes(Math.max(1, categoryIntervalMinutes / 12)));
+        } else if (state.stopReason == PageOutcome.HEAD_UNCHANGED || state.reachedEnd) {
+            // 회차 완료(또는 생략): 다음 회차는 1페이지부터, 변경이 없을수록 간격을 늘림
+            status.setLastProcessedPage(0);
+            unchangedStreak = changed ? 0 : unchangedStreak + 1;
+            pagesPerRun = changed ? Math.min(maxPagesPerRun, pagesPerRun * 2) : Math.max(1, pagesPerRun / 2);
+            long shift = Math.min(unchangedStreak, MAX_BACKOFF_SHIFT);
+            status.setNextSyncAt(now.plus(Duration.ofMinutes(categoryIntervalMinutes << shift)));
+        } else {
+            // 페이지 수 한도로 중간에 멈춤: 다음 주기에 이어서 진행
+            pagesPerRun = changed ? Math.min(maxPagesPerRun, pagesPerRun * 2) : pagesPerRun;
+            status.setNextSyncAt(now);
+        }
+        status.setPagesPerRun(pagesPerRun);
+        status.setUnchangedStreak(unchangedStreak);
+        status.setLastUpdated(now);
+        syncStatusRepository.save(status);
+
+        log.info("[{}] 동기화: 페이지 {}~{} ({}), 신규 {}, 업데이트 {}, 변경 없음 {}, {} ms ({} rows/sec), 다음 실행 {}, 다음 페이지 수 {}",
+                status.getSyncKey(), result.getStartPage(), result.getLastAttemptedPage(), state.stopReason,
+                result.getSavedCount(), result.getUpdatedCount(), result.getUnchangedCount(),
+                result.getElapsedMillis(), String.format("%.1f", result.getRowsPerSecond()),
+                status.getNextSyncAt(), pagesPerRun);
+    }
+
+    private int pagesPerRunOf(SyncStatus status) {
+        int pages = status.getPagesPerRun() != null ? status.getPagesPerRun() : initialPagesPerRun;
+        return Math.max(1, Math.min(pages, maxPagesPerRun));
+    }
+
+    // 페이지 내용(순서 포함) 해시: ISBN, 제목, 가격, 출간일
+    static String pageHash(List<AladinBookItem> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (AladinBookItem item : items) {
+                String line = item.getIsbn13() + "|" + item.getTitle() + "|" + item.getPriceStandard() + "|" + item.getPubDate() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,60 +1,62 @@
 package com.my.bookduck.service;
 
-import com.my.bookduck.domain.book.Category;
-import com.my.bookduck.repository.CategoryRepository;
+import com.my.bookduck.controller.response.CategorySimpleDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * 카테고리 조회. 모두 메모리 트리(CategoryTree)에서 읽으므로 DB를 조회하지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryTree categoryTree;
 
-    public List<Category> getMainCategories() {
-        return categoryRepository.findAllByParentIsNullOrderByNameAsc();
+    public List<CategorySimpleDto> getMainCategories() {
+        return categoryTree.roots();
     }
 
-    public List<Category> getSubCategories(Long parentId) {
+    public List<CategorySimpleDto> getSubCategories(Long parentId) {
         if (parentId == null) {
             return List.of();
         }
-        return categoryRepository.findByParentIdOrderByNameAsc(parentId);
+        return categoryTree.children(parentId);
     }
 
-    public Optional<Category> findById(Long categoryId) {
-        return categoryRepository.findById(categoryId);
+    public Optional<CategorySimpleDto> findById(Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        return categoryTree.find(categoryId);
     }
 
     /**
-     * 주어진 대분류 ID와 그 하위 모든 소분류 ID들을 Set<Long>으로 반환합니다.
+     * 주어진 카테고리 ID와 그 하위 모든 카테고리(손자 이하 포함) ID들을 Set<Long>으로 반환합니다.
      * @param mainCategoryId 대분류 카테고리 ID
-     * @return 대분류 ID 자신과 모든 소분류 ID를 포함하는 Set (없으면 빈 Set)
+     * @return 대분류 ID 자신과 모든 하위 카테고리 ID를 포함하는 Set (트리 스냅샷에 없는 ID면 {mainCategoryId})
      */
     public Set<Long> getAllSubCategoryIdsIncludingMain(Long mainCategoryId) {
         if (mainCategoryId == null) {
             return Set.of();
         }
-        // 자기 자신 ID 추가
-        Set<Long> categoryIds = new HashSet<>();
-        categoryIds.add(mainCategoryId);
-
-        // 하위 카테고리들의 ID 추가
-        List<Category> subCategories = categoryRepository.findByParentIdOrderByNameAsc(mainCategoryId);
-        if (subCategories != null && !subCategories.isEmpty()) {
-            categoryIds.addAll(subCategories.stream().map(Category::getId).collect(Collectors.toSet()));
+        long[] subtreeIds = categoryTree.subtreeIds(mainCategoryId);
+        if (subtreeIds.length == 0) {
+            // 스냅샷 이후 추가된 카테고리 등: 필터가 '전체'로 풀리지 않도록 자기 자신만 사용
+            return Set.of(mainCategoryId);
+        }
+        Set<Long> categoryIds = new LinkedHashSet<>(subtreeIds.length * 2);
+        for (long id : subtreeIds) {
+            categoryIds.add(id);
         }
         log.debug("Category IDs for main category {}: {}", mainCategoryId, categoryIds);
         return categoryIds;
     }
-}
\ No newline at end of file
+}
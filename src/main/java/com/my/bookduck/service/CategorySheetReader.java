@@ -0,0 +1,219 @@
+package com.my.bookduck.service;
+
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 엑셀 첫 번째 시트를 통합 문서 전체를 메모리에 올리지 않고 행 단위로 읽습니다 (POI 이벤트 모델).
+ * <ul>
+ *     <li>xlsx: XSSFReader + SAX (XSSFSheetXMLHandler)</li>
+ *     <li>xls: HSSF 레코드 이벤트 (HSSFEventFactory)</li>
+ * </ul>
+ * 셀 값은 DataFormatter로 서식을 적용한 문자열로 전달하며, 비어 있는 셀은 null입니다.
+ */
+final class CategorySheetReader {
+
+    /** 행 하나를 받을 콜백. cells[i]는 i번째 컬럼 값 (없으면 null) */
+    @FunctionalInterface
+    interface RowHandler {
+        void row(int rowIndex, String[] cells);
+    }
+
+    private CategorySheetReader() {
+    }
+
+    static void read(File file, RowHandler handler) throws IOException {
+        FileMagic magic = FileMagic.valueOf(file);
+        if (magic == FileMagic.OOXML) {
+            readXlsx(openPackage(() -> OPCPackage.open(file, PackageAccess.READ)), handler);
+        } else if (magic == FileMagic.OLE2) {
+            try (POIFSFileSystem fs = new POIFSFileSystem(file, true)) {
+                readXls(fs, handler);
+            }
+        } else {
+            throw new IOException("Unsupported Excel file format: " + magic);
+        }
+    }
+
+    static void read(InputStream inputStream, RowHandler handler) throws IOException {
+        InputStream in = FileMagic.prepareToCheckMagic(inputStream);
+        FileMagic magic = FileMagic.valueOf(in);
+        if (magic == FileMagic.OOXML) {
+            readXlsx(openPackage(() -> OPCPackage.open(in)), handler);
+        } else if (magic == FileMagic.OLE2) {
+            try (POIFSFileSystem fs = new POIFSFileSystem(in)) {
+                readXls(fs, handler);
+            }
+        } else {
+            throw new IOException("Unsupported Excel file format: " + magic);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PackageOpener {
+        OPCPackage open() throws IOException, OpenXML4JException;
+    }
+
+    private static OPCPackage openPackage(PackageOpener opener) throws IOException {
+        try {
+            return opener.open();
+        } catch (OpenXML4JException e) {
+            throw new IOException("Invalid xlsx file", e);
+        }
+    }
+
+    // 읽기 전용으로 연 패키지는 close(저장) 대신 revert로 정리
+    private static void readXlsx(OPCPackage pkg, RowHandler handler) throws IOException {
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IOException("Excel file does not contain any sheets.");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null, strings,
+                        new XlsxRowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (SAXException | ParserConfigurationException | OpenXML4JException e) {
+            throw new IOException("Failed to parse xlsx sheet", e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private static void readXls(POIFSFileSystem fs, RowHandler handler) throws IOException {
+        XlsRowCollector collector = new XlsRowCollector(handler);
+        FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(collector);
+        collector.formats = formats;
+        HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(formats);
+        new HSSFEventFactory().processWorkbookEvents(request, fs);
+        collector.flush();
+    }
+
+    /** 한 행의 셀을 모았다가 행이 끝나면 넘김 */
+    private static class RowBuffer {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        int rowIndex = -1;
+
+        RowBuffer(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        void set(int column, String value) {
+            while (cells.size() <= column) {
+                cells.add(null);
+            }
+            String trimmed = value == null ? null : value.trim();
+            cells.set(column, (trimmed == null || trimmed.isEmpty()) ? null : trimmed);
+        }
+
+        void flush() {
+            if (rowIndex >= 0 && !cells.isEmpty()) {
+                handler.row(rowIndex, cells.toArray(new String[0]));
+            }
+            cells.clear();
+        }
+    }
+
+    private static class XlsxRowCollector extends RowBuffer implements XSSFSheetXMLHandler.SheetContentsHandler {
+        XlsxRowCollector(RowHandler handler) {
+            super(handler);
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            rowIndex = rowNum;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            flush();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference != null) {
+                set(new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+    }
+
+    // BIFF 레코드는 행 순서대로 오므로 행 번호가 바뀌면 이전 행을 넘김. 첫 번째 워크시트만 읽음
+    private static class XlsRowCollector extends RowBuffer implements HSSFListener {
+        private FormatTrackingHSSFListener formats;
+        private SSTRecord sst;
+        private int worksheetIndex = -1;
+
+        XlsRowCollector(RowHandler handler) {
+            super(handler);
+        }
+
+        @Override
+        public void processRecord(org.apache.poi.hssf.record.Record record) {
+            switch (record.getSid()) {
+                case BOFRecord.sid -> {
+                    if (((BOFRecord) record).getType() == BOFRecord.TYPE_WORKSHEET) {
+                        worksheetIndex++;
+                    }
+                }
+                case SSTRecord.sid -> sst = (SSTRecord) record;
+                case LabelSSTRecord.sid -> {
+                    LabelSSTRecord label = (LabelSSTRecord) record;
+                    cell(label, sst == null ? null : sst.getString(label.getSSTIndex()).getString());
+                }
+                case LabelRecord.sid -> cell((LabelRecord) record, ((LabelRecord) record).getValue());
+                case NumberRecord.sid -> cell((NumberRecord) record, formats.formatNumberDateCell((NumberRecord) record));
+                default -> {
+                    // 그 외 레코드(수식, 서식 등)는 사용하지 않음
+                }
+            }
+        }
+
+        private void cell(CellValueRecordInterface cell, String value) {
+            if (worksheetIndex != 0) {
+                return;
+            }
+            if (cell.getRow() != rowIndex) {
+                flush();
+                rowIndex = cell.getRow();
+            }
+            set(cell.getColumn(), value);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.CategorySimpleDto;
+import com.my.bookduck.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 카테고리 테이블 전체를 메모리에 올린 불변 트리 스냅샷입니다. 목록 화면의 필터 렌더링/하위 카테고리 조회에 DB를 쓰지 않습니다.
+ * <ul>
+ *     <li>ID는 정렬된 long 배열로 보관하고 이진 탐색으로 노드 번호를 찾음</li>
+ *     <li>전위 순회(오일러 투어) 구간 [enter, exit)을 미리 계산: 하위 여부 판단은 O(1), 하위 전체는 순회 배열의 연속 구간</li>
+ *     <li>이름순 자식 목록은 노드별 불변 리스트로 캐시</li>
+ * </ul>
+ * 기동 완료 후 한 번 만들고, 카테고리 엑셀 가져오기(ExcelService)가 커밋되면 새 스냅샷을 만들어 통째로 교체합니다.
+ * 교체는 가져오기를 실행한 노드에서만 일어나므로 단일 노드 운영을 전제로 합니다. (여러 노드면 재기동 전까지 다른 노드는 이전 트리를 사용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTree {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Snapshot built = Snapshot.build(categoryRepository.findAllTreeRows());
+        snapshot = built;
+        log.info("Category tree built: {} categories, {} roots, {} ms.",
+                built.ids.length, built.roots.size(), System.currentTimeMillis() - started);
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋 후에, 없으면 바로 다시 만듭니다. */
+    public void rebuildAfterCommit() {
+        AfterCommit.run(this::rebuild);
+    }
+
+    /** 최상위(대분류) 카테고리, 이름순 */
+    public List<CategorySimpleDto> roots() {
+        return current().roots;
+    }
+
+    /** 직계 하위 카테고리, 이름순 (없는 ID면 빈 목록) */
+    public List<CategorySimpleDto> children(long id) {
+        Snapshot s = current();
+        int node = s.indexOf(id);
+        return node < 0 ? List.of() : s.children.get(node);
+    }
+
+    public Optional<CategorySimpleDto> find(long id) {
+        Snapshot s = current();
+        int node = s.indexOf(id);
+        return node < 0 ? Optional.empty() : Optional.of(s.views[node]);
+    }
+
+    /** id가 ancestorId 자신이거나 그 하위(손자 이하 포함)인지 여부 */
+    public boolean isSelfOrDescendant(long ancestorId, long id) {
+        Snapshot s = current();
+        int ancestor = s.indexOf(ancestorId);
+        int node = s.indexOf(id);
+        return ancestor >= 0 && node >= 0 && s.enter[ancestor] <= s.enter[node] && s.enter[node] < s.exit[ancestor];
+    }
+
+    /** 자기 자신과 모든 하위 카테고리 ID (순회 순서, 없는 ID면 빈 배열) */
+    public long[] subtreeIds(long id) {
+        Snapshot s = current();
+        int node = s.indexOf(id);
+        return node < 0 ? new long[0] : Arrays.copyOfRange(s.order, s.enter[node], s.exit[node]);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // 기동 완료 전 호출: 이 자리에서 한 번 만듦
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private static final class Snapshot {
+        // 노드 번호 = ids에서의 위치 (ID 오름차순)
+        private final long[] ids;
+        private final CategorySimpleDto[] views;
+        private final List<List<CategorySimpleDto>> children;
+        private final List<CategorySimpleDto> roots;
+        // 전위 순회 순서의 ID, 노드별 구간 [enter, exit)
+        private final long[] order;
+        private final int[] enter;
+        private final int[] exit;
+
+        private Snapshot(long[] ids, CategorySimpleDto[] views, int[] parent) {
+            int n = ids.length;
+            this.ids = ids;
+            this.views = views;
+
+            Comparator<Integer> byName = Comparator
+                    .comparing((Integer i) -> views[i].getName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparingLong(i -> ids[i]);
+            List<List<Integer>> childNodes = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                childNodes.add(new ArrayList<>());
+            }
+            List<Integer> rootNodes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                (parent[i] < 0 ? rootNodes : childNodes.get(parent[i])).add(i);
+            }
+            rootNodes.sort(byName);
+            this.children = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                childNodes.get(i).sort(byName);
+                this.children.add(toViews(childNodes.get(i)));
+            }
+            this.roots = toViews(rootNodes);
+
+            // 반복 DFS로 전위 순회 (순환 참조로 루트에서 닿지 않는 노드는 빈 구간 [n, n))
+            this.order = new long[n];
+            this.enter = new int[n];
+            this.exit = new int[n];
+            Arrays.fill(enter, n);
+            Arrays.fill(exit, n);
+            int[] stack = new int[n];
+            int[] nextChild = new int[n];
+            boolean[] visited = new boolean[n];
+            int position = 0;
+            for (int root : rootNodes) {
+                int top = 0;
+                stack[top++] = root;
+                visited[root] = true;
+                enter[root] = position;
+                order[position++] = ids[root];
+                while (top > 0) {
+                    int node = stack[top - 1];
+                    List<Integer> kids = childNodes.get(node);
+                    if (nextChild[node] < kids.size()) {
+                        int child = kids.get(nextChild[node]++);
+                        if (!visited[child]) {
+                            visited[child] = true;
+                            enter[child] = position;
+                            order[position++] = ids[child];
+                            stack[top++] = child;
+                        }
+                    } else {
+                        exit[node] = position;
+                        top--;
+                    }
+                }
+            }
+        }
+
+        static Snapshot build(List<CategoryRepository.TreeRow> rows) {
+            List<CategoryRepository.TreeRow> sorted = new ArrayList<>(rows);
+            sorted.removeIf(row -> row.getId() == null);
+            sorted.sort(Comparator.comparingLong(CategoryRepository.TreeRow::getId));
+            int n = sorted.size();
+            long[] ids = new long[n];
+            CategorySimpleDto[] views = new CategorySimpleDto[n];
+            for (int i = 0; i < n; i++) {
+                CategoryRepository.TreeRow row = sorted.get(i);
+                ids[i] = row.getId();
+                views[i] = new CategorySimpleDto(row.getId(), row.getName(), row.getParentId());
+            }
+            int[] parent = new int[n];
+            for (int i = 0; i < n; i++) {
+                Long parentId = sorted.get(i).getParentId();
+                parent[i] = parentId == null ? -1 : Arrays.binarySearch(ids, parentId);
+                if (parent[i] < 0) {
+                    parent[i] = -1; // 부모 행이 없으면 최상위로 취급
+                }
+            }
+            return new Snapshot(ids, views, parent);
+        }
+
+        int indexOf(long id) {
+            int node = Arrays.binarySearch(ids, id);
+            return node >= 0 ? node : -1;
+        }
+
+        private List<CategorySimpleDto> toViews(List<Integer> nodes) {
+            if (nodes.isEmpty()) {
+                return List.of();
+            }
+            List<CategorySimpleDto> result = new ArrayList<>(nodes.size());
+            for (int node : nodes) {
+                result.add(views[node]);
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
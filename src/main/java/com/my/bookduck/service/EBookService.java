@@ -1,25 +1,54 @@
 package com.my.bookduck.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.bookduck.controller.response.EpubManifestResponse;
 import com.my.bookduck.domain.book.Book;
+import com.my.bookduck.domain.book.BookEpubManifest;
 import com.my.bookduck.domain.book.BookInfo;
+import com.my.bookduck.repository.BookEpubManifestRepository;
 import com.my.bookduck.repository.BookInfoRepository;
 import com.my.bookduck.repository.BookRepository;
 import jakarta.annotation.PostConstruct; // PostConstruct 임포트
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nl.siegmann.epublib.domain.SpineReference;
+import nl.siegmann.epublib.domain.TOCReference;
+import nl.siegmann.epublib.epub.EpubReader;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver; // 리소스 패턴 리졸버
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 // import org.springframework.util.FileCopyUtils; // FileCopyUtils는 이 예제에서 직접 사용하지 않음
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +57,9 @@ public class EBookService {
 
     private final BookInfoRepository bookInfoRepository;
     private final BookRepository bookRepository;
+    private final EpubContentStore epubContentStore;
+    private final BookEpubManifestRepository bookEpubManifestRepository;
+    private final ObjectMapper objectMapper;
 
     // application.properties (또는 yml)에서 설정할 임시 디렉토리 경로
     // 예: epub.temp.base-path=/app_data/epubs 또는 C:/app_data/epubs
@@ -39,6 +71,48 @@ public class EBookService {
     // 이 필드는 @PostConstruct 메소드에서 초기화됩니다.
     private Path fileSystemEpubBasePath;
 
+    // 책 ID별로 풀어둔 EPUB의 매니페스트 캐시 (EPUB 파일이 바뀌면 다시 ingest, 실패한 버전은 manifest가 null)
+    private final Map<Long, CachedManifest> manifestCache = new ConcurrentHashMap<>();
+
+    // 책 ID별 진행 중인 ingest (같은 책을 중복으로 풀어내지 않도록)
+    private final Map<Long, CompletableFuture<CachedManifest>> ingestsInProgress = new ConcurrentHashMap<>();
+
+    // 책 ID별 EPUB 구조 정보(매니페스트/spine/목차) 캐시
+    private final Map<Long, CachedEpubManifest> epubManifestCache = new ConcurrentHashMap<>();
+
+    private record CachedEpubManifest(String epubPath, long size, long lastModified, EpubManifestResponse manifest) {
+        boolean matches(String path, long fileSize, long modified) {
+            return epubPath.equals(path) && size == fileSize && lastModified == modified;
+        }
+    }
+
+    private record CachedManifest(Path epubFilePath, FileTime lastModified, long size, EpubContentStore.Manifest manifest) {
+        boolean matches(Path path, FileTime modified, long fileSize) {
+            return epubFilePath.equals(path) && lastModified.equals(modified) && size == fileSize;
+        }
+    }
+
+    @Value("${epub.sync.background:true}") // true: 기동 완료(ApplicationReadyEvent) 후 백그라운드에서 복사, false: 기동 중 복사 완료까지 대기
+    private boolean backgroundSync;
+
+    // EPUB 리소스 복사용 스레드 풀 (AsyncConfig의 epubSyncTaskExecutor)
+    private final ThreadPoolTaskExecutor epubSyncTaskExecutor;
+
+    // EPUB을 내용 저장소에 풀어내는 스레드 풀 (AsyncConfig의 epubIngestTaskExecutor)
+    private final ThreadPoolTaskExecutor epubIngestTaskExecutor;
+
+    @Value("${epub.content.orphan-min-age-minutes:60}") // 이보다 최근에 수정된 파일은 정리하지 않음 (진행 중인 ingest 보호)
+    private long orphanMinAgeMinutes;
+
+    public enum EpubSyncState { PENDING, SYNCING, READY, FAILED }
+
+    // EPUB 리소스 동기화 상태 (헬스 체크 및 뷰어 요청 응답에 사용)
+    private volatile EpubSyncState epubSyncState = EpubSyncState.PENDING;
+    private final AtomicInteger syncCopiedCount = new AtomicInteger();
+    private final AtomicInteger syncSkippedCount = new AtomicInteger();
+    private final AtomicInteger syncFailedCount = new AtomicInteger();
+    private volatile long syncDurationMillis;
+
     @PostConstruct
     public void initializeEpubResources() {
         try {
@@ -52,64 +126,179 @@ public class EBookService {
             } else {
                 log.info("Using existing temporary EPUB base directory at: {}", this.fileSystemEpubBasePath);
             }
+        } catch (IOException e) {
+            log.error("Critical error during EPUB resource initialization. EPUB functionality may be impaired.", e);
+            // 이 경우, fileSystemEpubBasePath가 null로 남아있거나 유효하지 않은 상태일 수 있습니다.
+            // getBookPath 등에서 null 체크를 통해 안전하게 처리해야 합니다.
+            this.fileSystemEpubBasePath = null;
+            this.epubSyncState = EpubSyncState.FAILED;
+            return;
+        }
+
+        if (!backgroundSync) {
+            syncEpubResources().join();
+        }
+    }
 
-            // JAR 내부의 static/epubs 리소스를 임시 디렉토리로 복사
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncEpubResourcesOnReady() {
+        if (backgroundSync && epubSyncState == EpubSyncState.PENDING) {
+            // 기다리지 않음: 뷰어 외 요청은 바로 처리하고, 복사 진행 상황은 헬스 체크로 확인
+            syncEpubResources();
+        }
+    }
+
+    /**
+     * JAR 내부의 static/epubs 리소스를 EPUB 기본 경로로 복사합니다.
+     * 크기와 SHA-256 해시가 같은 파일은 건너뛰고, 나머지는 epubSyncTaskExecutor에서 병렬로 복사합니다.
+     * 복사는 임시 파일에 쓴 뒤 원자적으로 교체하므로 읽는 쪽에서 반쯤 쓰인 파일을 보지 않습니다.
+     * @return 모든 복사가 끝나면 완료되는 CompletableFuture
+     */
+    public CompletableFuture<Void> syncEpubResources() {
+        if (this.fileSystemEpubBasePath == null) {
+            this.epubSyncState = EpubSyncState.FAILED;
+            return CompletableFuture.completedFuture(null);
+        }
+        this.epubSyncState = EpubSyncState.SYNCING;
+        syncCopiedCount.set(0);
+        syncSkippedCount.set(0);
+        syncFailedCount.set(0);
+        long started = System.currentTimeMillis();
+
+        Resource[] resources;
+        try {
             PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
             // "classpath:/static/epubs/**" 패턴은 JAR 내부의 src/main/resources/static/epubs/ 아래 모든 파일을 찾음
-            Resource[] resources = resolver.getResources("classpath:/static/epubs/**");
-
-            log.info("Found {} resources in classpath:/static/epubs/", resources.length);
-
-            for (Resource resource : resources) {
-                if (resource.isReadable() && resource.exists()) { // 리소스가 읽을 수 있고 존재하는지 확인
-                    String resourceUriString = resource.getURI().toString();
-                    String relativePath = "";
-
-                    // 'static/epubs/' 이후의 상대 경로 추출
-                    // 예: jar:file:/app/server.jar!/BOOT-INF/classes!/static/epubs/dir1/book1.epub
-                    // -> dir1/book1.epub
-                    int indexOfStaticEpubs = resourceUriString.indexOf("static/epubs/");
-                    if (indexOfStaticEpubs != -1) {
-                        relativePath = resourceUriString.substring(indexOfStaticEpubs + "static/epubs/".length());
-                    } else if (resource.getFilename() != null && !resource.getFilename().isEmpty()) {
-                        // 위의 방법으로 상대 경로를 못찾을 경우 파일 이름이라도 사용 (단, 디렉토리 구조가 깨질 수 있음)
-                        // 이 부분은 리소스 구조에 따라 더 정교한 로직이 필요할 수 있습니다.
-                        relativePath = resource.getFilename();
-                        log.warn("Could not determine relative path for resource: {}, using filename: {}", resourceUriString, relativePath);
-                    }
+            resources = resolver.getResources("classpath:/static/epubs/**");
+        } catch (IOException e) {
+            log.error("Failed to list EPUB resources in classpath:/static/epubs/. EPUB functionality may be impaired.", e);
+            this.epubSyncState = EpubSyncState.FAILED;
+            return CompletableFuture.completedFuture(null);
+        }
+        log.info("Found {} resources in classpath:/static/epubs/", resources.length);
 
-                    // 상대 경로가 비어있거나 (예: 디렉토리 자체) 파일 이름이 없는 경우 건너뜀
-                    if (relativePath == null || relativePath.isEmpty() || relativePath.endsWith("/")) {
-                        log.debug("Skipping resource (likely a directory or empty path): {}", resourceUriString);
-                        continue;
-                    }
+        List<CompletableFuture<Void>> copies = new ArrayList<>();
+        for (Resource resource : resources) {
+            String relativePath = resolveRelativeEpubPath(resource);
+            if (relativePath == null) {
+                continue;
+            }
+            Path targetFile = this.fileSystemEpubBasePath.resolve(relativePath);
+            copies.add(CompletableFuture.runAsync(() -> syncEpubResource(resource, targetFile), epubSyncTaskExecutor));
+        }
 
-                    Path targetFile = this.fileSystemEpubBasePath.resolve(relativePath);
+        return CompletableFuture.allOf(copies.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    this.syncDurationMillis = System.currentTimeMillis() - started;
+                    this.epubSyncState = (error == null && syncFailedCount.get() == 0) ? EpubSyncState.READY : EpubSyncState.FAILED;
+                    log.info("EPUB resources sync finished ({}). Copied: {}, unchanged: {}, failed: {}, took {} ms. Base path: {}",
+                            this.epubSyncState, syncCopiedCount.get(), syncSkippedCount.get(), syncFailedCount.get(),
+                            this.syncDurationMillis, this.fileSystemEpubBasePath);
+                });
+    }
 
-                    // 대상 파일의 부모 디렉토리 생성
-                    Files.createDirectories(targetFile.getParent());
+    // 'static/epubs/' 이후의 상대 경로 추출, 디렉토리 등 복사 대상이 아니면 null
+    private String resolveRelativeEpubPath(Resource resource) {
+        try {
+            if (!resource.isReadable() || !resource.exists()) { // 리소스가 읽을 수 있고 존재하는지 확인
+                log.warn("Resource is not readable or does not exist: {}", resource.getDescription());
+                return null;
+            }
+            String resourceUriString = resource.getURI().toString();
+            String relativePath = "";
 
-                    try (InputStream inputStream = resource.getInputStream()) {
-                        Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
-                        log.info("Copied EPUB resource: {} to {}", resource.getFilename(), targetFile);
-                    } catch (IOException e) {
-                        log.error("Failed to copy resource: {} to {}", resource.getFilename(), targetFile, e);
-                    }
-                } else {
-                    log.warn("Resource is not readable or does not exist: {}", resource.getURI());
+            // 예: jar:file:/app/server.jar!/BOOT-INF/classes!/static/epubs/dir1/book1.epub
+            // -> dir1/book1.epub
+            int indexOfStaticEpubs = resourceUriString.indexOf("static/epubs/");
+            if (indexOfStaticEpubs != -1) {
+                relativePath = resourceUriString.substring(indexOfStaticEpubs + "static/epubs/".length());
+            } else if (resource.getFilename() != null && !resource.getFilename().isEmpty()) {
+                // 위의 방법으로 상대 경로를 못찾을 경우 파일 이름이라도 사용 (단, 디렉토리 구조가 깨질 수 있음)
+                relativePath = resource.getFilename();
+                log.warn("Could not determine relative path for resource: {}, using filename: {}", resourceUriString, relativePath);
+            }
+
+            // 상대 경로가 비어있거나 (예: 디렉토리 자체) 파일 이름이 없는 경우 건너뜀
+            if (relativePath == null || relativePath.isEmpty() || relativePath.endsWith("/")) {
+                log.debug("Skipping resource (likely a directory or empty path): {}", resourceUriString);
+                return null;
+            }
+            return relativePath;
+        } catch (IOException e) {
+            log.warn("Could not resolve EPUB resource location: {}", resource.getDescription(), e);
+            return null;
+        }
+    }
+
+    private void syncEpubResource(Resource resource, Path targetFile) {
+        try {
+            // 대상 파일의 부모 디렉토리 생성
+            Files.createDirectories(targetFile.getParent());
+
+            if (Files.exists(targetFile) && Files.size(targetFile) == resource.contentLength()) {
+                byte[] sourceHash;
+                byte[] targetHash;
+                try (InputStream sourceStream = resource.getInputStream();
+                     InputStream targetStream = Files.newInputStream(targetFile)) {
+                    sourceHash = sha256(sourceStream);
+                    targetHash = sha256(targetStream);
+                }
+                if (MessageDigest.isEqual(sourceHash, targetHash)) {
+                    syncSkippedCount.incrementAndGet();
+                    log.debug("EPUB resource unchanged, skipping copy: {}", targetFile);
+                    return;
                 }
             }
-            log.info("EPUB resources initialization complete. Base path: {}", this.fileSystemEpubBasePath);
 
+            Path tempFile = Files.createTempFile(targetFile.getParent(), ".sync-", ".tmp");
+            try {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            syncCopiedCount.incrementAndGet();
+            log.info("Copied EPUB resource: {} to {}", resource.getFilename(), targetFile);
         } catch (IOException e) {
-            log.error("Critical error during EPUB resource initialization. EPUB functionality may be impaired.", e);
-            // 이 경우, fileSystemEpubBasePath가 null로 남아있거나 유효하지 않은 상태일 수 있습니다.
-            // getBookPath 등에서 null 체크를 통해 안전하게 처리해야 합니다.
-            // 또는 애플리케이션 실행을 중단시키는 것도 고려할 수 있습니다.
-            // throw new RuntimeException("Failed to initialize EPUB resources", e);
+            syncFailedCount.incrementAndGet();
+            log.error("Failed to copy resource: {} to {}", resource.getFilename(), targetFile, e);
+        }
+    }
+
+    private static byte[] sha256(InputStream inputStream) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+                digestStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
         }
     }
 
+    public EpubSyncState getEpubSyncState() {
+        return epubSyncState;
+    }
+
+    /**
+     * 기동 시 EPUB 리소스 복사가 아직 진행 중인지 여부 (진행 중에 없는 파일은 404 대신 503으로 응답)
+     */
+    public boolean isEpubSyncInProgress() {
+        return epubSyncState == EpubSyncState.PENDING || epubSyncState == EpubSyncState.SYNCING;
+    }
+
+    public Map<String, Object> getEpubSyncDetails() {
+        return Map.of(
+                "state", epubSyncState.name(),
+                "copied", syncCopiedCount.get(),
+                "unchanged", syncSkippedCount.get(),
+                "failed", syncFailedCount.get(),
+                "durationMs", syncDurationMillis);
+    }
+
     public String getBookBody(Long book_id) {
         // DB에서 BookInfo를 찾을 때 chapterNum이 1이 아닌 경우도 고려해야 할 수 있습니다.
         BookInfo bookInfo = bookInfoRepository.findByBookIdAndChapterNum(book_id, 1);
@@ -159,4 +348,183 @@ public class EBookService {
         }
         return null; // 책을 못 찾거나 경로 정보가 없으면 null 반환
     }
-}
\ No newline at end of file
+
+    /**
+     * 풀어둔 EPUB 내용 저장소의 루트 경로 (EPUB 기본 경로 아래 .content 디렉토리)
+     */
+    public Path getContentStoreRoot() {
+        return this.fileSystemEpubBasePath != null ? this.fileSystemEpubBasePath.resolve(".content") : null;
+    }
+
+    /**
+     * 책의 EPUB을 풀어둔 내용 저장소의 매니페스트를 반환합니다.
+     * 아직 풀어두지 않았거나 EPUB 파일의 경로, 크기 또는 수정 시각이 바뀌었으면 epubIngestTaskExecutor에서 풀어내도록 예약하고
+     * null을 반환합니다. 그동안 요청은 zip 직접 읽기(EpubArchivePool)로 응답하므로 첫 요청이 ingest를 기다리지 않습니다.
+     * @return 매니페스트, 아직 준비되지 않았거나 처리에 실패했으면 null (호출 측에서 zip 직접 읽기로 대체)
+     */
+    public EpubContentStore.Manifest getContentManifest(Long id, Path epubFilePath) {
+        Path storeRoot = getContentStoreRoot();
+        if (storeRoot == null) {
+            return null;
+        }
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(epubFilePath);
+            long size = Files.size(epubFilePath);
+            CachedManifest cached = manifestCache.get(id);
+            if (cached != null && cached.matches(epubFilePath, lastModified, size)) {
+                return cached.manifest(); // 이 버전의 ingest가 실패했으면 null
+            }
+            startIngest(id, storeRoot, epubFilePath, lastModified, size);
+            return null;
+        } catch (IOException e) {
+            log.error("Failed to read EPUB file attributes for book id {} ({}). Falling back to reading the archive directly.", id, epubFilePath, e);
+            return null;
+        }
+    }
+
+    // 같은 책의 ingest가 진행 중이면 아무것도 하지 않음
+    private void startIngest(Long id, Path storeRoot, Path epubFilePath, FileTime lastModified, long size) {
+        CompletableFuture<CachedManifest> future = new CompletableFuture<>();
+        CompletableFuture<CachedManifest> running = ingestsInProgress.putIfAbsent(id, future);
+        if (running != null) {
+            return;
+        }
+        try {
+            epubIngestTaskExecutor.execute(() -> {
+                try {
+                    CachedManifest ingested;
+                    try {
+                        ingested = new CachedManifest(epubFilePath, lastModified, size, epubContentStore.ingest(storeRoot, epubFilePath));
+                    } catch (IOException | RuntimeException e) {
+                        // 같은 파일 버전으로 다시 시도하지 않도록 실패도 캐시 (파일이 바뀌면 다시 시도)
+                        log.error("Failed to ingest EPUB for book id {} ({}). Serving from the archive directly.", id, epubFilePath, e);
+                        ingested = new CachedManifest(epubFilePath, lastModified, size, null);
+                    }
+                    manifestCache.put(id, ingested);
+                    future.complete(ingested);
+                } finally {
+                    ingestsInProgress.remove(id, future);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            ingestsInProgress.remove(id, future);
+            future.completeExceptionally(e);
+            log.warn("EPUB ingest queue is full; book id {} will be ingested on a later request.", id);
+        }
+    }
+
+    /**
+     * 내용 저장소에서 현재 EPUB 파일들이 참조하지 않는 매니페스트와 객체를 지웁니다.
+     * EPUB 기본 경로 아래 *.epub 파일의 해시를 사용 중인 매니페스트로 봅니다.
+     */
+    @Scheduled(initialDelayString = "${epub.content.orphan-cleanup-interval-ms:86400000}",
+            fixedDelayString = "${epub.content.orphan-cleanup-interval-ms:86400000}")
+    public void removeOrphanedContent() {
+        Path storeRoot = getContentStoreRoot();
+        if (storeRoot == null || !Files.isDirectory(storeRoot)) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Set<String> liveEpubHashes = new HashSet<>();
+        try (Stream<Path> files = Files.walk(this.fileSystemEpubBasePath)) {
+            for (Path file : (Iterable<Path>) files
+                    .filter(path -> !path.startsWith(storeRoot))
+                    .filter(path -> path.getFileName().toString().toLowerCase().endsWith(".epub"))
+                    .filter(Files::isRegularFile)::iterator) {
+                liveEpubHashes.add(epubContentStore.hashFile(file));
+            }
+            int removed = epubContentStore.removeOrphans(storeRoot, liveEpubHashes, Duration.ofMinutes(orphanMinAgeMinutes));
+            log.info("EPUB content store cleanup: {} live EPUBs, {} orphaned files removed, {} ms.",
+                    liveEpubHashes.size(), removed, System.currentTimeMillis() - started);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("EPUB content store cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 책의 EPUB 구조 정보(매니페스트, spine 순서, 목차)를 반환합니다.
+     * 메모리 캐시 → DB(BookEpubManifest) → EPUB 파싱 순으로 찾고, 파싱한 결과는 DB에 저장해 재시작 후에도 재사용합니다.
+     * @param id 책 ID
+     * @return 구조 정보, EPUB이 없거나 파싱에 실패하면 null
+     */
+    public EpubManifestResponse getEpubManifest(Long id) {
+        Path epubFilePath = getBookPath(id);
+        if (epubFilePath == null) {
+            return null;
+        }
+        try {
+            String pathKey = epubFilePath.toString();
+            long size = Files.size(epubFilePath);
+            long lastModified = Files.getLastModifiedTime(epubFilePath).toMillis();
+
+            CachedEpubManifest cached = epubManifestCache.get(id);
+            if (cached != null && cached.matches(pathKey, size, lastModified)) {
+                return cached.manifest();
+            }
+
+            Optional<BookEpubManifest> stored = bookEpubManifestRepository.findById(id)
+                    .filter(m -> m.matches(pathKey, size, lastModified));
+            if (stored.isPresent()) {
+                EpubManifestResponse manifest = objectMapper.readValue(stored.get().getManifestJson(), EpubManifestResponse.class);
+                epubManifestCache.put(id, new CachedEpubManifest(pathKey, size, lastModified, manifest));
+                return manifest;
+            }
+
+            long started = System.currentTimeMillis();
+            EpubManifestResponse manifest = parseEpubManifest(id, epubFilePath);
+            bookEpubManifestRepository.save(new BookEpubManifest(id, pathKey, size, lastModified, objectMapper.writeValueAsString(manifest)));
+            epubManifestCache.put(id, new CachedEpubManifest(pathKey, size, lastModified, manifest));
+            log.info("Parsed EPUB manifest for book id {} ({} resources, {} spine items, {} ms).",
+                    id, manifest.getManifest().size(), manifest.getSpine().size(), System.currentTimeMillis() - started);
+            return manifest;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to build EPUB manifest for book id {} ({}).", id, epubFilePath, e);
+            return null;
+        }
+    }
+
+    private EpubManifestResponse parseEpubManifest(Long id, Path epubFilePath) throws IOException {
+        try (ZipFile zipFile = new ZipFile(epubFilePath.toFile())) {
+            // readEpubLazy: 리소스 내용은 읽지 않고 구조만 파싱
+            nl.siegmann.epublib.domain.Book epub = new EpubReader().readEpubLazy(zipFile, "UTF-8");
+
+            // epublib의 href는 OPF 파일 기준 상대 경로이므로 EPUB 루트 기준으로 바꿔서 내려줌
+            String opfPath = epub.getOpfResource() != null ? epub.getOpfResource().getHref() : null;
+            String basePath = (opfPath != null && opfPath.contains("/")) ? opfPath.substring(0, opfPath.lastIndexOf('/') + 1) : "";
+
+            List<EpubManifestResponse.ManifestItem> manifestItems = new ArrayList<>();
+            for (nl.siegmann.epublib.domain.Resource resource : epub.getResources().getAll()) {
+                manifestItems.add(new EpubManifestResponse.ManifestItem(
+                        resource.getId(),
+                        basePath + resource.getHref(),
+                        resource.getMediaType() != null ? resource.getMediaType().getName() : EpubContentStore.determineMimeType(resource.getHref()),
+                        resource.getSize()));
+            }
+
+            List<EpubManifestResponse.SpineItem> spineItems = new ArrayList<>();
+            for (SpineReference spineReference : epub.getSpine().getSpineReferences()) {
+                spineItems.add(new EpubManifestResponse.SpineItem(
+                        spineReference.getResourceId(),
+                        basePath + spineReference.getResource().getHref(),
+                        spineReference.isLinear()));
+            }
+
+            return new EpubManifestResponse(id, epub.getTitle(), opfPath, manifestItems, spineItems,
+                    toTocItems(epub.getTableOfContents().getTocReferences(), basePath));
+        }
+    }
+
+    private List<EpubManifestResponse.TocItem> toTocItems(List<TOCReference> references, String basePath) {
+        List<EpubManifestResponse.TocItem> items = new ArrayList<>();
+        if (references == null) {
+            return items;
+        }
+        for (TOCReference reference : references) {
+            items.add(new EpubManifestResponse.TocItem(
+                    reference.getTitle(),
+                    reference.getCompleteHref() != null ? basePath + reference.getCompleteHref() : null,
+                    toTocItems(reference.getChildren(), basePath)));
+        }
+        return items;
+    }
+}
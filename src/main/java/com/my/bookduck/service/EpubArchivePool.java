@@ -0,0 +1,231 @@
+package com.my.bookduck.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 책 ID별로 열린 EPUB(zip) FileSystem 핸들을 재사용하기 위한 풀입니다.
+ * 요청마다 zip central directory를 다시 읽지 않도록 핸들을 참조 카운트와 함께 보관하고,
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 핸들부터 닫습니다(LRU).
+ * EPUB 파일이 교체되면(수정 시각/크기 변경) 기존 핸들은 폐기 상태가 되어 마지막 사용자가 반납할 때 닫힙니다.
+ */
+@Component
+@Slf4j
+public class EpubArchivePool {
+
+    @Value("${epub.pool.max-open:64}") // 동시에 열어둘 최대 EPUB 수
+    private int maxOpen;
+
+    @Value("${epub.pool.idle-timeout-ms:300000}") // 이 시간 동안 사용되지 않으면 닫음 (기본 5분)
+    private long idleTimeoutMillis;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래 사용되지 않은 핸들
+    private final LinkedHashMap<Long, ArchiveHandle> handles = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 책의 EPUB 핸들을 빌려옵니다. 반드시 try-with-resources 등으로 close 하여 반납해야 합니다.
+     * @param bookId 책 ID
+     * @param epubFilePath 실제 EPUB 파일 경로
+     * @return 반납 가능한 Lease
+     */
+    public Lease acquire(Long bookId, Path epubFilePath) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(epubFilePath);
+        long size = Files.size(epubFilePath);
+
+        synchronized (this) {
+            ArchiveHandle handle = handles.get(bookId);
+            if (handle != null && handle.matches(epubFilePath, lastModified, size)) {
+                return handle.lease();
+            }
+            if (handle != null) {
+                log.info("EPUB file for book {} has changed or moved. Retiring cached archive handle.", bookId);
+                handles.remove(bookId);
+                handle.retire();
+            }
+        }
+
+        // zip central directory 읽기는 락 밖에서 수행
+        FileSystem zipFs = FileSystems.newFileSystem(epubFilePath, (ClassLoader) null);
+        ArchiveHandle opened = new ArchiveHandle(bookId, epubFilePath, lastModified, size, zipFs);
+
+        synchronized (this) {
+            ArchiveHandle raced = handles.get(bookId);
+            if (raced != null && raced.matches(epubFilePath, lastModified, size)) {
+                // 다른 요청이 먼저 열어둔 핸들이 있으면 그것을 사용하고 방금 연 것은 닫음
+                opened.closeQuietly();
+                return raced.lease();
+            }
+            if (raced != null) {
+                handles.remove(bookId);
+                raced.retire();
+            }
+            handles.put(bookId, opened);
+            log.debug("Opened EPUB archive handle for book {} ({} handles cached).", bookId, handles.size());
+            Lease lease = opened.lease();
+            evictOverflow();
+            return lease;
+        }
+    }
+
+    /**
+     * EPUB 파일이 교체되었거나 삭제되었을 때 캐시된 핸들을 폐기합니다.
+     * 사용 중인 요청이 있으면 마지막 반납 시점에 닫힙니다.
+     */
+    public synchronized void invalidate(Long bookId) {
+        ArchiveHandle handle = handles.remove(bookId);
+        if (handle != null) {
+            log.info("Invalidated cached EPUB archive handle for book {}.", bookId);
+            handle.retire();
+        }
+    }
+
+    public synchronized int size() {
+        return handles.size();
+    }
+
+    @Scheduled(fixedDelayString = "${epub.pool.evict-interval-ms:60000}")
+    public void closeIdleHandles() {
+        long now = System.currentTimeMillis();
+        List<ArchiveHandle> idle = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Long, ArchiveHandle>> it = handles.entrySet().iterator();
+            while (it.hasNext()) {
+                ArchiveHandle handle = it.next().getValue();
+                if (handle.refCount == 0 && now - handle.lastAccess > idleTimeoutMillis) {
+                    it.remove();
+                    idle.add(handle);
+                }
+            }
+        }
+        for (ArchiveHandle handle : idle) {
+            handle.retire();
+        }
+        if (!idle.isEmpty()) {
+            log.debug("Closed {} idle EPUB archive handles.", idle.size());
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        List<ArchiveHandle> all;
+        synchronized (this) {
+            all = new ArrayList<>(handles.values());
+            handles.clear();
+        }
+        all.forEach(ArchiveHandle::retire);
+        log.info("Closed {} cached EPUB archive handles.", all.size());
+    }
+
+    // 호출 시 this 락을 잡고 있어야 함
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, ArchiveHandle>> it = handles.entrySet().iterator();
+        while (handles.size() > maxOpen && it.hasNext()) {
+            ArchiveHandle eldest = it.next().getValue();
+            it.remove();
+            log.debug("Evicting least recently used EPUB archive handle for book {}.", eldest.bookId);
+            eldest.retire();
+        }
+    }
+
+    /**
+     * 풀에서 빌린 EPUB 핸들. close 시 참조 카운트가 감소합니다.
+     */
+    public final class Lease implements AutoCloseable {
+        private final ArchiveHandle handle;
+        private boolean released;
+
+        private Lease(ArchiveHandle handle) {
+            this.handle = handle;
+        }
+
+        public Path getPath(String internalPath) {
+            return handle.zipFs.getPath(internalPath);
+        }
+
+        public Path getEpubFilePath() {
+            return handle.epubFilePath;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            synchronized (EpubArchivePool.this) {
+                handle.release();
+            }
+        }
+    }
+
+    private final class ArchiveHandle {
+        private final Long bookId;
+        private final Path epubFilePath;
+        private final FileTime lastModified;
+        private final long size;
+        private final FileSystem zipFs;
+        private int refCount;
+        private long lastAccess;
+        private boolean retired;
+
+        private ArchiveHandle(Long bookId, Path epubFilePath, FileTime lastModified, long size, FileSystem zipFs) {
+            this.bookId = bookId;
+            this.epubFilePath = epubFilePath;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.zipFs = zipFs;
+            this.lastAccess = System.currentTimeMillis();
+        }
+
+        private boolean matches(Path path, FileTime modified, long fileSize) {
+            return epubFilePath.equals(path) && lastModified.equals(modified) && size == fileSize;
+        }
+
+        // 아래 메소드들은 모두 풀의 락 안에서 호출됨
+        private Lease lease() {
+            refCount++;
+            lastAccess = System.currentTimeMillis();
+            return new Lease(this);
+        }
+
+        private void release() {
+            refCount--;
+            lastAccess = System.currentTimeMillis();
+            if (retired && refCount == 0) {
+                closeQuietly();
+            }
+        }
+
+        private void retire() {
+            synchronized (EpubArchivePool.this) {
+                retired = true;
+                if (refCount == 0) {
+                    closeQuietly();
+                }
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                zipFs.close();
+            } catch (IOException e) {
+                log.warn("Failed to close EPUB archive handle for book {}: {}", bookId, e.getMessage());
+            }
+        }
+    }
+}
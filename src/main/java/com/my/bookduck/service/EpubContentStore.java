@@ -0,0 +1,326 @@
+package com.my.bookduck.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * EPUB 내부 파일을 한 번만 풀어서 내용 해시(SHA-256) 기반 디렉토리에 저장하는 저장소입니다.
+ * <pre>
+ * {root}/objects/{hash 앞 2자리}/{hash}        원본 파일
+ * {root}/objects/{hash 앞 2자리}/{hash}.gz     텍스트 계열 파일의 gzip 변형
+ * {root}/manifests/{EPUB 파일 hash}.json       내부 경로 → (hash, size, MIME, gzip 크기)
+ * </pre>
+ * 같은 내용의 파일(공통 폰트, CSS 등)은 여러 책에서 하나의 객체를 공유합니다.
+ * 해시는 그대로 강한 ETag로 사용할 수 있습니다.
+ * EPUB이 교체되어 더 이상 쓰이지 않는 매니페스트와, 어느 매니페스트도 참조하지 않는 객체는 removeOrphans로 지웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EpubContentStore {
+
+    private static final String OBJECTS_DIR = "objects";
+    private static final String MANIFESTS_DIR = "manifests";
+    private static final int GZIP_MIN_SIZE = 1024; // 이보다 작은 파일은 gzip 변형을 만들지 않음
+    private static final Set<String> COMPRESSIBLE_MIME_TYPES = Set.of(
+            "application/xml", "application/xhtml+xml", "text/css", "application/javascript", "image/svg+xml");
+
+    private final ObjectMapper objectMapper;
+
+    /** 매니페스트 항목 (내부 경로 하나) */
+    public record Entry(String hash, long size, String mimeType, Long gzipSize) {
+        public boolean hasGzipVariant() {
+            return gzipSize != null;
+        }
+    }
+
+    /** EPUB 하나의 매니페스트 */
+    public record Manifest(String epubHash, Map<String, Entry> entries) {
+        public Entry find(String internalPath) {
+            return entries.get(normalizeEntryName(internalPath));
+        }
+    }
+
+    /**
+     * EPUB을 저장소에 풀어 넣고 매니페스트를 반환합니다.
+     * 같은 내용의 EPUB이 이미 처리되었다면 저장된 매니페스트를 그대로 읽어옵니다.
+     * @param storeRoot 저장소 루트 디렉토리
+     * @param epubFilePath EPUB 파일 경로
+     */
+    public Manifest ingest(Path storeRoot, Path epubFilePath) throws IOException {
+        String epubHash = hashFile(epubFilePath);
+        Path manifestPath = storeRoot.resolve(MANIFESTS_DIR).resolve(epubHash + ".json");
+        if (Files.exists(manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifestPath)) {
+                return objectMapper.readValue(in, Manifest.class);
+            } catch (IOException e) {
+                log.warn("Stored EPUB manifest {} is unreadable. Re-ingesting {}.", manifestPath, epubFilePath, e);
+            }
+        }
+
+        long started = System.currentTimeMillis();
+        Path objectsRoot = storeRoot.resolve(OBJECTS_DIR);
+        Files.createDirectories(objectsRoot);
+        Files.createDirectories(manifestPath.getParent());
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try (ZipFile zipFile = new ZipFile(epubFilePath.toFile())) {
+            Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                if (zipEntry.isDirectory()) {
+                    continue;
+                }
+                String entryName = normalizeEntryName(zipEntry.getName());
+                if (entryName.isEmpty()) {
+                    continue;
+                }
+                try (InputStream in = zipFile.getInputStream(zipEntry)) {
+                    entries.put(entryName, storeObject(objectsRoot, entryName, in));
+                }
+            }
+        }
+
+        Manifest manifest = new Manifest(epubHash, entries);
+        Path tempManifest = Files.createTempFile(manifestPath.getParent(), epubHash, ".tmp");
+        try {
+            objectMapper.writeValue(tempManifest.toFile(), manifest);
+            moveIntoPlace(tempManifest, manifestPath);
+        } finally {
+            Files.deleteIfExists(tempManifest);
+        }
+        log.info("Ingested EPUB {} into content store ({} entries, {} ms).",
+                epubFilePath.getFileName(), entries.size(), System.currentTimeMillis() - started);
+        return manifest;
+    }
+
+    /**
+     * 참조가 끊긴 파일을 지웁니다.
+     * <ol>
+     *     <li>liveEpubHashes에 없는 EPUB의 매니페스트 삭제</li>
+     *     <li>남은 매니페스트가 참조하는 객체 해시를 모은 뒤, 참조되지 않는 객체/gzip 변형/남은 임시 파일 삭제</li>
+     * </ol>
+     * 진행 중인 ingest와 겹치지 않도록 minAge보다 최근에 수정된 파일은 지우지 않습니다.
+     * (ingest는 이미 있는 객체를 재사용할 때도 수정 시각을 갱신함) 읽을 수 없는 매니페스트가 있으면 객체는 지우지 않습니다.
+     * @param liveEpubHashes 현재 사용 중인 EPUB 파일의 SHA-256 (hashFile)
+     * @return 지운 파일 수
+     */
+    public int removeOrphans(Path storeRoot, Set<String> liveEpubHashes, Duration minAge) throws IOException {
+        Path manifestsRoot = storeRoot.resolve(MANIFESTS_DIR);
+        Path objectsRoot = storeRoot.resolve(OBJECTS_DIR);
+        if (!Files.isDirectory(manifestsRoot) || !Files.isDirectory(objectsRoot)) {
+            return 0;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(minAge));
+        int removed = 0;
+
+        Set<String> referenced = new HashSet<>();
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(manifestsRoot, "*.json")) {
+            for (Path manifestPath : manifests) {
+                String fileName = manifestPath.getFileName().toString();
+                String epubHash = fileName.substring(0, fileName.length() - ".json".length());
+                if (!liveEpubHashes.contains(epubHash) && isOlderThan(manifestPath, cutoff)) {
+                    Files.deleteIfExists(manifestPath);
+                    removed++;
+                    continue;
+                }
+                try (InputStream in = Files.newInputStream(manifestPath)) {
+                    objectMapper.readValue(in, Manifest.class).entries().values()
+                            .forEach(entry -> referenced.add(entry.hash()));
+                } catch (IOException e) {
+                    log.warn("Stored EPUB manifest {} is unreadable. Skipping object cleanup.", manifestPath, e);
+                    return removed;
+                }
+            }
+        }
+
+        try (Stream<Path> files = Files.walk(objectsRoot)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String fileName = file.getFileName().toString();
+                String hash = fileName.endsWith(".gz") ? fileName.substring(0, fileName.length() - ".gz".length()) : fileName;
+                if (!referenced.contains(hash) && isOlderThan(file, cutoff)) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /** EPUB 파일의 SHA-256 (매니페스트 파일 이름에 쓰는 값) */
+    public String hashFile(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static boolean isOlderThan(Path file, FileTime cutoff) throws IOException {
+        return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+    }
+
+    /** 매니페스트 항목이 가리키는 원본 객체 파일 경로 */
+    public Path objectPath(Path storeRoot, Entry entry) {
+        return storeRoot.resolve(OBJECTS_DIR).resolve(entry.hash().substring(0, 2)).resolve(entry.hash());
+    }
+
+    /** 매니페스트 항목이 가리키는 gzip 변형 파일 경로 */
+    public Path gzipObjectPath(Path storeRoot, Entry entry) {
+        return storeRoot.resolve(OBJECTS_DIR).resolve(entry.hash().substring(0, 2)).resolve(entry.hash() + ".gz");
+    }
+
+    private Entry storeObject(Path objectsRoot, String entryName, InputStream in) throws IOException {
+        // 해시를 모르는 상태이므로 임시 파일에 쓰면서 해시를 계산한 뒤 최종 위치로 이동
+        Path tempFile = Files.createTempFile(objectsRoot, "ingest", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+                size = Files.copy(digestIn, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String mimeType = determineMimeType(entryName);
+
+            Path objectPath = objectsRoot.resolve(hash.substring(0, 2)).resolve(hash);
+            Files.createDirectories(objectPath.getParent());
+            if (!Files.exists(objectPath)) {
+                moveIntoPlace(tempFile, objectPath);
+            } else {
+                touch(objectPath); // 재사용 표시: 이 ingest가 매니페스트를 쓰기 전에 removeOrphans가 지우지 않도록
+            }
+
+            Long gzipSize = null;
+            if (size >= GZIP_MIN_SIZE && COMPRESSIBLE_MIME_TYPES.contains(mimeType)) {
+                Path gzipPath = objectPath.resolveSibling(hash + ".gz");
+                if (Files.exists(gzipPath)) {
+                    touch(gzipPath);
+                } else {
+                    Path tempGzip = Files.createTempFile(objectsRoot, "ingest", ".gz.tmp");
+                    try {
+                        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tempGzip))) {
+                            Files.copy(objectPath, out);
+                        }
+                        moveIntoPlace(tempGzip, gzipPath);
+                    } finally {
+                        Files.deleteIfExists(tempGzip);
+                    }
+                }
+                gzipSize = Files.size(gzipPath);
+            }
+            return new Entry(hash, size, mimeType, gzipSize);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용을 저장한 경우: 내용이 같으므로 기존 파일을 그대로 사용
+            log.debug("Content object already stored: {}", target);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Could not update modification time of {}: {}", file, e.getMessage());
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * zip 엔트리 이름 또는 요청 경로를 매니페스트 키 형태로 정규화합니다. ("./", "../", 앞쪽 "/" 제거)
+     */
+    public static String normalizeEntryName(String name) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : name.replace('\\', '/').split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    public static String determineMimeType(String path) {
+        String lowerPath = path.toLowerCase();
+        if (lowerPath.endsWith(".xml") || lowerPath.endsWith(".opf") || lowerPath.endsWith(".ncx")) {
+            return "application/xml";
+        } else if (lowerPath.endsWith(".xhtml") || lowerPath.endsWith(".html")) {
+            return "application/xhtml+xml";
+        } else if (lowerPath.endsWith(".css")) {
+            return "text/css";
+        } else if (lowerPath.endsWith(".js")) {
+            return "application/javascript";
+        } else if (lowerPath.endsWith(".jpg") || lowerPath.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (lowerPath.endsWith(".png")) {
+            return "image/png";
+        } else if (lowerPath.endsWith(".gif")) {
+            return "image/gif";
+        } else if (lowerPath.endsWith(".svg") || lowerPath.endsWith(".svgz")) {
+            return "image/svg+xml";
+        } else if (lowerPath.endsWith(".otf")) {
+            return "font/otf";
+        } else if (lowerPath.endsWith(".ttf")) {
+            return "font/ttf";
+        } else if (lowerPath.endsWith(".woff")) {
+            return "font/woff";
+        } else if (lowerPath.endsWith(".woff2")) {
+            return "font/woff2";
+        }
+        // EPUB에서 사용될 수 있는 추가적인 오디오/비디오 타입 (필요하다면)
+        // else if (lowerPath.endsWith(".mp3")) { return "audio/mpeg"; }
+        // else if (lowerPath.endsWith(".mp4")) { return "video/mp4"; }
+        log.debug("Unknown MIME type for path: '{}'. Defaulting to octet-stream.", path);
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+}
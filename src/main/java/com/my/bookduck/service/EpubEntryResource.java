@@ -0,0 +1,75 @@
+package com.my.bookduck.service;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * EPUB(zip) 내부 파일 하나를 가리키는 스트리밍 Resource 입니다.
+ * 내용을 byte[]로 읽어두지 않고, 응답을 쓸 때 EpubArchivePool에서 핸들을 빌려 스트림으로 읽습니다.
+ * 크기를 미리 알고 있으므로 Content-Length와 HTTP Range(206) 응답을 Spring이 그대로 처리할 수 있습니다.
+ * 스트림이 닫힐 때 빌린 핸들도 함께 반납됩니다.
+ */
+public class EpubEntryResource extends AbstractResource {
+
+    private final EpubArchivePool epubArchivePool;
+    private final Long bookId;
+    private final Path epubFilePath;
+    private final String internalPath;
+    private final long size;
+
+    public EpubEntryResource(EpubArchivePool epubArchivePool, Long bookId, Path epubFilePath, String internalPath, long size) {
+        this.epubArchivePool = epubArchivePool;
+        this.bookId = bookId;
+        this.epubFilePath = epubFilePath;
+        this.internalPath = internalPath;
+        this.size = size;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        EpubArchivePool.Lease lease = epubArchivePool.acquire(bookId, epubFilePath);
+        try {
+            // 무압축(STORED) 엔트리는 아카이브에서 바로 읽고, 압축(DEFLATED) 엔트리는 읽는 만큼만 청크 단위로 풀림
+            InputStream entryStream = Files.newInputStream(lease.getPath(internalPath));
+            return new FilterInputStream(entryStream) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        lease.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public String getFilename() {
+        int slash = internalPath.lastIndexOf('/');
+        return slash >= 0 ? internalPath.substring(slash + 1) : internalPath;
+    }
+
+    @Override
+    public String getDescription() {
+        return "EPUB entry [" + internalPath + "] of book " + bookId + " (" + epubFilePath + ")";
+    }
+}
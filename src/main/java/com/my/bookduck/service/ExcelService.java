@@ -1,11 +1,13 @@
 package com.my.bookduck.service; // 실제 패키지 경로
 
 import com.my.bookduck.domain.book.Category;      // 실제 Category 엔티티 경로로 변경하세요
-import com.my.bookduck.repository.CategoryRepository; // 실제 CategoryRepository 경로로 변경하세요
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +19,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +27,20 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class ExcelService {
 
-    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CategoryTree categoryTree;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${category.import.batch-size:1000}") // 한 번에 DB에 쓰는 카테고리 수
+    private int batchSize;
+
+    @Value("${category.import.progress-rows:5000}") // 진행 로그 간격 (행)
+    private int progressRows;
+
+    private static final String SELECT_EXISTING_IDS_SQL = "SELECT category_id FROM category WHERE category_id IN (:ids)";
+    private static final String INSERT_SQL = "INSERT INTO category (category_id, name, parent_id) VALUES (?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE category SET name = ?, parent_id = ? WHERE category_id = ?";
 
     private static final int COL_CID = 0;       // CID 컬럼
     private static final int COL_MALL = 2;       // CID 컬럼
@@ -35,167 +51,181 @@ public class ExcelService {
     private static final int COL_5DEPTH = 7;
     private static final int MAX_DEPTH_COL = COL_5DEPTH; // 처리할 마지막 Depth 컬럼 인덱스
     private static final String ROOT_PARENT_NAME_KEY = "ROOT"; // 이름 기반 복합키용 루트
+    private static final int FIRST_DATA_ROW = 3; // 0~2행은 제목/머리글
 
 
-    @Transactional
-    public void importCategory(InputStream inputStream) throws IOException {
-        Map<String, Category> categoryCacheByCompositeNameKey = new HashMap<>();
-        Workbook workbook = WorkbookFactory.create(inputStream);
-        Sheet sheet = workbook.getSheetAt(0);
-        if (sheet == null) throw new IOException("Excel file does not contain any sheets.");
-        log.info("sheet.getLastRowNum() = " + sheet.getLastRowNum());
-        DataFormatter dataFormatter = new DataFormatter();
-        for (int i = 3; i < sheet.getLastRowNum(); i++) {
-            Row row = sheet.getRow(i);
-            if (row == null) continue;
-            log.info("Row = " + row);
-            int lastCellNum = row.getLastCellNum() - 1;
-            log.info("lastCellNum = " + lastCellNum);
+    /** 한 번의 가져오기 결과 */
+    public record ImportResult(int rows, int skippedRows, int inserted, int updated, long elapsedMillis) {
+    }
+
+    // 한 행에서 만든 카테고리 (parentId가 null이면 대분류)
+    private record CategoryRow(long id, String name, Long parentId) {
+    }
 
-            for(int k = COL_MALL; k <= lastCellNum; k++) {
-                if(row.getCell(k) == null) continue;
-                String compositeKey = generateCompositeKeyByCellNum(row, k, dataFormatter);
-                Category parentCategory = categoryCacheByCompositeNameKey.get(compositeKey);
-                if(parentCategory != null) continue;
-                Cell currentCellObj = row.getCell(k, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+    // 가져오기 한 번의 진행 상태
+    private class ImportState {
+        // 이름 기반 복합키("부모이름||이름") → 카테고리 ID (부모 찾기용)
+        private final Map<String, Long> idByCompositeKey = new HashMap<>();
+        // 아직 DB에 쓰지 않은 카테고리 (같은 ID는 나중 값 사용)
+        private final Map<Long, CategoryRow> pending = new LinkedHashMap<>();
+        private int rows;
+        private int skippedRows;
+        private int inserted;
+        private int updated;
 
-                // 2. DataFormatter를 사용하여 셀 값을 문자열로 변환합니다.
-                //    (dataFormatter 변수는 이 코드 라인보다 앞에서 정의되어 있어야 합니다.)
-                String Cell = dataFormatter.formatCellValue(currentCellObj).trim(); // trim()으로 양끝 공백 제거
-                log.info("compositeKey: " + compositeKey);
-                long cidCell = (long) row.getCell(COL_CID, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL).getNumericCellValue();
-                if(k > COL_MALL) {
-                    String generateParentCompositeKey = generateParentCompositeKeyByCellNum(row, k, dataFormatter);
-                    parentCategory = categoryCacheByCompositeNameKey.get(generateParentCompositeKey);
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Set<Long> existingIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    SELECT_EXISTING_IDS_SQL, new MapSqlParameterSource("ids", pending.keySet()), Long.class));
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            for (CategoryRow row : pending.values()) {
+                if (existingIds.contains(row.id())) {
+                    updates.add(new Object[]{row.name(), row.parentId(), row.id()});
+                } else {
+                    inserts.add(new Object[]{row.id(), row.name(), row.parentId()});
                 }
-                Category currentCategory = new Category(cidCell, Cell, parentCategory);
-                categoryCacheByCompositeNameKey.put(compositeKey, currentCategory);
-                categoryRepository.save(currentCategory);
             }
+            // 부모가 먼저 들어가도록 읽은 순서대로 INSERT
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            }
+            inserted += inserts.size();
+            updated += updates.size();
+            pending.clear();
         }
     }
 
     /**
-     * 부모 카테고리의 복합 키를 안전하게 생성합니다. (DataFormatter 사용)
-     *
-     * @param row           현재 처리 중인 Row 객체
-     * @param cellNum       현재 처리 중인 셀의 컬럼 인덱스 (0-based)
-     * @param dataFormatter 셀 값 포맷터 (외부에서 주입받거나 생성)
-     * @return 부모 카테고리의 복합 키 문자열
+     * 카테고리 엑셀(알라딘 CID 시트)을 행 단위로 스트리밍하며 batch JDBC로 반영합니다.
+     * 통합 문서 전체를 메모리에 올리지 않고, batch-size 건마다 기존 ID 조회 1회 + INSERT/UPDATE batch로 씁니다.
+     * 카테고리는 ID를 직접 지정하는 엔티티라 save를 쓰면 건마다 merge용 SELECT가 발생하므로 JPA를 거치지 않습니다.
      */
-    private String generateParentCompositeKeyByCellNum(Row row, int cellNum, DataFormatter dataFormatter) {
-        String grandParentName = ROOT_PARENT_NAME_KEY; // 기본값: 최상위
+    @Transactional
+    public ImportResult importCategory(InputStream inputStream) throws IOException {
+        return importCategory(handler -> CategorySheetReader.read(inputStream, handler));
+    }
 
-        // 할아버지 셀 (cellNum - 2) 처리
-        // 할아버지 셀 인덱스가 유효한 범위(COL_MALL 이상)인지 확인
-        if (cellNum - 2 >= COL_MALL) {
-            Cell grandParentCell = row.getCell(cellNum - 2, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-            // 셀이 null이 아니면 DataFormatter로 값 추출
-            if (grandParentCell != null) {
-                grandParentName = dataFormatter.formatCellValue(grandParentCell).trim();
-                // 추출된 값이 비어있으면 ROOT로 간주 (데이터 정합성 위한 처리)
-                if (grandParentName.isEmpty()) {
-                    grandParentName = ROOT_PARENT_NAME_KEY;
-                    log.trace("Row {}: Grandparent cell (Col {}) is blank, using ROOT.", row.getRowNum(), cellNum - 2);
-                }
+    private interface SheetSource {
+        void read(CategorySheetReader.RowHandler handler) throws IOException;
+    }
+
+    private ImportResult importCategory(SheetSource source) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportState state = new ImportState();
+        source.read((rowIndex, cells) -> {
+            importRow(rowIndex, cells, state);
+            if (state.pending.size() >= batchSize) {
+                state.flush();
             }
-            // else: 할아버지 셀이 null이면 기본값 ROOT_PARENT_NAME_KEY 유지
-        }
-        // else: 할아버지 셀 인덱스가 유효 범위 밖이면 기본값 ROOT_PARENT_NAME_KEY 유지
+            if (state.rows > 0 && state.rows % progressRows == 0) {
+                log.info("Category import progress: {} rows, {} inserted, {} updated, {} ms.",
+                        state.rows, state.inserted, state.updated, System.currentTimeMillis() - started);
+            }
+        });
+        state.flush();
+        categoryTree.rebuildAfterCommit(); // 커밋 후 메모리 카테고리 트리 교체
 
-        String parentName = ""; // 기본값: 빈 문자열
+        long elapsed = System.currentTimeMillis() - started;
+        meterRegistry.timer("category.import").record(elapsed, TimeUnit.MILLISECONDS);
+        ImportResult result = new ImportResult(state.rows, state.skippedRows, state.inserted, state.updated, elapsed);
+        log.info("Category import finished: {}", result);
+        return result;
+    }
 
-        // 부모 셀 (cellNum - 1) 처리
-        // 부모 셀 인덱스가 유효한 범위(COL_MALL 이상)인지 확인
-        if (cellNum - 1 >= COL_MALL) {
-            Cell parentCell = row.getCell(cellNum - 1, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-            // 셀이 null이 아니면 DataFormatter로 값 추출
-            if (parentCell != null) {
-                parentName = dataFormatter.formatCellValue(parentCell).trim();
+    private void importRow(int rowIndex, String[] cells, ImportState state) {
+        if (rowIndex < FIRST_DATA_ROW) {
+            return; // 제목/머리글 행
+        }
+        state.rows++;
+        Long cid = parseCid(cellAt(cells, COL_CID));
+        if (cid == null) {
+            state.skippedRows++;
+            log.debug("Row {}: CID is missing or not a number, skipped.", rowIndex);
+            return;
+        }
+        for (int k = COL_MALL; k < cells.length; k++) {
+            if (cells[k] == null) continue;
+            String compositeKey = generateCompositeKeyByCellNum(cells, k);
+            if (state.idByCompositeKey.containsKey(compositeKey)) continue;
+            Long parentId = null;
+            if (k > COL_MALL) {
+                parentId = state.idByCompositeKey.get(generateParentCompositeKeyByCellNum(cells, k, rowIndex));
             }
-            // else: 부모 셀이 null이면 기본값 "" 유지
+            state.idByCompositeKey.put(compositeKey, cid);
+            state.pending.put(cid, new CategoryRow(cid, cells[k], parentId));
+        }
+    }
 
-            // 부모 이름이 비어있는 경우에 대한 경고 로그 (키 생성에는 영향 없음)
-            if (parentName.isEmpty()) {
-                log.warn("Row {}: Parent cell (Col {}) is empty or null when generating parent key for Col {}.", row.getRowNum(), cellNum - 1, cellNum);
+    private static Long parseCid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            try {
+                return (long) Double.parseDouble(value);
+            } catch (NumberFormatException ignored) {
+                return null;
             }
-        } else {
-            // 부모 셀 인덱스가 유효 범위 밖이면 에러 상황
-            log.error("Row {}: Invalid parent cell index ({}) when generating parent key for Col {}.", row.getRowNum(), cellNum - 1, cellNum);
-            // 에러를 나타내는 특별한 키 반환 또는 예외 처리 고려
-            return "ERROR_INVALID_PARENT_INDEX";
         }
+    }
 
-        // 최종 키 조합하여 반환
-        return grandParentName + "||" + parentName; // 구분자 '||' 사용
+    private static String cellAt(String[] cells, int column) {
+        return (column >= 0 && column < cells.length) ? cells[column] : null;
     }
 
     /**
-     * 현재 카테고리의 복합 키를 안전하게 생성합니다. (DataFormatter 사용)
+     * 부모 카테고리의 복합 키를 생성합니다. ("할아버지이름||부모이름", 할아버지가 없으면 ROOT)
      *
-     * @param row           현재 처리 중인 Row 객체
-     * @param cellNum       현재 처리 중인 셀의 컬럼 인덱스 (0-based)
-     * @param dataFormatter 셀 값 포맷터 (외부에서 주입받거나 생성)
-     * @return 현재 카테고리의 복합 키 문자열
+     * @param cells    현재 행의 셀 값 (비어 있으면 null)
+     * @param cellNum  현재 처리 중인 셀의 컬럼 인덱스 (0-based)
+     * @param rowIndex 로그용 행 번호
+     * @return 부모 카테고리의 복합 키 문자열
      */
-    private String generateCompositeKeyByCellNum(Row row, int cellNum, DataFormatter dataFormatter) {
-        String parentName = ROOT_PARENT_NAME_KEY; // 기본값: 최상위
-
-        // 부모 셀 (cellNum - 1) 처리
-        // 부모 셀 인덱스가 유효한 범위(COL_MALL 이상)인지 확인
-        if (cellNum - 1 >= COL_MALL) {
-            Cell parentCell = row.getCell(cellNum - 1, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-            // 셀이 null이 아니면 DataFormatter로 값 추출
-            if (parentCell != null) {
-                parentName = dataFormatter.formatCellValue(parentCell).trim();
-                // 추출된 값이 비어있으면 ROOT로 간주
-                if (parentName.isEmpty()) {
-                    parentName = ROOT_PARENT_NAME_KEY;
-                    log.trace("Row {}: Parent cell (Col {}) is blank, using ROOT for composite key generation.", row.getRowNum(), cellNum - 1);
-                }
-            }
-            // else: 부모 셀이 null이면 기본값 ROOT_PARENT_NAME_KEY 유지
+    private String generateParentCompositeKeyByCellNum(String[] cells, int cellNum, int rowIndex) {
+        String grandParentName = ROOT_PARENT_NAME_KEY; // 기본값: 최상위
+        if (cellNum - 2 >= COL_MALL && cellAt(cells, cellNum - 2) != null) {
+            grandParentName = cellAt(cells, cellNum - 2);
         }
-        // else: 부모 셀 인덱스가 유효 범위 밖이면 (cellNum이 COL_MALL일 때) 기본값 ROOT_PARENT_NAME_KEY 유지
-
-        String currentName = ""; // 기본값: 빈 문자열
 
-        // 현재 셀 (cellNum) 처리
-        Cell currentCell = row.getCell(cellNum, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-        // 셀이 null이 아니면 DataFormatter로 값 추출
-        if (currentCell != null) {
-            currentName = dataFormatter.formatCellValue(currentCell).trim();
+        String parentName = cellAt(cells, cellNum - 1);
+        if (parentName == null) {
+            // 부모 이름이 비어있는 경우에 대한 경고 로그 (키 생성에는 영향 없음)
+            log.warn("Row {}: Parent cell (Col {}) is empty or null when generating parent key for Col {}.", rowIndex, cellNum - 1, cellNum);
+            parentName = "";
         }
-        // else: 현재 셀이 null이면 기본값 "" 유지
+        return grandParentName + "||" + parentName; // 구분자 '||' 사용
+    }
 
-        // 현재 이름이 비어있는 경우에 대한 경고 로그 (키 생성에는 영향 없음)
-        if (currentName.isEmpty()) {
-            log.warn("Row {}: Current cell (Col {}) is empty or null when generating composite key.", row.getRowNum(), cellNum);
+    /**
+     * 현재 카테고리의 복합 키를 생성합니다. ("부모이름||이름", 부모가 없으면 ROOT)
+     *
+     * @param cells   현재 행의 셀 값 (비어 있으면 null)
+     * @param cellNum 현재 처리 중인 셀의 컬럼 인덱스 (0-based)
+     * @return 현재 카테고리의 복합 키 문자열
+     */
+    private String generateCompositeKeyByCellNum(String[] cells, int cellNum) {
+        String parentName = ROOT_PARENT_NAME_KEY; // 기본값: 최상위
+        if (cellNum - 1 >= COL_MALL && cellAt(cells, cellNum - 1) != null) {
+            parentName = cellAt(cells, cellNum - 1);
         }
-
-        // 최종 키 조합하여 반환
-        return parentName + "||" + currentName; // 구분자 '||' 사용
+        return parentName + "||" + cells[cellNum]; // 구분자 '||' 사용
     }
 
-
-//    private String generateParentCompositeKeyByCellNum(Row row, int CellNum) {
-//        String grandParentName = CellNum - 1 == COL_MALL ? ROOT_PARENT_NAME_KEY : row.getCell(CellNum - 2, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL).getStringCellValue();
-//        String parentName = row.getCell(CellNum - 1, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL).getStringCellValue();
-//        return grandParentName + "||" + parentName; // 구분자 '||' 사용
-//    }
-//    private String generateCompositeKeyByCellNum(Row row, int CellNum) {
-//        String parentName = CellNum == COL_MALL ? ROOT_PARENT_NAME_KEY : row.getCell(CellNum - 1, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL).getStringCellValue();
-//        String currentName = row.getCell(CellNum, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL).getStringCellValue();
-//        return parentName + "||" + currentName; // 구분자 '||' 사용
-//    }
-
     private String generateCompositeKeyByCategory(Category category) {
         return category.getParent().getName() + "||" + category.getName(); // 구분자 '||' 사용
     }
 
     // --- 로컬 파일 처리 메소드 ---
     @Transactional
-    public void importCategoriesFromLocalFile(String filePath) throws IOException, IllegalStateException {
+    public ImportResult importCategoriesFromLocalFile(String filePath) throws IOException, IllegalStateException {
         if (filePath == null || filePath.trim().isEmpty())
             throw new IllegalArgumentException("File path cannot be null or empty.");
         Path path = Paths.get(filePath);
@@ -205,8 +235,8 @@ public class ExcelService {
         if (!isExcelFile(filePath)) throw new IllegalArgumentException("Invalid file format. Path: " + filePath);
 
         log.info("Attempting to import categories from local file: {}", filePath);
-        try (InputStream inputStream = Files.newInputStream(path)) {
-            importCategory(inputStream);
+        try {
+            return importCategory(handler -> CategorySheetReader.read(path.toFile(), handler));
         } catch (IOException | IllegalStateException e) {
             log.error("Error occurred while importing from local file: {}", filePath, e);
             throw e;
@@ -215,7 +245,7 @@ public class ExcelService {
 
     // --- MultipartFile 처리 메소드 ---
     @Transactional
-    public void importCategoriesFromExcel(MultipartFile file) throws IOException, IllegalStateException {
+    public ImportResult importCategoriesFromExcel(MultipartFile file) throws IOException, IllegalStateException {
         if (file == null || file.isEmpty()) throw new IllegalArgumentException("Uploaded Excel file is empty or null.");
         String originalFilename = file.getOriginalFilename();
         if (!isExcelFile(originalFilename))
@@ -223,7 +253,7 @@ public class ExcelService {
 
         log.info("Attempting to import categories from uploaded file: {}", originalFilename);
         try (InputStream inputStream = file.getInputStream()) {
-            importCategory(inputStream);
+            return importCategory(inputStream);
         } catch (IOException | IllegalStateException e) {
             log.error("Error occurred while importing from uploaded file: {}", originalFilename, e);
             throw e;
@@ -232,21 +262,6 @@ public class ExcelService {
 
     // --- 헬퍼 메소드들 ---
 
-    /**
-     * Cell 값을 안전하게 문자열로 읽음
-     */
-    private String getStringCellValue(Cell cell) {
-        if (cell == null) return null;
-        DataFormatter formatter = new DataFormatter();
-        try {
-            String cellValue = formatter.formatCellValue(cell);
-            return (cellValue != null) ? cellValue.trim() : null;
-        } catch (Exception e) {
-            log.error("Error formatting string cell value at Row: {}, Col: {}. Error: {}", cell.getRowIndex(), cell.getColumnIndex(), e.getMessage());
-            return null;
-        }
-    }
-
     /**
      * 파일 이름으로 Excel 파일 확장자 확인
      */
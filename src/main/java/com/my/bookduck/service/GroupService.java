@@ -1,5 +1,6 @@
 package com.my.bookduck.service;
 
+import com.my.bookduck.controller.response.BookSummaryDto;
 import com.my.bookduck.controller.response.GroupListViewDto;
 import com.my.bookduck.domain.book.Book;
 import com.my.bookduck.domain.group.Group;
@@ -35,6 +36,7 @@ public class GroupService {
     private final UserRepository userRepository; // User 정보 조회에 필요
     private final BookService bookService; // Book 정보 조회에 필요
     private final GroupBookRepository groupBookRepository;
+    private final BoardFeed boardFeed; // 홈 피드의 그룹 이름 갱신용
     // private final GroupBookRepository groupBookRepository; // 직접 GroupBook 조작 시 필요
 
 
@@ -258,6 +260,19 @@ public class GroupService {
         return groupViews;
     }
 
+    /**
+     * 그룹 도서 목록을 요약 DTO로 조회합니다. (Group/GroupBook/Book 엔티티를 불러오지 않음)
+     * @throws IllegalArgumentException 그룹이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<BookSummaryDto> findGroupBookSummaries(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            log.error("Group not found with ID: {}", groupId);
+            throw new IllegalArgumentException("그룹을 찾을 수 없습니다 (ID: " + groupId + ")");
+        }
+        return groupRepository.findBookSummariesByGroupId(groupId);
+    }
+
     /**
      * 특정 그룹 ID로 그룹 정보를 조회 (연관된 책과 사용자 정보 포함)
      * N+1 문제 방지를 위해 Fetch Join 또는 EntityGraph 사용 권장.
@@ -337,6 +352,7 @@ public class GroupService {
             }
             log.info("Updating group name for ID {} to '{}'", groupId, trimmedGroupName);
             group.setName(trimmedGroupName);
+            boardFeed.renameGroup(groupId, trimmedGroupName); // 홈 피드의 그룹 이름도 커밋 후 변경
             // 변경 감지(dirty checking)에 의해 업데이트되거나, 아래 save 호출 시 처리됨
         } else {
             log.info("Group name '{}' is the same as the current name. No name update needed.", trimmedGroupName);
@@ -16,7 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -71,9 +73,15 @@ public class PaymentService {
 
         // 3. UserBook 저장 (사용자 서재에 추가)
         log.info("UserBook 저장 시작 - userId: {}, bookCount: {}", user.getId(), orderedBooks.size());
+        // 이미 소장한 책은 DB에서 쿼리 한 번으로 확인 (책마다 exists 쿼리를 보내지 않음)
+        // 노드별 메모리 캐시(UserLibraryCache)는 다른 노드의 변경을 모르므로 쓰기 경로에서는 쓰지 않음:
+        // 소장 중인 책을 새 UserBook으로 save하면 merge되어 mark/summary/finish가 지워짐
+        List<Long> orderedBookIds = orderedBooks.stream().map(Book::getId).toList();
+        Set<Long> ownedBookIds = orderedBookIds.isEmpty() ? Set.of()
+                : new HashSet<>(userBookRepository.findOwnedBookIds(user.getId(), orderedBookIds));
         for (Book book : orderedBooks) {
             try {
-                boolean alreadyOwned = userBookRepository.existsByUserIdAndBookId(user.getId(), book.getId());
+                boolean alreadyOwned = ownedBookIds.contains(book.getId());
                 if (!alreadyOwned) {
                     UserBook userBook = new UserBook(user, book);
                     userBookRepository.save(userBook);
@@ -114,7 +122,7 @@ public class PaymentService {
             }
             Book book = bookRepository.findById(bookIdFromIsbn)
                     .orElseThrow(() -> new IllegalArgumentException("Book not found with ID (ISBN): " + bookIdFromIsbn));
-            boolean alreadyOwned = userBookRepository.existsByUserIdAndBookId(user.getId(), book.getId());
+            boolean alreadyOwned = userBookRepository.existsByUserIdAndBookId(user.getId(), book.getId()); // 쓰기 경로는 DB로 확인
             if (!alreadyOwned) {
                 UserBook userBook = new UserBook(user, book);
                 userBookRepository.save(userBook);
@@ -0,0 +1,132 @@
+package com.my.bookduck.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 읽은 위치(mark/CFI) 쓰기 지연 버퍼입니다. 뷰어는 페이지를 넘길 때마다 /book/mark를 호출하므로
+ * 요청마다 user_book을 UPDATE하지 않고 (userId, bookId)별 마지막 값만 모아 두었다가 한꺼번에 반영합니다.
+ * <ul>
+ *     <li>flush-interval-ms마다, 또는 대기 건수가 flush-threshold를 넘으면 JDBC batch UPDATE
+ *         (건수 초과 반영도 스케줄러 스레드에 맡기므로 요청 스레드는 UPDATE를 기다리지 않음)</li>
+ *     <li>반영한 값이 그 사이 바뀌지 않은 항목만 버퍼에서 제거 (더 새 값은 다음 반영 때 기록)</li>
+ *     <li>반영에 실패하면 버퍼에 남겨 두고 다음 주기에 다시 시도, 종료 시(@PreDestroy) 남은 값을 반영</li>
+ * </ul>
+ * 조회(UserBookService.getUserBookMark)는 버퍼를 먼저 확인하므로 반영 전에도 최신 위치를 돌려줍니다.
+ * 단, 버퍼는 노드마다 따로 있습니다. 여러 노드로 운영하면 다른 노드의 조회는 반영 전까지(최대 flush-interval-ms) 이전 위치를 돌려주므로
+ * 같은 사용자의 /book/mark 요청을 한 노드로 보내거나(sticky session) flush-interval-ms를 줄여야 합니다.
+ * 프로세스가 비정상 종료되면 마지막 반영 이후(최대 flush-interval-ms)의 위치는 유실될 수 있습니다.
+ */
+@Component
+@Slf4j
+public class UserBookMarkBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE user_book SET mark = ? WHERE user_id = ? AND book_id = ?";
+
+    private record Key(long userId, long bookId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final int flushThreshold;
+    private final int batchSize;
+    private final Map<Key, String> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock(); // 주기 반영과 건수 초과 반영이 겹치지 않도록
+    private final AtomicBoolean flushRequested = new AtomicBoolean(); // 건수 초과 반영을 한 번만 예약하도록
+    private final Counter writes;
+    private final Counter flushedRows;
+
+    public UserBookMarkBuffer(JdbcTemplate jdbcTemplate, TaskScheduler taskScheduler, MeterRegistry meterRegistry,
+                              @Value("${userbook.mark.flush-threshold:1000}") int flushThreshold,
+                              @Value("${userbook.mark.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.flushThreshold = Math.max(1, flushThreshold);
+        this.batchSize = Math.max(1, batchSize);
+        this.writes = Counter.builder("userbook.mark.writes").register(meterRegistry);
+        this.flushedRows = Counter.builder("userbook.mark.flushed").register(meterRegistry);
+        Gauge.builder("userbook.mark.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /** 읽은 위치를 버퍼에 기록합니다. 같은 책의 이전 값은 덮어씁니다. */
+    public void put(long userId, long bookId, String cfi) {
+        pending.put(new Key(userId, bookId), cfi);
+        writes.increment();
+        if (pending.size() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /** 아직 DB에 반영되지 않은 읽은 위치 (없으면 null) */
+    public String get(long userId, long bookId) {
+        return pending.get(new Key(userId, bookId));
+    }
+
+    @Scheduled(initialDelayString = "${userbook.mark.flush-interval-ms:5000}", fixedDelayString = "${userbook.mark.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false); // 반영하는 동안 다시 넘으면 다음 반영을 예약할 수 있도록
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("종료 전 읽은 위치 {}건을 반영하지 못했습니다.", pending.size());
+        }
+    }
+
+    // flushLock을 잡은 상태에서 호출
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, String>> snapshot = new ArrayList<>(pending.size());
+        for (Map.Entry<Key, String> entry : pending.entrySet()) {
+            snapshot.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        int flushed = 0;
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Key, String>> chunk = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (Map.Entry<Key, String> entry : chunk) {
+                args.add(new Object[]{entry.getValue(), entry.getKey().userId(), entry.getKey().bookId()});
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            } catch (DataAccessException e) {
+                log.warn("읽은 위치 반영 실패 ({}건 중 {}건 반영됨), 다음 주기에 다시 시도합니다: {}", snapshot.size(), flushed, e.getMessage());
+                return;
+            }
+            for (Map.Entry<Key, String> entry : chunk) {
+                pending.remove(entry.getKey(), entry.getValue()); // 그 사이 새 값이 들어왔으면 남겨 둠
+            }
+            flushed += chunk.size();
+        }
+        flushedRows.increment(flushed);
+        log.debug("읽은 위치 {}건 반영 (대기 {}건)", flushed, pending.size());
+    }
+}
@@ -0,0 +1,131 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BookSummaryDto;
+import com.my.bookduck.repository.BookRepository;
+import com.my.bookduck.repository.UserBookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 소장 도서 제목 자동완성 색인입니다. (그룹 생성 화면의 /book/search)
+ * 사용자마다 정규화한 제목 기준으로 정렬된 배열을 메모리에 두고, 이진 탐색으로 접두어 일치를 먼저 찾은 뒤
+ * 모자라면 제목 중간 일치를 채워 상위 N개를 반환합니다. DB는 첫 조회(적재) 때만 사용합니다.
+ * 최근에 사용한 사용자만 유지(LRU)하며, 서재가 바뀌면(UserBook 저장/삭제) UserLibraryCacheListener가 커밋 후 해당 사용자 색인을 버립니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserBookTitleIndex {
+
+    private final UserBookRepository userBookRepository;
+    private final BookRepository bookRepository;
+
+    @Value("${autocomplete.max-users:1000}") // 메모리에 유지할 최대 사용자 수
+    private int maxUsers;
+
+    // 접근 순서 LinkedHashMap (LRU), this로 동기화
+    private final Map<Long, TitleEntry[]> titlesByUser = new LinkedHashMap<>(16, 0.75f, true);
+    // 사용자별이 아닌 전체 무효화 횟수: 적재 중에 무효화가 일어나면 적재 결과를 캐시에 넣지 않음
+    private long invalidations = 0;
+
+    private record TitleEntry(String normalizedTitle, BookSummaryDto book) {
+    }
+
+    /**
+     * 사용자의 소장 도서 중 제목이 검색어로 시작하거나 검색어를 포함하는 도서를 최대 limit개 반환합니다.
+     * 접두어 일치가 먼저, 그 안에서는 제목 순입니다.
+     */
+    public List<BookSummaryDto> search(Long userId, String query, int limit) {
+        String normalizedQuery = BookSearchIndex.normalize(query);
+        if (userId == null || limit <= 0) {
+            return List.of();
+        }
+        TitleEntry[] entries = titlesOf(userId);
+        List<BookSummaryDto> result = new ArrayList<>(Math.min(limit, entries.length));
+
+        // 1) 접두어 일치: 정렬된 배열에서 시작 위치를 이진 탐색한 뒤 순서대로 읽음
+        int start = lowerBound(entries, normalizedQuery);
+        int prefixEnd = start;
+        while (prefixEnd < entries.length && entries[prefixEnd].normalizedTitle().startsWith(normalizedQuery)) {
+            if (result.size() < limit) {
+                result.add(entries[prefixEnd].book());
+            }
+            prefixEnd++;
+        }
+
+        // 2) 부족하면 제목 중간 일치로 채움 (접두어 일치 구간은 제외)
+        for (int i = 0; i < entries.length && result.size() < limit; i++) {
+            if ((i < start || i >= prefixEnd) && entries[i].normalizedTitle().contains(normalizedQuery)) {
+                result.add(entries[i].book());
+            }
+        }
+        return result;
+    }
+
+    /** 사용자 서재가 바뀌었을 때 해당 사용자 색인을 버립니다. 커밋 후 콜백(UserLibraryCacheListener)에서 호출합니다. */
+    public synchronized void evict(Long userId) {
+        titlesByUser.remove(userId);
+        invalidations++;
+    }
+
+    private TitleEntry[] titlesOf(Long userId) {
+        long invalidationsBeforeLoad;
+        synchronized (this) {
+            TitleEntry[] cached = titlesByUser.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+
+        TitleEntry[] loaded = load(userId);
+
+        synchronized (this) {
+            if (invalidations == invalidationsBeforeLoad) {
+                titlesByUser.put(userId, loaded);
+                if (titlesByUser.size() > maxUsers) {
+                    Long eldest = titlesByUser.keySet().iterator().next();
+                    titlesByUser.remove(eldest);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private TitleEntry[] load(Long userId) {
+        List<Long> bookIds = userBookRepository.findBookIdsByUserId(userId);
+        if (bookIds.isEmpty()) {
+            return new TitleEntry[0];
+        }
+        TitleEntry[] entries = bookRepository.findSummariesByIdIn(bookIds).stream()
+                .map(book -> new TitleEntry(BookSearchIndex.normalize(book.getTitle()), book))
+                .toArray(TitleEntry[]::new);
+        Arrays.sort(entries, Comparator.comparing(TitleEntry::normalizedTitle));
+        log.debug("Loaded title index for user {}: {} books.", userId, entries.length);
+        return entries;
+    }
+
+    // normalizedTitle >= query 인 첫 위치
+    private static int lowerBound(TitleEntry[] entries, String query) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].normalizedTitle().compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,155 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.repository.UserBookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 소장 도서 ID 캐시입니다. 소장 여부 확인(결제 전 확인, 홈 '내가 구매한 책' 필터)을 DB 조회 없이 처리합니다.
+ * <ul>
+ *     <li>사용자마다 오름차순 정렬된 long 배열(불변)을 두고 이진 탐색으로 확인</li>
+ *     <li>첫 조회 때 findBookIdsByUserId로 적재, UserBook 저장/삭제는 UserLibraryCacheListener가 커밋 후 배열을 바꿔 끼워 반영</li>
+ *     <li>최근에 사용한 사용자만 유지(LRU): 사용자 수(max-users)와 전체 도서 ID 수(max-book-ids) 중 먼저 넘는 쪽 기준으로 제거</li>
+ * </ul>
+ * 캐시는 노드마다 따로 있으며 다른 노드의 변경은 반영되지 않습니다. 그래서 읽기 경로에만 사용하고,
+ * UserBook을 만드는 쓰기 경로(PaymentService)는 DB로 확인합니다. "소장하지 않음" 결과로 요청을 거부하는 곳
+ * (UserBookService.updateUserBookMark)은 DB로 한 번 더 확인하고 캐시를 고칩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserLibraryCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserBookRepository userBookRepository;
+
+    @Value("${library-cache.max-users:10000}") // 메모리에 유지할 최대 사용자 수
+    private int maxUsers;
+
+    @Value("${library-cache.max-book-ids:2000000}") // 모든 사용자 배열 길이 합의 상한
+    private long maxBookIds;
+
+    // 접근 순서 LinkedHashMap (LRU), this로 동기화
+    private final Map<Long, long[]> booksByUser = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBookIds = 0;
+    // 변경 횟수: 적재 중에 변경이 일어나면 적재 결과를 캐시에 넣지 않음
+    private long modifications = 0;
+
+    public boolean owns(Long userId, Long bookId) {
+        if (userId == null || bookId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(bookIdsOf(userId), bookId) >= 0;
+    }
+
+    /** bookIds를 모두 소장하고 있는지 (빈 목록이면 true) */
+    public boolean ownsAll(Long userId, Collection<Long> bookIds) {
+        long[] owned = bookIdsOf(userId);
+        for (Long bookId : bookIds) {
+            if (bookId == null || Arrays.binarySearch(owned, bookId) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** bookIds 중 소장 중인 도서 ID (입력 순서 유지) */
+    public Set<Long> ownedSubset(Long userId, Collection<Long> bookIds) {
+        long[] owned = bookIdsOf(userId);
+        Set<Long> result = new LinkedHashSet<>();
+        for (Long bookId : bookIds) {
+            if (bookId != null && Arrays.binarySearch(owned, bookId) >= 0) {
+                result.add(bookId);
+            }
+        }
+        return result;
+    }
+
+    /** 소장 도서 ID (오름차순, 읽기 전용으로 사용) */
+    public long[] ownedBookIds(Long userId) {
+        return bookIdsOf(userId);
+    }
+
+    /** 소장 도서 추가를 반영합니다. 캐시에 없는 사용자는 다음 조회 때 적재됩니다. (커밋 후 호출) */
+    public synchronized void added(Long userId, Long bookId) {
+        modifications++;
+        long[] current = booksByUser.get(userId);
+        if (current == null || bookId == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(current, bookId);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertAt);
+        updated[insertAt] = bookId;
+        System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+        replace(userId, updated);
+    }
+
+    /** 소장 도서 삭제를 반영합니다. (커밋 후 호출) */
+    public synchronized void removed(Long userId, Long bookId) {
+        modifications++;
+        long[] current = booksByUser.get(userId);
+        if (current == null || bookId == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(current, bookId);
+        if (index < 0) {
+            return;
+        }
+        long[] updated = new long[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        replace(userId, updated);
+    }
+
+    private long[] bookIdsOf(Long userId) {
+        if (userId == null) {
+            return EMPTY;
+        }
+        long modificationsBeforeLoad;
+        synchronized (this) {
+            long[] cached = booksByUser.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            modificationsBeforeLoad = modifications;
+        }
+
+        List<Long> rows = userBookRepository.findBookIdsByUserId(userId);
+        long[] loaded = rows.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray();
+
+        synchronized (this) {
+            if (modifications == modificationsBeforeLoad) {
+                replace(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // this로 동기화된 상태에서 호출
+    private void replace(Long userId, long[] bookIds) {
+        long[] previous = booksByUser.put(userId, bookIds);
+        cachedBookIds += bookIds.length - (previous == null ? 0 : previous.length);
+        while (booksByUser.size() > 1 && (booksByUser.size() > maxUsers || cachedBookIds > maxBookIds)) {
+            Map.Entry<Long, long[]> eldest = booksByUser.entrySet().iterator().next();
+            cachedBookIds -= eldest.getValue().length;
+            booksByUser.remove(eldest.getKey());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.domain.user.UserBook;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserBook 저장/삭제를 UserLibraryCache와 자동완성 색인(UserBookTitleIndex)에 반영하는 JPA 엔티티 리스너입니다.
+ * 트랜잭션 안에서는 커밋된 뒤에만 반영합니다.
+ * 두 빈 모두 Repository → EntityManagerFactory 순환을 피하기 위해 ObjectProvider로 지연 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLibraryCacheListener {
+
+    private final ObjectProvider<UserLibraryCache> userLibraryCacheProvider;
+    private final ObjectProvider<UserBookTitleIndex> userBookTitleIndexProvider;
+
+    @PostPersist
+    public void onSave(UserBook userBook) {
+        Long userId = userBook.getUserId();
+        Long bookId = userBook.getBookId();
+        AfterCommit.run(() -> {
+            userLibraryCacheProvider.getObject().added(userId, bookId);
+            userBookTitleIndexProvider.getObject().evict(userId);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(UserBook userBook) {
+        Long userId = userBook.getUserId();
+        Long bookId = userBook.getBookId();
+        AfterCommit.run(() -> {
+            userLibraryCacheProvider.getObject().removed(userId, bookId);
+            userBookTitleIndexProvider.getObject().evict(userId);
+        });
+    }
+}
@@ -438,7 +438,9 @@ document.addEventListener('DOMContentLoaded', () => {
         showLoading();
         try {
             console.log("[DEBUG] ePub 객체 생성 시도, URL:", bookUrl);
-            book = ePub(bookUrl);
+            // OPF 경로를 알고 있으면 container.xml 요청을 건너뛰고 OPF를 바로 연다
+            const opfPath = (typeof GLOBAL_BOOK_OPF_PATH !== 'undefined' && GLOBAL_BOOK_OPF_PATH) ? GLOBAL_BOOK_OPF_PATH : null;
+            book = ePub(opfPath ? bookUrl + opfPath : bookUrl);
             if (book?.opened?.then) book.opened.catch(err => console.error("book.opened REJECTED:", err));
 
             if (book?.ready?.then) {
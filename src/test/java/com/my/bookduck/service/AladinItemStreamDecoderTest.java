@@ -0,0 +1,127 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.AladinApiResponse;
+import com.my.bookduck.controller.response.AladinBookItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AladinItemStreamDecoderTest {
+
+    private static final String RESPONSE = """
+            {"version":"20131101","title":"알라딘 검색결과","totalResults":123,"startIndex":1,"itemsPerPage":2,"query":"자바",
+             "searchCategoryId":0,
+             "item":[
+               {"title":"자바의 정석","author":"남궁성","isbn13":"9788994492032","priceStandard":30000,"mallType":"BOOK",
+                "subInfo":{"ebookList":[{"isbn13":"1"}],"item":{"title":"nested"}}},
+               {"title":"이펙티브 자바","author":"조슈아 블로크","isbn13":"9788966262281","priceStandard":36000,"mallType":"EBOOK"}
+             ]}
+            """;
+
+    private final AladinItemStreamDecoder decoder = new AladinItemStreamDecoder(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void decodesItemsAndHeader() {
+        AladinApiResponse header = new AladinApiResponse();
+
+        List<AladinBookItem> items = decoder.decode(chunks(RESPONSE, Integer.MAX_VALUE), header).collectList().block();
+
+        assertThat(items).extracting(AladinBookItem::getTitle).containsExactly("자바의 정석", "이펙티브 자바");
+        assertThat(items).extracting(AladinBookItem::getIsbn13).containsExactly(9788994492032L, 9788966262281L);
+        assertThat(items.get(1).getMallType()).isEqualTo("EBOOK");
+        assertThat(header.getTotalResults()).isEqualTo(123);
+        assertThat(header.getStartIndex()).isEqualTo(1);
+        assertThat(header.getItemsPerPage()).isEqualTo(2);
+        assertThat(header.getQuery()).isEqualTo("자바");
+        assertThat(header.getItem()).isNull();
+    }
+
+    @Test
+    void decodesSameItemsWhateverTheChunkBoundaries() {
+        // 1바이트 단위 등 한글(UTF-8 3바이트) 중간에서 끊기는 경우 포함
+        for (int chunkSize = 1; chunkSize <= 17; chunkSize++) {
+            List<AladinBookItem> items = decoder.decode(chunks(RESPONSE, chunkSize), new AladinApiResponse()).collectList().block();
+            assertThat(items).as("chunk size %d", chunkSize)
+                    .extracting(AladinBookItem::getTitle).containsExactly("자바의 정석", "이펙티브 자바");
+        }
+    }
+
+    @Test
+    void ignoresItemFieldsOutsideTopLevel() {
+        String response = """
+                {"meta":{"item":[{"title":"not an item"}]},"item":[{"title":"real"}],"totalResults":1}
+                """;
+        AladinApiResponse header = new AladinApiResponse();
+
+        List<AladinBookItem> items = decoder.decode(chunks(response, 5), header).collectList().block();
+
+        assertThat(items).extracting(AladinBookItem::getTitle).containsExactly("real");
+        assertThat(header.getTotalResults()).as("header fields after the item array are read too").isEqualTo(1);
+    }
+
+    @Test
+    void emitsItemsBeforeBodyEnds() {
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        List<AladinBookItem> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = decoder.decode(body.asFlux(), new AladinApiResponse()).subscribe(received::add);
+
+        body.tryEmitNext(buffer("{\"totalResults\":2,\"item\":[{\"title\":\"first\"},"));
+        assertThat(received).extracting(AladinBookItem::getTitle).containsExactly("first");
+
+        body.tryEmitNext(buffer("{\"title\":\"second\"}]}"));
+        body.tryEmitComplete();
+        assertThat(received).extracting(AladinBookItem::getTitle).containsExactly("first", "second");
+        subscription.dispose();
+    }
+
+    @Test
+    void failsOnApiErrorMessage() {
+        String response = "{\"errorCode\":8,\"errorMessage\":\"잘못된 TTBKey\"}";
+
+        assertThatThrownBy(() -> decoder.decode(chunks(response, 4), new AladinApiResponse()).collectList().block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("잘못된 TTBKey");
+    }
+
+    @Test
+    void failsOnTruncatedBody() {
+        String truncated = RESPONSE.substring(0, RESPONSE.indexOf("이펙티브"));
+
+        assertThatThrownBy(() -> decoder.decode(chunks(truncated, 64), new AladinApiResponse()).collectList().block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failsOnNonJsonBody() {
+        assertThatThrownBy(() -> decoder.decode(chunks("[1,2,3]", 64), new AladinApiResponse()).collectList().block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("JSON");
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += chunkSize) {
+            int to = (int) Math.min((long) from + chunkSize, bytes.length);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, from, to)));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,225 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.service.AladinRequestScheduler.CircuitOpenException;
+import com.my.bookduck.service.AladinRequestScheduler.CircuitState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AladinRequestSchedulerTest {
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    // 토큰 버킷이 끼어들지 않도록 넉넉한 속도
+    private static AladinRequestScheduler scheduler(int maxInFlight, int maxRetries, int failureThreshold, long openMillis) {
+        return new AladinRequestScheduler(new SimpleMeterRegistry(), 1000, 100, maxInFlight, maxRetries, 1, failureThreshold, openMillis);
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailuresAndFailsFast() {
+        AladinRequestScheduler scheduler = scheduler(4, 0, 3, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Mono<String>> failing = () -> {
+            calls.incrementAndGet();
+            return Mono.error(new TimeoutException("slow"));
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(failureOf(scheduler.execute("ItemList", failing))).isInstanceOf(TimeoutException.class);
+        }
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.OPEN);
+
+        assertThat(failureOf(scheduler.execute("ItemList", failing))).isInstanceOf(CircuitOpenException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        AladinRequestScheduler scheduler = scheduler(4, 0, 2, 60_000);
+
+        failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+        assertThat(scheduler.execute("ItemList", () -> Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+        failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        AladinRequestScheduler scheduler = scheduler(4, 3, 1, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+
+        Throwable failure = failureOf(scheduler.execute("ItemSearch", () -> {
+            calls.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null));
+        }));
+
+        assertThat(failure).isInstanceOf(WebClientResponseException.class);
+        assertThat(calls).as("4xx is not retried").hasValue(1);
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() throws InterruptedException {
+        AladinRequestScheduler scheduler = scheduler(4, 0, 1, 50);
+        failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        Thread.sleep(100);
+
+        Sinks.One<String> trialResponse = Sinks.one();
+        List<String> trialResult = new CopyOnWriteArrayList<>();
+        Disposable trial = scheduler.execute("ItemList", trialResponse::asMono).subscribe(trialResult::add);
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.HALF_OPEN);
+
+        // 시험 호출이 끝나기 전의 다른 호출은 바로 실패
+        assertThat(failureOf(scheduler.execute("ItemList", () -> Mono.just("second")))).isInstanceOf(CircuitOpenException.class);
+
+        trialResponse.tryEmitValue("trial");
+        assertThat(trialResult).containsExactly("trial");
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(scheduler.execute("ItemList", () -> Mono.just("after")).block(BLOCK_TIMEOUT)).isEqualTo("after");
+        trial.dispose();
+    }
+
+    @Test
+    void failedHalfOpenTrialReopensCircuit() throws InterruptedException {
+        AladinRequestScheduler scheduler = scheduler(4, 0, 3, 50);
+        for (int i = 0; i < 3; i++) {
+            failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+        }
+        Thread.sleep(100);
+
+        // 임계치와 상관없이 시험 호출 한 번의 실패로 다시 열림
+        failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        assertThat(failureOf(scheduler.execute("ItemList", () -> Mono.just("x")))).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void cancelledHalfOpenTrialLetsNextCallTry() throws InterruptedException {
+        AladinRequestScheduler scheduler = scheduler(4, 0, 1, 50);
+        failureOf(scheduler.execute("ItemList", () -> Mono.error(new TimeoutException())));
+        Thread.sleep(100);
+
+        Disposable trial = scheduler.execute("ItemList", Mono::<String>never).subscribe();
+        trial.dispose();
+
+        assertThat(scheduler.execute("ItemList", () -> Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+        assertThat(scheduler.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void retriesServerErrorsWithBackoff() {
+        AladinRequestScheduler scheduler = scheduler(4, 2, 5, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = scheduler.execute("ItemList", () -> calls.incrementAndGet() < 3
+                ? Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null))
+                : Mono.just("ok")).block(BLOCK_TIMEOUT);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void tokenBucketDelaysRequestsBeyondBurst() {
+        // 초당 10건, 순간 2건: 2건은 바로, 이후 3건은 약 100ms 간격
+        AladinRequestScheduler scheduler = new AladinRequestScheduler(new SimpleMeterRegistry(), 10, 2, 4, 0, 1, 5, 60_000);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 2; i++) {
+            scheduler.execute("ItemList", () -> Mono.just("ok")).block(BLOCK_TIMEOUT);
+        }
+        long burstMillis = (System.nanoTime() - started) / 1_000_000;
+        for (int i = 0; i < 3; i++) {
+            scheduler.execute("ItemList", () -> Mono.just("ok")).block(BLOCK_TIMEOUT);
+        }
+        long totalMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(burstMillis).isLessThan(80);
+        assertThat(totalMillis).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    void limitsConcurrentRequests() {
+        AladinRequestScheduler scheduler = scheduler(1, 0, 5, 60_000);
+        Sinks.One<String> firstResponse = Sinks.one();
+        AtomicInteger secondCalls = new AtomicInteger();
+
+        Disposable first = scheduler.execute("ItemList", firstResponse::asMono).subscribe();
+        Mono<String> second = scheduler.execute("ItemList", () -> {
+            secondCalls.incrementAndGet();
+            return Mono.just("second");
+        });
+        List<String> secondResult = new CopyOnWriteArrayList<>();
+        Disposable secondSubscription = second.subscribe(secondResult::add);
+
+        assertThat(secondCalls).as("waits for the only slot").hasValue(0);
+        assertThat(scheduler.getStatus()).containsEntry("waiting", 1);
+
+        firstResponse.tryEmitValue("first");
+        assertThat(secondCalls).hasValue(1);
+        assertThat(secondResult).containsExactly("second");
+        assertThat(scheduler.getStatus()).containsEntry("inFlight", 0);
+        first.dispose();
+        secondSubscription.dispose();
+    }
+
+    @Test
+    void streamingCallHoldsSlotUntilBodyEnds() {
+        AladinRequestScheduler scheduler = scheduler(1, 0, 5, 60_000);
+        Sinks.Many<String> body = Sinks.many().unicast().onBackpressureBuffer();
+        List<String> items = new CopyOnWriteArrayList<>();
+
+        Disposable streaming = scheduler.executeStreaming("ItemList", () -> Mono.just("headers"), headers -> body.asFlux())
+                .subscribe(items::add);
+        body.tryEmitNext("item-1");
+
+        AtomicInteger nextCalls = new AtomicInteger();
+        Disposable next = scheduler.execute("ItemList", () -> {
+            nextCalls.incrementAndGet();
+            return Mono.just("next");
+        }).subscribe();
+        assertThat(items).containsExactly("item-1");
+        assertThat(nextCalls).as("slot is held while the body is still streaming").hasValue(0);
+
+        body.tryEmitComplete();
+        assertThat(nextCalls).hasValue(1);
+        streaming.dispose();
+        next.dispose();
+    }
+
+    @Test
+    void cancellingStreamReleasesSlot() {
+        AladinRequestScheduler scheduler = scheduler(1, 0, 5, 60_000);
+
+        Disposable streaming = scheduler.executeStreaming("ItemList", () -> Mono.just("headers"), headers -> Flux.<String>never())
+                .subscribe();
+        streaming.dispose();
+
+        assertThat(scheduler.execute("ItemList", () -> Mono.just("ok")).block(BLOCK_TIMEOUT)).isEqualTo("ok");
+        assertThat(scheduler.getStatus()).containsEntry("inFlight", 0);
+    }
+
+    // 실패한 Mono의 오류를 값으로 꺼냄 (성공하면 null)
+    private static Throwable failureOf(Mono<?> mono) {
+        return mono.then(Mono.<Throwable>empty())
+                .onErrorResume(Mono::just)
+                .block(BLOCK_TIMEOUT);
+    }
+}
@@ -0,0 +1,121 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BookListSliceResponse;
+import com.my.bookduck.domain.book.Book;
+import com.my.bookduck.repository.BookRepository;
+import com.my.bookduck.support.BenchmarkProbe;
+import com.my.bookduck.support.SpringBenchmark;
+import com.my.bookduck.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 검색을 기존 JPQL(LOWER(title) LIKE '%q%' OR LOWER(writer) LIKE '%q%')과 BookSearchIndex 경로(BookService.searchBookSlice)로 비교합니다.
+ * 10만 권을 넣고 색인 재적재 시간도 함께 잽니다. H2의 LIKE 전체 스캔은 MySQL보다 빠른 편이라 실제 격차는 더 큽니다.
+ * <pre>
+ * ./gradlew benchmark --tests '*BookSearchBenchmarkTest'
+ * </pre>
+ */
+@SpringBenchmark
+class BookSearchBenchmarkTest {
+
+    private static final long FIRST_BOOK_ID = 9780000000000L;
+    private static final int BOOK_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int ROUNDS = 20;
+    private static final List<String> QUERIES = List.of("사랑", "역사 이야기", "과학", "김민", "java", "spring boot", "한빛");
+
+    private static final String[] TITLE_WORDS = {"사랑", "역사", "과학", "철학", "이야기", "여행", "요리", "경제", "심리학", "우주",
+            "Java", "Spring", "Kotlin", "Data", "Design", "Cloud", "Boot", "Patterns"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "민서", "예준", "수아"};
+    private static final String[] PUBLISHERS = {"한빛미디어", "민음사", "창비", "문학동네", "위키북스", "길벗", "O'Reilly", "Manning"};
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void seedBooks() {
+        Long seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM book WHERE book_id BETWEEN ? AND ?", Long.class, FIRST_BOOK_ID, FIRST_BOOK_ID + BOOK_COUNT - 1);
+        if (seeded != null && seeded == BOOK_COUNT) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            String title = TITLE_WORDS[i % TITLE_WORDS.length] + " " + TITLE_WORDS[(i / 7) % TITLE_WORDS.length] + " " + (i % 1000) + "권";
+            String writer = FAMILY_NAMES[i % FAMILY_NAMES.length] + GIVEN_NAMES[(i / 3) % GIVEN_NAMES.length];
+            rows.add(new Object[]{FIRST_BOOK_ID + i, title, writer, PUBLISHERS[(i / 11) % PUBLISHERS.length], 10_000 + i % 50 * 100});
+            if (rows.size() == 1000) {
+                insert(rows);
+            }
+        }
+        insert(rows);
+    }
+
+    @Test
+    void likeQueryVersusSearchIndex() {
+        // JDBC로 넣은 도서는 엔티티 리스너를 거치지 않으므로 재적재 필요
+        BenchmarkProbe rebuild = BenchmarkProbe.start("search index rebuild", statementCounter);
+        bookSearchIndex.rebuild();
+        rebuild.stop(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book", Long.class));
+
+        // 예열
+        for (String query : QUERIES) {
+            bookRepository.findBooksByQuery(query);
+            bookService.searchBookSlice(query, null, null, null, PAGE_SIZE);
+        }
+
+        BenchmarkProbe like = BenchmarkProbe.start("catalog search, JPQL LIKE (first " + PAGE_SIZE + ")", statementCounter);
+        long likeMatches = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String query : QUERIES) {
+                List<Book> books = bookRepository.findBooksByQuery(query);
+                likeMatches += books.size();
+                books.subList(0, Math.min(PAGE_SIZE, books.size())).forEach(Book::getTitle);
+            }
+        }
+        double likeMillis = like.stop((long) ROUNDS * QUERIES.size());
+
+        BenchmarkProbe indexed = BenchmarkProbe.start("catalog search, BookSearchIndex (first " + PAGE_SIZE + ")", statementCounter);
+        long indexedRows = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String query : QUERIES) {
+                BookListSliceResponse slice = bookService.searchBookSlice(query, null, null, null, PAGE_SIZE);
+                indexedRows += slice.getBooks().size();
+            }
+        }
+        double indexedMillis = indexed.stop((long) ROUNDS * QUERIES.size());
+
+        System.out.printf("[benchmark] catalog search speedup: %.1fx (LIKE matched %d rows in total)%n",
+                likeMillis / indexedMillis, likeMatches);
+        assertThat(indexedRows).isPositive();
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO book (book_id, title, writer, publishing, price) VALUES (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
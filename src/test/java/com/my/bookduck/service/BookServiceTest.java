@@ -0,0 +1,102 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BookLIstViewResponse;
+import com.my.bookduck.controller.response.BookListSliceResponse;
+import com.my.bookduck.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookServiceTest {
+
+    private static final long CATEGORY_ID = 5L;
+    private static final int SEARCH_MAX_RESULTS = 3;
+    // 색인 순위: 1..10
+    private static final List<Long> RANKED = LongStream.rangeClosed(1, 10).boxed().toList();
+
+    private BookRepository bookRepository;
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = mock(BookRepository.class);
+        CategoryService categoryService = mock(CategoryService.class);
+        BookSearchIndex bookSearchIndex = mock(BookSearchIndex.class);
+        bookService = new BookService(bookRepository, categoryService, bookSearchIndex, mock(UserBookTitleIndex.class));
+        ReflectionTestUtils.setField(bookService, "searchMaxResults", SEARCH_MAX_RESULTS);
+        ReflectionTestUtils.setField(bookService, "listMaxPageSize", 100);
+        ReflectionTestUtils.setField(bookService, "rankedCacheSize", 16);
+        ReflectionTestUtils.setField(bookService, "rankedCacheTtlMillis", 60_000L);
+
+        when(categoryService.getAllSubCategoryIdsIncludingMain(CATEGORY_ID)).thenReturn(Set.of(CATEGORY_ID));
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int offset = Math.min(invocation.getArgument(1, Integer.class), RANKED.size());
+            int limit = invocation.getArgument(2, Integer.class);
+            return new BookSearchIndex.SearchResult(RANKED.subList(offset, Math.min(offset + limit, RANKED.size())), RANKED.size());
+        });
+        when(bookRepository.findListViewsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new BookLIstViewResponse(id, "책 " + id, null, null, null, null, 0)).toList();
+        });
+    }
+
+    private void inCategory(Set<Long> bookIds) {
+        when(bookRepository.findBookIdsInCategories(anyCollection(), anySet())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(bookIds::contains).toList();
+        });
+    }
+
+    @Test
+    void categoryFilterFindsHitsRankedPastTheCap() {
+        inCategory(Set.of(8L, 9L));
+
+        BookListSliceResponse slice = bookService.searchBookSlice("자바", CATEGORY_ID, null, null, 10);
+
+        assertThat(slice.getBooks()).extracting(BookLIstViewResponse::getId).containsExactly(8L, 9L);
+        assertThat(slice.isTruncated()).isFalse();
+        assertThat(slice.isHasNext()).isFalse();
+    }
+
+    @Test
+    void truncatedCountsOnlyInCategoryHits() {
+        inCategory(Set.of(2L, 7L, 9L, 10L));
+
+        BookListSliceResponse slice = bookService.searchBookSlice("자바", CATEGORY_ID, null, null, 10);
+
+        assertThat(slice.getBooks()).extracting(BookLIstViewResponse::getId).containsExactly(2L, 7L, 9L);
+        assertThat(slice.isTruncated()).isTrue();
+    }
+
+    @Test
+    void categoryWithExactlyCapHitsIsNotTruncated() {
+        inCategory(Set.of(4L, 6L, 10L));
+
+        BookListSliceResponse slice = bookService.searchBookSlice("자바", CATEGORY_ID, null, null, 10);
+
+        assertThat(slice.getBooks()).extracting(BookLIstViewResponse::getId).containsExactly(4L, 6L, 10L);
+        assertThat(slice.isTruncated()).isFalse();
+    }
+
+    @Test
+    void unfilteredSearchIsCappedAndTruncated() {
+        BookListSliceResponse slice = bookService.searchBookSlice("자바", null, null, null, 10);
+
+        assertThat(slice.getBooks()).extracting(BookLIstViewResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(slice.isTruncated()).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.support.BenchmarkProbe;
+import com.my.bookduck.support.SpringBenchmark;
+import com.my.bookduck.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 동기화(CatalogSyncService.runCycle)와 eBook 검색 수집(AladinService.fetchAndStoreEBooksBySearch)의
+ * 처리량, 실행된 SQL 수, 최대 힙 사용량을 잽니다. H2(MySQL 모드)와 aladin-stub 대역 서버를 쓰므로 외부 연결이 필요 없습니다.
+ * <pre>
+ * ./gradlew benchmark --tests '*CatalogSyncBenchmarkTest'
+ * </pre>
+ * 결과는 "[benchmark]"로 시작하는 줄로 출력됩니다. 절대값보다 변경 전후 비교에 사용합니다.
+ */
+@SpringBenchmark
+class CatalogSyncBenchmarkTest {
+
+    private static final long FIRST_CATEGORY_ID = 1001L;
+    private static final int CATEGORY_COUNT = 10;
+    private static final Duration CYCLE_TIMEOUT = Duration.ofMinutes(5);
+    // 대역 서버가 만드는 ISBN 범위 (다른 벤치마크가 넣은 도서와 섞이지 않도록 이 범위만 지우고 셈)
+    private static final String STUB_BOOKS = "book_id BETWEEN 9790000000000 AND 9799999999999";
+
+    @Autowired
+    private CatalogSyncService catalogSyncService;
+
+    @Autowired
+    private AladinService aladinService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void seedCategories() {
+        jdbcTemplate.update("DELETE FROM sync_status");
+        jdbcTemplate.update("DELETE FROM book WHERE " + STUB_BOOKS);
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class) == 0) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < CATEGORY_COUNT; i++) {
+                rows.add(new Object[]{FIRST_CATEGORY_ID + i, "Bench Category " + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO category (category_id, name) VALUES (?, ?)", rows);
+        }
+    }
+
+    @Test
+    void catalogSyncCycle() throws InterruptedException {
+        BenchmarkProbe probe = BenchmarkProbe.start("catalog sync cycle (cold)", statementCounter);
+        assertThat(catalogSyncService.runCycle()).isTrue();
+        awaitCycleEnd();
+        long books = countBooks();
+        probe.stop(books);
+
+        assertThat(books).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sync_status", Long.class)).isEqualTo(CATEGORY_COUNT);
+    }
+
+    @Test
+    void eBookSearchIngest() {
+        BenchmarkProbe cold = BenchmarkProbe.start("eBook search ingest (cold)", statementCounter);
+        AladinService.SyncResult first = aladinService.fetchAndStoreEBooksBySearch("bench", "Keyword", 0, 10).block();
+        cold.stop(first.getTotalApiItems());
+
+        // 같은 결과를 다시 받으면 해시 비교만으로 끝나야 함 (변경 없음 경로)
+        BenchmarkProbe warm = BenchmarkProbe.start("eBook search ingest (unchanged)", statementCounter);
+        AladinService.SyncResult second = aladinService.fetchAndStoreEBooksBySearch("bench", "Keyword", 0, 10).block();
+        warm.stop(second.getTotalApiItems());
+
+        assertThat(first.isErrorOccurred()).isFalse();
+        assertThat(first.getSavedCount()).isPositive();
+        assertThat(second.getSavedCount()).isZero();
+        assertThat(second.getUnchangedCount()).isEqualTo(first.getSavedCount());
+    }
+
+    // runCycle()은 구독만 하고 바로 반환하므로 running 플래그가 내려갈 때까지 기다림
+    private void awaitCycleEnd() throws InterruptedException {
+        long deadline = System.nanoTime() + CYCLE_TIMEOUT.toNanos();
+        while (Boolean.TRUE.equals(catalogSyncService.getStatus().get("running"))) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Catalog sync cycle did not finish within " + CYCLE_TIMEOUT);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private long countBooks() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE " + STUB_BOOKS, Long.class);
+    }
+}
@@ -0,0 +1,178 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.CategorySimpleDto;
+import com.my.bookduck.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CategoryTreeTest {
+
+    /*
+     * 소설(1)          인문(2)
+     *  ├ 한국소설(10)    └ 철학(20)
+     *  │  └ 장편(100)       └ 동양철학(200)
+     *  └ 외국소설(11)
+     */
+    private static final List<CategoryRepository.TreeRow> ROWS = List.of(
+            row(100L, "장편", 10L),
+            row(1L, "소설", null),
+            row(11L, "외국소설", 1L),
+            row(10L, "한국소설", 1L),
+            row(2L, "인문", null),
+            row(20L, "철학", 2L),
+            row(200L, "동양철학", 20L));
+
+    private static CategoryTree tree(List<CategoryRepository.TreeRow> rows) {
+        CategoryRepository repository = mock(CategoryRepository.class);
+        when(repository.findAllTreeRows()).thenReturn(rows);
+        return new CategoryTree(repository);
+    }
+
+    @Test
+    void subtreeIsContiguousPreorderRange() {
+        CategoryTree tree = tree(ROWS);
+
+        // 자식은 이름순 (외국소설 < 한국소설)
+        assertThat(tree.subtreeIds(1L)).containsExactly(1L, 11L, 10L, 100L);
+        assertThat(tree.subtreeIds(10L)).containsExactly(10L, 100L);
+        assertThat(tree.subtreeIds(100L)).containsExactly(100L);
+        assertThat(tree.subtreeIds(2L)).containsExactly(2L, 20L, 200L);
+        assertThat(tree.subtreeIds(999L)).isEmpty();
+    }
+
+    @Test
+    void descendantCheckUsesIntervals() {
+        CategoryTree tree = tree(ROWS);
+
+        assertThat(tree.isSelfOrDescendant(1L, 1L)).isTrue();
+        assertThat(tree.isSelfOrDescendant(1L, 100L)).isTrue();
+        assertThat(tree.isSelfOrDescendant(10L, 100L)).isTrue();
+        assertThat(tree.isSelfOrDescendant(11L, 100L)).isFalse(); // 형제의 하위
+        assertThat(tree.isSelfOrDescendant(100L, 10L)).isFalse(); // 반대 방향
+        assertThat(tree.isSelfOrDescendant(1L, 200L)).isFalse(); // 다른 루트
+        assertThat(tree.isSelfOrDescendant(1L, 999L)).isFalse();
+        assertThat(tree.isSelfOrDescendant(999L, 1L)).isFalse();
+    }
+
+    @Test
+    void rootsAndChildrenAreSortedByName() {
+        CategoryTree tree = tree(ROWS);
+
+        assertThat(tree.roots()).extracting(CategorySimpleDto::getName).containsExactly("소설", "인문");
+        assertThat(tree.children(1L)).extracting(CategorySimpleDto::getId).containsExactly(11L, 10L);
+        assertThat(tree.children(100L)).isEmpty();
+        assertThat(tree.children(999L)).isEmpty();
+        assertThat(tree.find(20L)).get().extracting(CategorySimpleDto::getParentId).isEqualTo(2L);
+        assertThat(tree.find(999L)).isEmpty();
+    }
+
+    @Test
+    void orphanWithMissingParentBecomesRoot() {
+        List<CategoryRepository.TreeRow> rows = new ArrayList<>(ROWS);
+        rows.add(row(300L, "고아", 3L)); // 부모 3번 행이 없음
+
+        CategoryTree tree = tree(rows);
+
+        assertThat(tree.roots()).extracting(CategorySimpleDto::getId).contains(300L);
+        assertThat(tree.subtreeIds(300L)).containsExactly(300L);
+    }
+
+    @Test
+    void cycleUnreachableFromRootsHasEmptySubtree() {
+        List<CategoryRepository.TreeRow> rows = new ArrayList<>(ROWS);
+        rows.add(row(400L, "순환A", 401L));
+        rows.add(row(401L, "순환B", 400L));
+
+        CategoryTree tree = tree(rows);
+
+        assertThat(tree.subtreeIds(400L)).isEmpty();
+        assertThat(tree.isSelfOrDescendant(400L, 401L)).isFalse();
+        assertThat(tree.subtreeIds(1L)).containsExactly(1L, 11L, 10L, 100L);
+    }
+
+    @Test
+    void buildsLazilyOnceBeforeStartupCompletes() {
+        CategoryRepository repository = mock(CategoryRepository.class);
+        when(repository.findAllTreeRows()).thenReturn(ROWS);
+        CategoryTree tree = new CategoryTree(repository);
+
+        tree.roots();
+        tree.subtreeIds(1L);
+
+        verify(repository, times(1)).findAllTreeRows();
+    }
+
+    @Test
+    void intervalsMatchParentWalkOnRandomForest() {
+        Random random = new Random(42);
+        List<CategoryRepository.TreeRow> rows = new ArrayList<>();
+        Map<Long, Long> parentOf = new HashMap<>();
+        for (long id = 1; id <= 2_000; id++) {
+            // 앞서 만든 노드 중 하나를 부모로 (약 5%는 루트)
+            Long parent = id == 1 || random.nextInt(20) == 0 ? null : 1 + (long) random.nextInt((int) id - 1);
+            parentOf.put(id, parent);
+            rows.add(row(id, "c" + random.nextInt(500), parent));
+        }
+        CategoryTree tree = tree(rows);
+
+        for (int sample = 0; sample < 2_000; sample++) {
+            long ancestor = 1 + random.nextInt(2_000);
+            long node = 1 + random.nextInt(2_000);
+            assertThat(tree.isSelfOrDescendant(ancestor, node))
+                    .as("%d under %d", node, ancestor)
+                    .isEqualTo(walksUpTo(parentOf, node, ancestor));
+        }
+        for (long id = 1; id <= 2_000; id += 97) {
+            long[] subtree = tree.subtreeIds(id);
+            Set<Long> expected = new HashSet<>();
+            for (long candidate = 1; candidate <= 2_000; candidate++) {
+                if (walksUpTo(parentOf, candidate, id)) {
+                    expected.add(candidate);
+                }
+            }
+            assertThat(Arrays.stream(subtree).boxed().toList()).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static boolean walksUpTo(Map<Long, Long> parentOf, long node, long ancestor) {
+        for (Long current = node; current != null; current = parentOf.get(current)) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CategoryRepository.TreeRow row(Long id, String name, Long parentId) {
+        return new CategoryRepository.TreeRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getParentId() {
+                return parentId;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.support.BenchmarkProbe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * epub-content 요청 한 번(EPUB 안의 항목 하나 읽기)을 요청마다 zip을 여는 기존 방식과 EpubArchivePool로 비교합니다.
+ * 항목이 많은 EPUB 몇 권을 만들어 두고, Epub.js처럼 같은 책의 여러 항목을 번갈아 요청합니다.
+ * <pre>
+ * ./gradlew benchmark --tests '*EpubArchivePoolBenchmarkTest'
+ * </pre>
+ */
+@Tag("benchmark")
+class EpubArchivePoolBenchmarkTest {
+
+    private static final int BOOKS = 8;
+    private static final int ENTRIES_PER_BOOK = 400;
+    private static final int REQUESTS = 20_000;
+    private static final int THREADS = 8;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Path> epubs = new ArrayList<>();
+    private EpubArchivePool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int book = 0; book < BOOKS; book++) {
+            epubs.add(writeEpub(book));
+        }
+        pool = new EpubArchivePool();
+        ReflectionTestUtils.setField(pool, "maxOpen", 64);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMillis", 300_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.closeAll();
+    }
+
+    @Test
+    void openPerRequestVersusPool() throws Exception {
+        // JIT 예열
+        runConcurrently(REQUESTS / 10, this::readOpeningArchive);
+        runConcurrently(REQUESTS / 10, this::readFromPool);
+
+        BenchmarkProbe perRequest = BenchmarkProbe.start("epub-content, open per request (" + THREADS + " threads)");
+        long perRequestBytes = runConcurrently(REQUESTS, this::readOpeningArchive);
+        double perRequestMillis = perRequest.stop(REQUESTS);
+
+        BenchmarkProbe pooled = BenchmarkProbe.start("epub-content, EpubArchivePool (" + THREADS + " threads)");
+        long pooledBytes = runConcurrently(REQUESTS, this::readFromPool);
+        double pooledMillis = pooled.stop(REQUESTS);
+
+        System.out.printf("[benchmark] epub-content speedup: %.1fx%n", perRequestMillis / pooledMillis);
+        assertThat(pooledBytes).isEqualTo(perRequestBytes);
+    }
+
+    private interface EntryReader {
+        long read(int bookIndex, String entry) throws IOException;
+    }
+
+    // 기존 serveEpubInternalContent 경로: 요청마다 zip FileSystem을 열고 닫음
+    private long readOpeningArchive(int bookIndex, String entry) throws IOException {
+        try (FileSystem zipFs = FileSystems.newFileSystem(epubs.get(bookIndex), (ClassLoader) null)) {
+            return Files.readAllBytes(zipFs.getPath(entry)).length;
+        }
+    }
+
+    private long readFromPool(int bookIndex, String entry) throws IOException {
+        try (EpubArchivePool.Lease lease = pool.acquire((long) bookIndex, epubs.get(bookIndex))) {
+            return Files.readAllBytes(lease.getPath(entry)).length;
+        }
+    }
+
+    private long runConcurrently(int requests, EntryReader reader) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                tasks.add(() -> {
+                    long bytes = 0;
+                    for (int i = offset; i < requests; i += THREADS) {
+                        bytes += reader.read(i % BOOKS, entryName((i / BOOKS) % ENTRIES_PER_BOOK));
+                    }
+                    return bytes;
+                });
+            }
+            long total = 0;
+            for (Future<Long> result : executor.invokeAll(tasks)) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Path writeEpub(int book) throws IOException {
+        Path path = tempDir.resolve("book-" + book + ".epub");
+        String body = "<p>" + "가나다라마바사 ".repeat(200) + "</p>";
+        try (OutputStream out = Files.newOutputStream(path);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("mimetype"));
+            zip.write("application/epub+zip".getBytes(StandardCharsets.US_ASCII));
+            zip.closeEntry();
+            for (int entry = 0; entry < ENTRIES_PER_BOOK; entry++) {
+                zip.putNextEntry(new ZipEntry(entryName(entry)));
+                zip.write(("<html><body>" + book + "-" + entry + body + "</body></html>").getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return path;
+    }
+
+    private static String entryName(int entry) {
+        return "OEBPS/Text/section" + entry + ".xhtml";
+    }
+}
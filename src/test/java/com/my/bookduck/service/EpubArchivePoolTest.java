@@ -0,0 +1,175 @@
+package com.my.bookduck.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedFileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EpubArchivePoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EpubArchivePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new EpubArchivePool();
+        ReflectionTestUtils.setField(pool, "maxOpen", 2);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMillis", 300_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.closeAll();
+    }
+
+    @Test
+    void reusesOneHandlePerBook() throws IOException {
+        Path epub = writeEpub("a.epub", "chapter one");
+
+        try (EpubArchivePool.Lease first = pool.acquire(1L, epub);
+             EpubArchivePool.Lease second = pool.acquire(1L, epub)) {
+            Path firstEntry = first.getPath("OEBPS/chapter.xhtml");
+            Path secondEntry = second.getPath("OEBPS/chapter.xhtml");
+
+            assertThat(firstEntry.getFileSystem()).isSameAs(secondEntry.getFileSystem());
+            assertThat(read(secondEntry)).isEqualTo("chapter one");
+        }
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedButKeepsItOpenUntilReleased() throws IOException {
+        Path a = writeEpub("a.epub", "a");
+        Path b = writeEpub("b.epub", "b");
+        Path c = writeEpub("c.epub", "c");
+
+        EpubArchivePool.Lease leaseA = pool.acquire(1L, a);
+        Path entryA = leaseA.getPath("OEBPS/chapter.xhtml");
+        pool.acquire(2L, b).close();
+        pool.acquire(3L, c).close(); // 1번이 가장 오래 사용되지 않았으므로 밀려남
+
+        assertThat(pool.size()).isEqualTo(2);
+        // 사용 중인 요청은 계속 읽을 수 있어야 함
+        assertThat(read(entryA)).isEqualTo("a");
+
+        leaseA.close();
+        assertThatThrownBy(() -> read(entryA)).isInstanceOf(ClosedFileSystemException.class);
+    }
+
+    @Test
+    void recentlyUsedHandleSurvivesEviction() throws IOException {
+        Path a = writeEpub("a.epub", "a");
+        Path b = writeEpub("b.epub", "b");
+        Path c = writeEpub("c.epub", "c");
+
+        EpubArchivePool.Lease leaseA = pool.acquire(1L, a);
+        Path entryA = leaseA.getPath("OEBPS/chapter.xhtml");
+        leaseA.close();
+        pool.acquire(2L, b).close();
+        pool.acquire(1L, a).close(); // 1번을 다시 사용 → 2번이 가장 오래됨
+        pool.acquire(3L, c).close();
+
+        assertThat(read(entryA)).isEqualTo("a");
+        try (EpubArchivePool.Lease again = pool.acquire(1L, a)) {
+            assertThat(again.getPath("OEBPS/chapter.xhtml").getFileSystem()).isSameAs(entryA.getFileSystem());
+        }
+    }
+
+    @Test
+    void replacedFileGetsNewHandleAndOldOneClosesOnRelease() throws IOException {
+        Path epub = writeEpub("a.epub", "old");
+        EpubArchivePool.Lease oldLease = pool.acquire(1L, epub);
+        Path oldEntry = oldLease.getPath("OEBPS/chapter.xhtml");
+
+        writeEpub("a.epub", "replaced content"); // 크기가 달라짐
+        try (EpubArchivePool.Lease newLease = pool.acquire(1L, epub)) {
+            assertThat(read(newLease.getPath("OEBPS/chapter.xhtml"))).isEqualTo("replaced content");
+        }
+        assertThat(read(oldEntry)).isEqualTo("old");
+        assertThat(pool.size()).isEqualTo(1);
+
+        oldLease.close();
+        assertThatThrownBy(() -> read(oldEntry)).isInstanceOf(ClosedFileSystemException.class);
+    }
+
+    @Test
+    void invalidateClosesAfterLastLease() throws IOException {
+        Path epub = writeEpub("a.epub", "a");
+        EpubArchivePool.Lease lease = pool.acquire(1L, epub);
+        Path entry = lease.getPath("OEBPS/chapter.xhtml");
+
+        pool.invalidate(1L);
+        assertThat(pool.size()).isZero();
+        assertThat(read(entry)).isEqualTo("a");
+
+        lease.close();
+        assertThatThrownBy(() -> read(entry)).isInstanceOf(ClosedFileSystemException.class);
+    }
+
+    @Test
+    void idleSweepSkipsHandlesInUse() throws IOException {
+        ReflectionTestUtils.setField(pool, "idleTimeoutMillis", -1L);
+        Path a = writeEpub("a.epub", "a");
+        Path b = writeEpub("b.epub", "b");
+
+        EpubArchivePool.Lease inUse = pool.acquire(1L, a);
+        pool.acquire(2L, b).close();
+
+        pool.closeIdleHandles();
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(read(inUse.getPath("OEBPS/chapter.xhtml"))).isEqualTo("a");
+        inUse.close();
+    }
+
+    @Test
+    void closingLeaseTwiceReleasesOnce() throws IOException {
+        Path epub = writeEpub("a.epub", "a");
+        EpubArchivePool.Lease held = pool.acquire(1L, epub);
+        Path entry = held.getPath("OEBPS/chapter.xhtml");
+
+        EpubArchivePool.Lease other = pool.acquire(1L, epub);
+        other.close();
+        other.close(); // 두 번째 close가 held의 참조까지 줄이면 안 됨
+        pool.invalidate(1L);
+
+        assertThat(read(entry)).isEqualTo("a");
+        held.close();
+    }
+
+    // 교체 시 열린 핸들이 새 내용을 읽지 않도록 임시 파일에 쓴 뒤 옮김 (EBookService 동기화와 같은 방식)
+    private Path writeEpub(String name, String chapter) throws IOException {
+        Path path = tempDir.resolve(name);
+        Path staging = Files.createTempFile(tempDir, name, ".tmp");
+        try (OutputStream out = Files.newOutputStream(staging);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("mimetype"));
+            zip.write("application/epub+zip".getBytes(StandardCharsets.US_ASCII));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("OEBPS/chapter.xhtml"));
+            zip.write(chapter.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return Files.move(staging, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String read(Path entry) throws IOException {
+        return Files.readString(entry, StandardCharsets.UTF_8);
+    }
+}
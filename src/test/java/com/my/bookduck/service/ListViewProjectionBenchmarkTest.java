@@ -0,0 +1,146 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.controller.response.BookSummaryDto;
+import com.my.bookduck.domain.book.Book;
+import com.my.bookduck.domain.group.Group;
+import com.my.bookduck.domain.group.GroupBook;
+import com.my.bookduck.repository.GroupRepository;
+import com.my.bookduck.repository.UserRepository;
+import com.my.bookduck.support.BenchmarkProbe;
+import com.my.bookduck.support.SpringBenchmark;
+import com.my.bookduck.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 화면 조회를 엔티티 경로와 요약 DTO(BookSummaryDto) 프로젝션 경로로 비교합니다.
+ * <ul>
+ *     <li>/api/my-books, 마이페이지: UserBookService.findMyBooks → findMyBookSummaries</li>
+ *     <li>/group/api/group/{id}/books: GroupService.findGroupByIdWithBooks → findGroupBookSummaries</li>
+ * </ul>
+ * 요청 한 번당 SQL 수와 호출 스레드 할당량을 비교합니다.
+ * <pre>
+ * ./gradlew benchmark --tests '*ListViewProjectionBenchmarkTest'
+ * </pre>
+ */
+@SpringBenchmark
+class ListViewProjectionBenchmarkTest {
+
+    private static final long FIRST_BOOK_ID = 9770000000000L;
+    private static final int LIBRARY_SIZE = 2_000;
+    private static final int ROUNDS = 50;
+    private static final String GROUP_NAME = "bench-list-view";
+
+    @Autowired
+    private UserBookService userBookService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Long userId;
+    private Long groupId;
+
+    @BeforeEach
+    void seedLibraryAndGroup() {
+        userId = userRepository.findByLoginId("test1").getId(); // InitialDataLoader가 만든 사용자
+        Group group = groupRepository.findAll().stream()
+                .filter(candidate -> GROUP_NAME.equals(candidate.getName()))
+                .findFirst()
+                .orElseGet(() -> groupRepository.save(new Group(GROUP_NAME)));
+        groupId = group.getId();
+
+        Long seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_book WHERE user_id = ?", Long.class, userId);
+        if (seeded != null && seeded >= LIBRARY_SIZE) {
+            return;
+        }
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> userBooks = new ArrayList<>();
+        List<Object[]> groupBooks = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < LIBRARY_SIZE; i++) {
+            long bookId = FIRST_BOOK_ID + i;
+            books.add(new Object[]{bookId, "목록 도서 " + i, "https://image.aladin.co.kr/product/bench/" + i + ".jpg", "저자 " + i % 50, "출판사", 12_000});
+            userBooks.add(new Object[]{userId, bookId});
+            groupBooks.add(new Object[]{groupId, bookId, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO book (book_id, title, cover, writer, publishing, price) VALUES (?, ?, ?, ?, ?, ?)", books);
+        jdbcTemplate.batchUpdate("INSERT INTO user_book (user_id, book_id, finish) VALUES (?, ?, FALSE)", userBooks);
+        jdbcTemplate.batchUpdate("INSERT INTO group_book (group_id, book_id, created_at) VALUES (?, ?, ?)", groupBooks);
+    }
+
+    @Test
+    void myBooks() {
+        compare("/api/my-books",
+                () -> {
+                    List<Book> books = userBookService.findMyBooks(userId);
+                    books.forEach(book -> book.getTitle());
+                    return books.size();
+                },
+                () -> {
+                    List<BookSummaryDto> books = userBookService.findMyBookSummaries(userId);
+                    books.forEach(book -> book.getTitle());
+                    return books.size();
+                });
+    }
+
+    @Test
+    void groupBooks() {
+        compare("/group/api/group/{id}/books",
+                () -> {
+                    Group group = groupService.findGroupByIdWithBooks(groupId);
+                    int count = 0;
+                    for (GroupBook groupBook : group.getBooks()) {
+                        groupBook.getBook().getTitle();
+                        count++;
+                    }
+                    return count;
+                },
+                () -> groupService.findGroupBookSummaries(groupId).size());
+    }
+
+    private void compare(String endpoint, IntSupplier entityPath, IntSupplier projectionPath) {
+        // 예열
+        for (int i = 0; i < 5; i++) {
+            entityPath.getAsInt();
+            projectionPath.getAsInt();
+        }
+
+        BenchmarkProbe entity = BenchmarkProbe.start(endpoint + ", entities", statementCounter);
+        long entityRows = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            entityRows += entityPath.getAsInt();
+        }
+        entity.stop(ROUNDS);
+
+        BenchmarkProbe projection = BenchmarkProbe.start(endpoint + ", BookSummaryDto projection", statementCounter);
+        long projectionRows = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            projectionRows += projectionPath.getAsInt();
+        }
+        projection.stop(ROUNDS);
+
+        assertThat(projectionRows).isEqualTo(entityRows).isPositive();
+    }
+}
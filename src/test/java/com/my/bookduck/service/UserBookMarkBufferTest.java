@@ -0,0 +1,139 @@
+package com.my.bookduck.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserBookMarkBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        taskScheduler = mock(TaskScheduler.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private UserBookMarkBuffer buffer(int flushThreshold, int batchSize) {
+        return new UserBookMarkBuffer(jdbcTemplate, taskScheduler, meterRegistry, flushThreshold, batchSize);
+    }
+
+    @Test
+    void keepsOnlyLatestMarkPerBookUntilFlushed() {
+        UserBookMarkBuffer buffer = buffer(1000, 500);
+        buffer.put(1L, 10L, "cfi-1");
+        buffer.put(1L, 10L, "cfi-2");
+
+        assertThat(buffer.get(1L, 10L)).isEqualTo("cfi-2");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        buffer.flush();
+
+        List<Object[]> args = captureBatches(1).get(0);
+        assertThat(args).containsExactly(new Object[]{"cfi-2", 1L, 10L});
+        assertThat(buffer.get(1L, 10L)).isNull();
+        assertThat(meterRegistry.counter("userbook.mark.writes").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("userbook.mark.flushed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void splitsFlushIntoBatches() {
+        UserBookMarkBuffer buffer = buffer(1000, 2);
+        for (long bookId = 1; bookId <= 5; bookId++) {
+            buffer.put(1L, bookId, "cfi-" + bookId);
+        }
+
+        buffer.flush();
+
+        List<List<Object[]>> batches = captureBatches(3);
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(meterRegistry.get("userbook.mark.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void keepsMarkWrittenWhileFlushing() {
+        UserBookMarkBuffer buffer = buffer(1000, 500);
+        buffer.put(1L, 10L, "old");
+        // UPDATE 도중 같은 책의 새 위치가 들어옴
+        doAnswer(invocation -> {
+            buffer.put(1L, 10L, "new");
+            return new int[]{1};
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        buffer.flush();
+
+        assertThat(buffer.get(1L, 10L)).isEqualTo("new");
+    }
+
+    @Test
+    void retainsMarksWhenFlushFails() {
+        UserBookMarkBuffer buffer = buffer(1000, 500);
+        buffer.put(1L, 10L, "cfi");
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        buffer.flush();
+
+        assertThat(buffer.get(1L, 10L)).isEqualTo("cfi");
+        assertThat(meterRegistry.counter("userbook.mark.flushed").count()).isZero();
+    }
+
+    @Test
+    void hitsThresholdOnceAndFlushesOnSchedulerThread() {
+        UserBookMarkBuffer buffer = buffer(2, 500);
+        buffer.put(1L, 1L, "a");
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.put(1L, 2L, "b");
+        buffer.put(1L, 3L, "c"); // 이미 예약됨
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(flushTask.capture(), any(Instant.class));
+        // 요청 스레드에서는 UPDATE 하지 않음
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        flushTask.getValue().run();
+        assertThat(captureBatches(1).get(0)).hasSize(3);
+
+        // 반영 후 다시 넘으면 새로 예약
+        buffer.put(1L, 4L, "d");
+        buffer.put(1L, 5L, "e");
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void flushesRemainingMarksOnShutdown() {
+        UserBookMarkBuffer buffer = buffer(1000, 500);
+        buffer.put(2L, 20L, "cfi");
+
+        buffer.flushOnShutdown();
+
+        assertThat(captureBatches(1).get(0)).containsExactly(new Object[]{"cfi", 2L, 20L});
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<List<Object[]>> captureBatches(int expectedCalls) {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass((Class) List.class);
+        verify(jdbcTemplate, times(expectedCalls)).batchUpdate(anyString(), args.capture());
+        return args.getAllValues();
+    }
+}
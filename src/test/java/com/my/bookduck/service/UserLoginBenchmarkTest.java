@@ -0,0 +1,139 @@
+package com.my.bookduck.service;
+
+import com.my.bookduck.config.auth.BDUserDetails;
+import com.my.bookduck.config.auth.BDUserDetailsService;
+import com.my.bookduck.domain.user.User;
+import com.my.bookduck.repository.UserRepository;
+import com.my.bookduck.support.BenchmarkProbe;
+import com.my.bookduck.support.SpringBenchmark;
+import com.my.bookduck.support.StatementCounter;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 시 사용자 조회(BDUserDetailsService.loadUserByUsername)가 서재/코멘트 크기에 따라 어떻게 변하는지 잽니다.
+ * 비교용 "eager" 경로는 예전 FetchType.EAGER 매핑처럼 userBooks/carts/comments를 모두 초기화합니다.
+ * 세션에 저장되는 인증 주체의 직렬화 크기도 함께 출력합니다. (크기와 무관하게 일정해야 함)
+ * <pre>
+ * ./gradlew benchmark --tests '*UserLoginBenchmarkTest'
+ * </pre>
+ */
+@SpringBenchmark
+class UserLoginBenchmarkTest {
+
+    private static final long FIRST_BOOK_ID = 9760000000000L;
+    // InitialDataLoader가 만든 사용자와, 사용자별로 채울 서재/코멘트 수
+    private static final String[] LOGIN_IDS = {"test2", "test3", "test4"};
+    private static final int[] LIBRARY_SIZES = {0, 1_000, 5_000};
+    private static final int ROUNDS = 100;
+
+    @Autowired
+    private BDUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @BeforeEach
+    void seedLibraries() {
+        int maxSize = LIBRARY_SIZES[LIBRARY_SIZES.length - 1];
+        Long books = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM book WHERE book_id BETWEEN ? AND ?", Long.class, FIRST_BOOK_ID, FIRST_BOOK_ID + maxSize - 1);
+        if (books == null || books < maxSize) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < maxSize; i++) {
+                rows.add(new Object[]{FIRST_BOOK_ID + i, "서재 도서 " + i, 9_000});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO book (book_id, title, price) VALUES (?, ?, ?)", rows);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int u = 0; u < LOGIN_IDS.length; u++) {
+            Long userId = userRepository.findByLoginId(LOGIN_IDS[u]).getId();
+            Long owned = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_book WHERE user_id = ?", Long.class, userId);
+            if (owned != null && owned >= LIBRARY_SIZES[u]) {
+                continue;
+            }
+            List<Object[]> userBooks = new ArrayList<>();
+            List<Object[]> comments = new ArrayList<>();
+            for (int i = 0; i < LIBRARY_SIZES[u]; i++) {
+                userBooks.add(new Object[]{userId, FIRST_BOOK_ID + i});
+                comments.add(new Object[]{userId, FIRST_BOOK_ID + i, "밑줄 그은 문장 " + i, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO user_book (user_id, book_id, finish) VALUES (?, ?, FALSE)", userBooks);
+            jdbcTemplate.batchUpdate("INSERT INTO book_comment (user_id, book_id, comment, created_at) VALUES (?, ?, ?, ?)", comments);
+        }
+    }
+
+    @Test
+    void loginScalesWithLibrarySize() throws IOException {
+        for (int u = 0; u < LOGIN_IDS.length; u++) {
+            String loginId = LOGIN_IDS[u];
+            String label = "library/comments " + LIBRARY_SIZES[u];
+            // 예열
+            for (int i = 0; i < 5; i++) {
+                loadEagerly(loginId);
+                userDetailsService.loadUserByUsername(loginId);
+            }
+
+            BenchmarkProbe eager = BenchmarkProbe.start("login user load, eager collections (" + label + ")", statementCounter);
+            for (int round = 0; round < ROUNDS; round++) {
+                loadEagerly(loginId);
+            }
+            eager.stop(ROUNDS);
+
+            BenchmarkProbe lazy = BenchmarkProbe.start("login user load, BDUserDetailsService (" + label + ")", statementCounter);
+            UserDetails principal = null;
+            for (int round = 0; round < ROUNDS; round++) {
+                principal = userDetailsService.loadUserByUsername(loginId);
+            }
+            lazy.stop(ROUNDS);
+
+            ((BDUserDetails) principal).eraseCredentials();
+            int sessionBytes = serializedSize(principal);
+            System.out.printf("[benchmark] session principal (%s): %d bytes serialized%n", label, sessionBytes);
+            assertThat(sessionBytes).isLessThan(1024);
+        }
+    }
+
+    // 예전 EAGER 매핑이 로그인마다 하던 일: 사용자 행 + 세 컬렉션 전체 조회
+    private void loadEagerly(String loginId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByLoginId(loginId);
+            Hibernate.initialize(user.getUserBooks());
+            Hibernate.initialize(user.getCarts());
+            Hibernate.initialize(user.getComments());
+        });
+    }
+
+    private static int serializedSize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
+    }
+}
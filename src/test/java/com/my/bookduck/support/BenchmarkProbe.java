@@ -0,0 +1,80 @@
+package com.my.bookduck.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * 벤치마크 한 구간의 경과 시간, 처리량, 실행된 SQL 수, 최대 힙 사용량, 호출 스레드의 할당량을 재서 한 줄로 출력합니다.
+ * 할당량은 start/stop을 호출한 스레드에서 할당한 바이트만 셉니다. (다른 스레드에서 처리되는 작업은 최대 힙으로 확인)
+ * 최대 힙은 시작 시점에 힙 메모리 풀의 peak를 초기화한 뒤 각 풀의 peak를 더한 값이라 GC 시점에 따라 조금씩 달라집니다.
+ */
+public final class BenchmarkProbe {
+
+    private final String name;
+    private final StatementCounter statementCounter; // 없으면 SQL 수를 출력하지 않음
+    private final long startedNanos;
+    private final long allocatedBytesAtStart;
+
+    private BenchmarkProbe(String name, StatementCounter statementCounter) {
+        this.name = name;
+        this.statementCounter = statementCounter;
+        if (statementCounter != null) {
+            statementCounter.reset();
+        }
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        this.allocatedBytesAtStart = threadAllocatedBytes();
+        this.startedNanos = System.nanoTime();
+    }
+
+    public static BenchmarkProbe start(String name) {
+        return new BenchmarkProbe(name, null);
+    }
+
+    public static BenchmarkProbe start(String name, StatementCounter statementCounter) {
+        return new BenchmarkProbe(name, statementCounter);
+    }
+
+    /**
+     * 측정을 끝내고 결과를 출력합니다.
+     *
+     * @param operations 이 구간에서 처리한 단위 수 (행, 요청 등)
+     * @return 경과 시간 (ms)
+     */
+    public double stop(long operations) {
+        double elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000.0;
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+        long allocatedBytes = threadAllocatedBytes() - allocatedBytesAtStart;
+        double perSecond = elapsedMillis > 0 ? operations * 1000.0 / elapsedMillis : 0;
+        StringBuilder line = new StringBuilder(String.format(Locale.ROOT,
+                "[benchmark] %s: %d ops, %.1f ms, %.1f ops/sec, peak heap %.1f MB, allocated %.1f MB",
+                name, operations, elapsedMillis, perSecond, peakHeapBytes / (1024.0 * 1024.0), allocatedBytes / (1024.0 * 1024.0)));
+        if (statementCounter != null) {
+            line.append(String.format(Locale.ROOT, ", %d statements (%d batched rows)",
+                    statementCounter.getExecutions(), statementCounter.getBatchedRows()));
+        }
+        System.out.println(line);
+        return elapsedMillis;
+    }
+
+    // HotSpot 계열 JVM에서만 지원 (지원하지 않으면 0)
+    private static long threadAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()) {
+            return hotspot.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
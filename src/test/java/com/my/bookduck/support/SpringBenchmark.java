@@ -0,0 +1,26 @@
+package com.my.bookduck.support;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션 컨텍스트를 띄우는 벤치마크 공통 설정입니다. (bench + aladin-stub 프로필, StatementCounter 등록)
+ * 대역 서버가 고정 포트(application-bench.yml)를 쓰므로 모든 벤치마크가 이 애노테이션으로 같은 컨텍스트를 공유해야 합니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@ActiveProfiles({"bench", "aladin-stub"})
+@Import(StatementCounter.class)
+public @interface SpringBenchmark {
+}
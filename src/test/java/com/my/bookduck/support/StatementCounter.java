@@ -0,0 +1,40 @@
+package com.my.bookduck.support;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * p6spy로 실행되는 JDBC 문을 셉니다. 빈으로 등록하면 datasource-decorator가 리스너로 붙여 줍니다.
+ * executions는 DB 왕복 횟수(execute/executeQuery/executeUpdate/executeBatch), batchedRows는 addBatch로 묶인 행 수입니다.
+ */
+public class StatementCounter extends SimpleJdbcEventListener {
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong batchedRows = new AtomicLong();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        executions.incrementAndGet();
+    }
+
+    @Override
+    public void onAfterAnyAddBatch(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        batchedRows.incrementAndGet();
+    }
+
+    public void reset() {
+        executions.set(0);
+        batchedRows.set(0);
+    }
+
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    public long getBatchedRows() {
+        return batchedRows.get();
+    }
+}